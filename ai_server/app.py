@@ -1,15 +1,17 @@
-from fastapi import FastAPI
+from fastapi import FastAPI, HTTPException, BackgroundTasks, Request
+from fastapi.responses import FileResponse
 from pydantic import BaseModel
 from typing import List, Optional
 from datetime import date
 from enum import Enum
 from contextlib import asynccontextmanager
 import sys
-import base64
 import os
 from pathlib import Path
 import uvicorn
 import json
+import time
+import uuid
 
 
 project_root = Path(__file__).parent
@@ -18,8 +20,10 @@ project_root = Path(__file__).parent
 
 
 from middleware.anaysis_emotion import (
+    EMOTION_NAMES,
     load_trained_model,
     predict_emotion,
+    predict_emotions,
     initialize_tokenizer_and_vocab
 )
 from middleware.nano_banana import nano_banana
@@ -29,6 +33,41 @@ emotion_model = None
 tokenizer = None
 vocab = None
 max_len = 128
+max_emotion_batch_size = int(os.getenv("MAX_EMOTION_BATCH_SIZE", 64))
+
+# 생성 이미지는 응답 JSON에 싣지 않고 임시 파일로 보관 후 /api/ai/images/{image_id}로 스트리밍
+generated_image_dir = Path(os.getenv("GENERATED_IMAGE_DIR", project_root / "generated_images"))
+generated_image_ttl_seconds = int(os.getenv("GENERATED_IMAGE_TTL_SECONDS", 600))
+
+
+def store_generated_image(image_data: bytes) -> str:
+    """생성 이미지를 임시 파일로 저장하고 이미지 ID 반환"""
+    generated_image_dir.mkdir(parents=True, exist_ok=True)
+    purge_expired_images()
+
+    image_id = uuid.uuid4().hex
+    tmp_path = generated_image_dir / f"{image_id}.tmp"
+    tmp_path.write_bytes(image_data)
+    tmp_path.rename(generated_image_dir / f"{image_id}.jpg")
+    return image_id
+
+
+def purge_expired_images():
+    """백엔드가 가져가지 않은 오래된 이미지 정리"""
+    expire_before = time.time() - generated_image_ttl_seconds
+    for path in generated_image_dir.glob("*.jpg"):
+        try:
+            if path.stat().st_mtime < expire_before:
+                path.unlink()
+        except OSError:
+            pass
+
+
+def remove_file(path: Path):
+    try:
+        path.unlink()
+    except OSError:
+        pass
 
 @asynccontextmanager
 async def lifespan(app: FastAPI):
@@ -93,6 +132,23 @@ class AiServerRequest(BaseModel):
     weather: Optional[Weather] = None  
     persona: Persona
     gender: Sex  
+    emotion: Optional[str] = None  # 백엔드에서 이미 분류한 감정 (있으면 감정 분석 생략)
+    skipImage: bool = False  # 부하 단계에 따라 이미지 생성 생략
+    skipFeedback: bool = False  # 부하 단계에 따라 코멘트/음식 추천 생략
+
+class EmotionRequest(BaseModel):
+    """감정 분류 요청 데이터 모델"""
+    content: str
+
+class EmotionBatchRequest(BaseModel):
+    """감정 분류 배치 요청 데이터 모델"""
+    contents: List[str]
+
+class AiCommentRequest(BaseModel):
+    """코멘트 재생성 요청 데이터 모델 (감정 분류/이미지 생성 없이 기존 감정 사용)"""
+    content: str
+    persona: Persona
+    emotion: str
 
 class EmotionAnalysisResult(BaseModel):
     """감정 분석 결과 데이터 모델"""
@@ -100,6 +156,65 @@ class EmotionAnalysisResult(BaseModel):
     confidence: float
     probabilities: dict
 
+def build_feedback(persona: Persona, emotion: str, content: str):
+    """페르소나 피드백(코멘트)과 음식 추천 생성"""
+    ai_comment = ""
+    recommended_food = {"name": "", "reason": ""}
+    
+    try:
+        persona_str = persona.value.replace("_", " ")
+        
+        feedback_input = json.dumps({
+            "감정": emotion,
+            "일기": content
+        }, ensure_ascii=False)
+        
+        feedback_response = generate_feedback(persona_str, feedback_input)
+        
+        if feedback_response:
+            feedback_text = feedback_response.text.strip()
+            
+            if "```json" in feedback_text:
+                json_start = feedback_text.find("```json") + 7
+                json_end = feedback_text.find("```", json_start)
+                feedback_text = feedback_text[json_start:json_end].strip()
+            elif "```" in feedback_text:
+                json_start = feedback_text.find("```") + 3
+                json_end = feedback_text.find("```", json_start)
+                feedback_text = feedback_text[json_start:json_end].strip()
+            
+            try:
+                feedback_json = json.loads(feedback_text)
+                ai_comment = feedback_json.get("Action_Advice", "")
+                food_recommendation = feedback_json.get("Food_Recommendation", "")
+                
+                if food_recommendation:
+                    if ':' in food_recommendation:
+                        parts = food_recommendation.split(':', 1)  
+                        food_name = parts[0].strip()
+                        reason = parts[1].strip() if len(parts) > 1 else ""
+                        recommended_food = {"name": food_name, "reason": reason}
+                    elif '.' in food_recommendation:
+                        parts = [p.strip() for p in food_recommendation.split('.') if p.strip()]
+                        if len(parts) >= 2:
+                            food_name = parts[0].strip()
+                            reason = '. '.join(parts[1:]).strip()
+                            recommended_food = {"name": food_name, "reason": reason}
+                        else:
+                            recommended_food = {"name": parts[0].strip(), "reason": ""}
+                    else:
+                        recommended_food = {"name": food_recommendation.strip(), "reason": ""}
+                else:
+                    recommended_food = {"name": "", "reason": ""}
+            except json.JSONDecodeError:
+                ai_comment = feedback_text
+    except Exception as fb_e:
+        print(f"피드백 생성 중 오류: {str(fb_e)}")
+        ai_comment = ""
+    
+    return ai_comment, recommended_food
+
+
 @app.get("/")
 def read_root():
     """서버 상태 확인용 루트 엔드포인트"""
@@ -107,12 +222,14 @@ def read_root():
 
 
 @app.post("/api/ai/diary")
-async def ai_analyze(request: AiServerRequest):
+async def ai_analyze(request: AiServerRequest, http_request: Request):
     """일기 내용 분석: 감정 추출, 피드백 생성, 음식 추천, 이미지 생성 수행"""
     global emotion_model, tokenizer, vocab
     
     try:
-        if emotion_model is None or tokenizer is None or vocab is None:
+        precomputed = request.emotion in EMOTION_NAMES
+
+        if not precomputed and (emotion_model is None or tokenizer is None or vocab is None):
             return {
                 "error": "감정 분석 모델이 로드되지 않았습니다",
                 "detail": "서버 시작 시 모델 로드에 실패했습니다"
@@ -126,78 +243,36 @@ async def ai_analyze(request: AiServerRequest):
                 "detail": "content가 필요합니다"
             }
         
-        emotion, confidence, probabilities = predict_emotion(
-            emotion_model, content, tokenizer, vocab, max_len
-        )
+        if precomputed:
+            emotion = request.emotion
+        else:
+            emotion, confidence, probabilities = predict_emotion(
+                emotion_model, content, tokenizer, vocab, max_len
+            )
         
-        ai_comment = ""
-        recommended_food = {"name": "", "reason": ""}
+        ai_comment, recommended_food = "", None
+        if not request.skipFeedback:
+            ai_comment, recommended_food = build_feedback(request.persona, emotion, content)
         
-        try:
-            persona_str = request.persona.value.replace("_", " ")
-            
-            feedback_input = json.dumps({
-                "감정": emotion,
-                "일기": content
-            }, ensure_ascii=False)
-            
-            feedback_response = generate_feedback(persona_str, feedback_input)
-            
-            if feedback_response:
-                feedback_text = feedback_response.text.strip()
-                
-                if "```json" in feedback_text:
-                    json_start = feedback_text.find("```json") + 7
-                    json_end = feedback_text.find("```", json_start)
-                    feedback_text = feedback_text[json_start:json_end].strip()
-                elif "```" in feedback_text:
-                    json_start = feedback_text.find("```") + 3
-                    json_end = feedback_text.find("```", json_start)
-                    feedback_text = feedback_text[json_start:json_end].strip()
-                
-                try:
-                    feedback_json = json.loads(feedback_text)
-                    ai_comment = feedback_json.get("Action_Advice", "")
-                    food_recommendation = feedback_json.get("Food_Recommendation", "")
-                    
-                    if food_recommendation:
-                        if ':' in food_recommendation:
-                            parts = food_recommendation.split(':', 1)  
-                            food_name = parts[0].strip()
-                            reason = parts[1].strip() if len(parts) > 1 else ""
-                            recommended_food = {"name": food_name, "reason": reason}
-                        elif '.' in food_recommendation:
-                            parts = [p.strip() for p in food_recommendation.split('.') if p.strip()]
-                            if len(parts) >= 2:
-                                food_name = parts[0].strip()
-                                reason = '. '.join(parts[1:]).strip()
-                                recommended_food = {"name": food_name, "reason": reason}
-                            else:
-                                recommended_food = {"name": parts[0].strip(), "reason": ""}
-                        else:
-                            recommended_food = {"name": food_recommendation.strip(), "reason": ""}
-                    else:
-                        recommended_food = {"name": "", "reason": ""}
-                except json.JSONDecodeError:
-                    ai_comment = feedback_text
-        except Exception as fb_e:
-            print(f"피드백 생성 중 오류: {str(fb_e)}")
-            ai_comment = ""
+        image_id = None
         
-        generated_image_base64 = None
+        # 백엔드가 요청을 취소했으면(더 최근 수정 요청 등) 가장 비싼 이미지 생성은 건너뜀
+        if await http_request.is_disconnected():
+            return {"error": "요청이 취소되었습니다", "detail": "client disconnected"}
         
-        try:
-            image_data = nano_banana(content, request.gender, request.weather)
-            if image_data:
-                generated_image_base64 = base64.b64encode(image_data).decode('utf-8')
-        except Exception as img_e:
-            print(f"이미지 생성 중 오류: {str(img_e)}")
+        if not request.skipImage:
+            try:
+                image_data = nano_banana(content, request.gender, request.weather)
+                if image_data:
+                    image_id = store_generated_image(image_data)
+            except Exception as img_e:
+                print(f"이미지 생성 중 오류: {str(img_e)}")
         
         response_data = {
             "emotion": emotion,
             "aiComment": ai_comment,
             "recommendedFood": recommended_food,
-            "image": generated_image_base64 if generated_image_base64 else None
+            "imageId": image_id
         }
         
         return response_data
@@ -208,6 +283,80 @@ async def ai_analyze(request: AiServerRequest):
             "detail": str(e)
         }
 
+@app.post("/api/ai/emotion")
+async def ai_emotion(request: EmotionRequest):
+    """감정 분류만 수행 (피드백, 이미지 생성 생략)"""
+    if emotion_model is None or tokenizer is None or vocab is None:
+        raise HTTPException(status_code=503, detail="감정 분석 모델이 로드되지 않았습니다")
+
+    content = request.content.strip()
+    if not content:
+        raise HTTPException(status_code=400, detail="content가 필요합니다")
+
+    emotion, confidence, _ = predict_emotion(emotion_model, content, tokenizer, vocab, max_len)
+    return {"emotion": emotion, "confidence": confidence}
+
+@app.post("/api/ai/emotion/batch")
+async def ai_emotion_batch(request: EmotionBatchRequest):
+    """여러 일기의 감정을 한 번의 모델 추론으로 분류 (백엔드 마이크로 배칭용)"""
+    if emotion_model is None or tokenizer is None or vocab is None:
+        raise HTTPException(status_code=503, detail="감정 분석 모델이 로드되지 않았습니다")
+
+    if not request.contents:
+        return {"results": []}
+
+    if len(request.contents) > max_emotion_batch_size:
+        raise HTTPException(status_code=400, detail=f"배치 크기는 {max_emotion_batch_size}개 이하여야 합니다")
+
+    contents = [content.strip() for content in request.contents]
+    predictions = predict_emotions(emotion_model, contents, tokenizer, vocab, max_len)
+    return {
+        "results": [
+            {"emotion": emotion, "confidence": confidence}
+            for emotion, confidence in predictions
+        ]
+    }
+
+@app.post("/api/ai/comment")
+async def ai_comment(request: AiCommentRequest):
+    """페르소나 코멘트와 음식 추천만 재생성 (감정 분석, 이미지 생성 생략)"""
+    content = request.content.strip()
+
+    if not content:
+        return {
+            "error": "분석할 내용이 없습니다",
+            "detail": "content가 필요합니다"
+        }
+
+    try:
+        ai_comment, recommended_food = build_feedback(request.persona, request.emotion, content)
+        return {
+            "emotion": request.emotion,
+            "aiComment": ai_comment,
+            "recommendedFood": recommended_food,
+            "imageId": None
+        }
+    except Exception as e:
+        return {
+            "error": "처리 중 오류 발생",
+            "detail": str(e)
+        }
+
+@app.get("/api/ai/images/{image_id}")
+def get_generated_image(image_id: str, background_tasks: BackgroundTasks):
+    """생성 이미지 바이너리 스트리밍 (한 번 전송 후 삭제)"""
+    try:
+        uuid.UUID(hex=image_id)
+    except ValueError:
+        raise HTTPException(status_code=400, detail="잘못된 이미지 ID입니다")
+
+    path = generated_image_dir / f"{image_id}.jpg"
+    if not path.exists():
+        raise HTTPException(status_code=404, detail="이미지를 찾을 수 없습니다")
+
+    background_tasks.add_task(remove_file, path)
+    return FileResponse(path, media_type="image/jpeg")
+
 if __name__ == "__main__":
     port = int(os.getenv("PORT", 8000))
     host = os.getenv("HOST", "0.0.0.0")
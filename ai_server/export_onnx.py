@@ -0,0 +1,131 @@
+"""
+감정 분석 모델(best_model.pt) ONNX 내보내기
+
+백엔드의 OnnxEmotionClassifier(ai.emotion.classifier=onnx)가 사용하는 파일을 생성한다.
+  - emotion.onnx      : input_ids, attention_mask, token_type_ids -> logits (배치/길이 가변)
+  - tokenizer.model   : KoBERT SentencePiece 모델
+  - vocab.json        : 토큰 -> ID 사전 (KoBERTTokenizer 와 동일한 ID 매핑)
+
+사용법:
+    pip install onnx onnxruntime
+    python export_onnx.py --model best_model.pt --out onnx_model
+"""
+import argparse
+import json
+import shutil
+from pathlib import Path
+
+import numpy as np
+import torch
+from torch import nn
+
+from middleware.anaysis_emotion import (
+    EMOTION_NAMES,
+    BERTSentenceTransform,
+    initialize_tokenizer_and_vocab,
+    load_trained_model,
+)
+
+
+class OnnxEmotionModel(nn.Module):
+    """attention_mask 를 직접 입력받는 추론 전용 래퍼 (valid_length 루프 제거)"""
+    def __init__(self, classifier):
+        super().__init__()
+        self.classifier = classifier
+
+    def forward(self, input_ids, attention_mask, token_type_ids):
+        _, pooler = self.classifier.bert(
+            input_ids=input_ids,
+            token_type_ids=token_type_ids,
+            attention_mask=attention_mask,
+        )
+        return self.classifier.classifier(self.classifier.layer_norm(pooler))
+
+
+def encode(sentences, tokenizer, vocab, max_len):
+    """파이썬 서버와 동일한 전처리로 배치 입력 생성"""
+    transform = BERTSentenceTransform(tokenizer, max_seq_length=max_len, vocab=vocab, pad=True, pair=False)
+    input_ids, attention_mask, token_type_ids = [], [], []
+    for sentence in sentences:
+        ids, valid_length, segments = transform([sentence])
+        mask = np.zeros(max_len, dtype=np.int64)
+        mask[:int(valid_length)] = 1
+        input_ids.append(ids.astype(np.int64))
+        attention_mask.append(mask)
+        token_type_ids.append(segments.astype(np.int64))
+    return np.stack(input_ids), np.stack(attention_mask), np.stack(token_type_ids)
+
+
+def verify(onnx_path, model, samples, tokenizer, vocab, max_len):
+    """PyTorch 와 ONNX Runtime 의 예측 결과 비교"""
+    try:
+        import onnxruntime as ort
+    except ImportError:
+        print("onnxruntime 이 설치되지 않아 검증을 건너뜁니다")
+        return
+
+    input_ids, attention_mask, token_type_ids = encode(samples, tokenizer, vocab, max_len)
+    with torch.no_grad():
+        expected = model(
+            torch.from_numpy(input_ids),
+            torch.from_numpy(attention_mask),
+            torch.from_numpy(token_type_ids),
+        ).numpy()
+
+    session = ort.InferenceSession(str(onnx_path), providers=["CPUExecutionProvider"])
+    actual = session.run(None, {
+        "input_ids": input_ids,
+        "attention_mask": attention_mask,
+        "token_type_ids": token_type_ids,
+    })[0]
+
+    print(f"최대 logit 오차: {np.abs(expected - actual).max():.6f}")
+    for sentence, row in zip(samples, actual):
+        print(f"  {EMOTION_NAMES[int(row.argmax())]} <- {sentence}")
+
+
+def main():
+    parser = argparse.ArgumentParser(description="감정 분석 모델 ONNX 내보내기")
+    parser.add_argument("--model", default="best_model.pt")
+    parser.add_argument("--out", default="onnx_model")
+    parser.add_argument("--max-len", type=int, default=128)
+    parser.add_argument("--opset", type=int, default=17)
+    args = parser.parse_args()
+
+    out_dir = Path(args.out)
+    out_dir.mkdir(parents=True, exist_ok=True)
+
+    tokenizer, vocab = initialize_tokenizer_and_vocab()
+    classifier = load_trained_model(args.model).to("cpu").eval()
+    model = OnnxEmotionModel(classifier).eval()
+
+    samples = ["오늘은 정말 행복한 하루였다", "시험을 망쳐서 너무 속상하다"]
+    input_ids, attention_mask, token_type_ids = encode(samples, tokenizer, vocab, args.max_len)
+
+    onnx_path = out_dir / "emotion.onnx"
+    torch.onnx.export(
+        model,
+        (torch.from_numpy(input_ids), torch.from_numpy(attention_mask), torch.from_numpy(token_type_ids)),
+        str(onnx_path),
+        input_names=["input_ids", "attention_mask", "token_type_ids"],
+        output_names=["logits"],
+        dynamic_axes={
+            "input_ids": {0: "batch", 1: "sequence"},
+            "attention_mask": {0: "batch", 1: "sequence"},
+            "token_type_ids": {0: "batch", 1: "sequence"},
+            "logits": {0: "batch"},
+        },
+        opset_version=args.opset,
+    )
+    print(f"ONNX 모델 저장: {onnx_path}")
+
+    shutil.copyfile(tokenizer.vocab_file, out_dir / "tokenizer.model")
+    with open(out_dir / "vocab.json", "w", encoding="utf-8") as f:
+        json.dump(tokenizer.get_vocab(), f, ensure_ascii=False)
+    print(f"토크나이저 저장: {out_dir / 'tokenizer.model'}, {out_dir / 'vocab.json'}")
+
+    verify(onnx_path, model, samples, tokenizer, vocab, args.max_len)
+
+
+if __name__ == "__main__":
+    main()
@@ -10,6 +10,9 @@ warnings.filterwarnings("ignore", message=".*tokenizer class.*")
 
 device = torch.device("cuda:0" if torch.cuda.is_available() else "cpu")
 
+# 모델 출력 인덱스 순서의 감정 라벨 (백엔드 ONNX 분류기와 동일한 순서 유지)
+EMOTION_NAMES = ['분노', '슬픔', '불안', '행복', '혐오', '당황', '중립']
+
 class BERTSentenceTransform:
     """BERT 입력 형식으로 데이터 변환을 수행하는 클래스"""
     def __init__(self, tokenizer, max_seq_length, vocab, pad=True, pair=True):
@@ -169,7 +172,7 @@ def load_trained_model(model_path='best_model.pt'):
 
 def predict_emotion(model, sentence, tokenizer, vocab, max_len=128):
     """입력된 문장의 감정을 예측하고 확률을 반환"""
-    emotion_names = ['분노', '슬픔', '불안', '행복', '혐오', '당황', '중립']
+    emotion_names = EMOTION_NAMES
     
     transform = BERTSentenceTransform(tokenizer, max_seq_length=max_len, vocab=vocab, pad=True, pair=False)
     token_ids, valid_length, segment_ids = transform([sentence])
@@ -203,6 +206,27 @@ def predict_emotion(model, sentence, tokenizer, vocab, max_len=128):
     return emotion, confidence, probabilities.cpu().numpy()
 
 
+def predict_emotions(model, sentences, tokenizer, vocab, max_len=128):
+    """여러 문장의 감정을 한 번의 추론(배치)으로 예측"""
+    transform = BERTSentenceTransform(tokenizer, max_seq_length=max_len, vocab=vocab, pad=True, pair=False)
+    encoded = [transform([sentence]) for sentence in sentences]
+
+    token_ids = torch.LongTensor(np.stack([item[0] for item in encoded])).to(device)
+    valid_length = torch.LongTensor([int(item[1]) for item in encoded]).to(device)
+    segment_ids = torch.LongTensor(np.stack([item[2] for item in encoded])).to(device)
+
+    model.eval()
+    with torch.no_grad():
+        output = model(token_ids, valid_length, segment_ids)
+        probabilities = torch.softmax(output, dim=1)
+        preds = output.argmax(dim=1).tolist()
+
+    return [
+        (EMOTION_NAMES[pred], probabilities[i][pred].item() * 100)
+        for i, pred in enumerate(preds)
+    ]
+
+
 def initialize_tokenizer_and_vocab():
     """KoBERT 토크나이저 및 단어 사전 초기화"""
     tokenizer = KoBERTTokenizer.from_pretrained('skt/kobert-base-v1')
@@ -0,0 +1,185 @@
+package com.p_project.p_project_backend;
+
+import com.p_project.p_project_backend.entity.Diary.Emotion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 월별 캘린더 조회 비용 측정 (./gradlew jmh -Pjmh.includes=DiaryCalendarQueryBenchmark)
+ * 이전 방식(Diary 엔티티 전체 컬럼 조회)과 프로젝션 조회(id, date, emotion)의 지연 시간 및 전송 바이트 비교
+ * 스키마가 생성된 MariaDB 가 필요하며 접속 정보는 -Dbench.db.url / bench.db.username / bench.db.password 로 지정
+ * 측정용 사용자와 한 달치 일기(본문/AI 코멘트/추천 음식 포함)를 만들고 종료 시 삭제
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DiaryCalendarQueryBenchmark {
+
+    private static final String EMAIL = "calendar-bench@example.com";
+    private static final LocalDate MONTH_START = LocalDate.of(2000, 1, 1);
+
+    // Hibernate 가 Diary 엔티티 조회 시 읽는 것과 같은 전체 컬럼 조회
+    private static final String ENTITY_SQL = """
+            SELECT * FROM diaries
+            WHERE user_id = ? AND date BETWEEN ? AND ? AND deleted_at IS NULL
+            """;
+
+    // DiaryRepository.findCalendarViews 와 같은 조회 (idx_diaries_calendar 만 읽음)
+    private static final String PROJECTION_SQL = """
+            SELECT id, date, emotion FROM diaries
+            WHERE user_id = ? AND date BETWEEN ? AND ? AND deleted_at IS NULL
+            ORDER BY date
+            """;
+
+    private Connection connection;
+    private PreparedStatement entityQuery;
+    private PreparedStatement projectionQuery;
+    private long userId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("bench.db.url", "jdbc:mariadb://localhost:3306/emoji_diary"),
+                System.getProperty("bench.db.username", "root"),
+                System.getProperty("bench.db.password", ""));
+        cleanUp();
+        userId = insertUser();
+        insertMonth();
+
+        entityQuery = prepare(ENTITY_SQL);
+        projectionQuery = prepare(PROJECTION_SQL);
+
+        System.out.printf("%nbytes per call: entity=%d, projection=%d%n", bytesRead(entityQuery),
+                bytesRead(projectionQuery));
+        System.out.printf("projection plan: %s%n", explain(PROJECTION_SQL));
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        cleanUp();
+        connection.close();
+    }
+
+    @Benchmark
+    public long entityColumns() throws SQLException {
+        return bytesRead(entityQuery);
+    }
+
+    @Benchmark
+    public long projectionColumns() throws SQLException {
+        return bytesRead(projectionQuery);
+    }
+
+    // --- Helper Methods ---
+
+    private PreparedStatement prepare(String sql) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        statement.setLong(1, userId);
+        statement.setDate(2, Date.valueOf(MONTH_START));
+        statement.setDate(3, Date.valueOf(MONTH_START.withDayOfMonth(MONTH_START.lengthOfMonth())));
+        return statement;
+    }
+
+    /**
+     * 결과 전체를 읽고 전송된 컬럼 바이트 합계 반환
+     */
+    private long bytesRead(PreparedStatement statement) throws SQLException {
+        long bytes = 0;
+        try (ResultSet rs = statement.executeQuery()) {
+            int columns = rs.getMetaData().getColumnCount();
+            while (rs.next()) {
+                for (int i = 1; i <= columns; i++) {
+                    byte[] value = rs.getBytes(i);
+                    bytes += value != null ? value.length : 0;
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private String explain(String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            statement.setLong(1, userId);
+            statement.setDate(2, Date.valueOf(MONTH_START));
+            statement.setDate(3, Date.valueOf(MONTH_START.withDayOfMonth(MONTH_START.lengthOfMonth())));
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? "key=" + rs.getString("key") + ", extra=" + rs.getString("Extra") : "";
+            }
+        }
+    }
+
+    private long insertUser() throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO users (email, name, password_hash, gender, created_at, updated_at) "
+                        + "VALUES (?, 'bench', 'bench', 'MALE', ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            statement.setString(1, EMAIL);
+            statement.setTimestamp(2, now);
+            statement.setTimestamp(3, now);
+            statement.executeUpdate();
+            try (ResultSet keys = statement.getGeneratedKeys()) {
+                keys.next();
+                return keys.getLong(1);
+            }
+        }
+    }
+
+    /**
+     * 실제 일기와 비슷한 크기의 본문(4KB), AI 코멘트(1KB), 추천 음식 JSON 으로 한 달치 작성
+     */
+    private void insertMonth() throws SQLException {
+        String content = "오늘 있었던 일을 적어 본다. ".repeat(200);
+        String aiComment = "오늘 하루도 수고 많았어요. ".repeat(60);
+        String recommendedFood = "{\"name\":\"김치찌개\",\"reason\":\"" + "따뜻한 음식이 위로가 될 거예요. ".repeat(10) + "\"}";
+        Emotion[] emotions = Emotion.values();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO diaries (user_id, date, title, content, emotion, ai_comment, recommended_food, "
+                        + "version, edit_sequence, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, 0, 0, ?, ?)")) {
+            for (int day = 1; day <= MONTH_START.lengthOfMonth(); day++) {
+                statement.setLong(1, userId);
+                statement.setDate(2, Date.valueOf(MONTH_START.withDayOfMonth(day)));
+                statement.setString(3, "bench " + day);
+                statement.setString(4, content);
+                statement.setString(5, emotions[day % emotions.length].name());
+                statement.setString(6, aiComment);
+                statement.setString(7, recommendedFood);
+                statement.setTimestamp(8, now);
+                statement.setTimestamp(9, now);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void cleanUp() throws SQLException {
+        try (PreparedStatement diaries = connection.prepareStatement(
+                "DELETE d FROM diaries d JOIN users u ON u.id = d.user_id WHERE u.email = ?");
+                PreparedStatement users = connection.prepareStatement("DELETE FROM users WHERE email = ?")) {
+            diaries.setString(1, EMAIL);
+            diaries.executeUpdate();
+            users.setString(1, EMAIL);
+            users.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.p_project.p_project_backend;
+
+import com.p_project.p_project_backend.entity.User;
+import com.p_project.p_project_backend.security.AdminDetailsService;
+import com.p_project.p_project_backend.security.CustomUserDetailsService;
+import com.p_project.p_project_backend.security.JwtAuthenticationFilter;
+import com.p_project.p_project_backend.security.JwtClaims;
+import com.p_project.p_project_backend.security.JwtTokenProvider;
+import com.p_project.p_project_backend.security.UserPrincipal;
+import com.p_project.p_project_backend.security.UserPrincipalCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터 요청당 비용 측정 (./gradlew jmh)
+ * 캐시된 사용자의 인증 요청(DB 조회 없음), 정적 리소스 요청, 이전 방식(검증 + 이메일 추출 2회 파싱)과 단일 파싱 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String EMAIL = "bench@example.com";
+
+    private JwtTokenProvider tokenProvider;
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        String secret = Base64.getEncoder().encodeToString("benchmark-secret-key-0123456789-abcdef".getBytes());
+        tokenProvider = new JwtTokenProvider(secret, 3600000, 86400000);
+        token = tokenProvider.createAccessToken(EMAIL, JwtClaims.Role.USER);
+
+        // 캐시가 채워진 상태를 측정하므로 레포지토리는 사용되지 않음
+        UserPrincipalCache cache = new UserPrincipalCache(new SimpleMeterRegistry(), 60000, 100);
+        cache.get(EMAIL, email -> UserPrincipal.from(User.builder().id(1L).email(email).name("bench").build()));
+        filter = new JwtAuthenticationFilter(tokenProvider,
+                new CustomUserDetailsService(null, cache),
+                new AdminDetailsService(null),
+                null,
+                cache);
+    }
+
+    @Benchmark
+    public Object authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/diaries/calendar");
+        request.setServletPath("/api/diaries/calendar");
+        request.addHeader("Authorization", "Bearer " + token);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public Object staticResourceRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/ai_generates/sample.png");
+        request.setServletPath("/images/ai_generates/sample.png");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return request;
+    }
+
+    @Benchmark
+    public Object parseOnce() {
+        return tokenProvider.parseToken(token);
+    }
+
+    @Benchmark
+    public Object validateThenExtractEmail() {
+        return tokenProvider.validateToken(token) ? tokenProvider.getEmailFromToken(token) : null;
+    }
+}
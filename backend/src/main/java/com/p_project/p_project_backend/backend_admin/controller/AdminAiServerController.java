@@ -0,0 +1,78 @@
+package com.p_project.p_project_backend.backend_admin.controller;
+
+import com.p_project.p_project_backend.backend_admin.dto.aiserver.AiServerInstanceRequest;
+import com.p_project.p_project_backend.backend_admin.service.AdminAiServerService;
+import com.p_project.p_project_backend.backend_user.service.ai.AiServerPool.AiServerStatus;
+import com.p_project.p_project_backend.entity.Admin;
+import com.p_project.p_project_backend.repository.AdminRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/ai-servers")
+@RequiredArgsConstructor
+public class AdminAiServerController {
+
+    private static final String ERROR_MESSAGE_AUTHENTICATION_REQUIRED = "인증 정보가 없습니다.";
+    private static final String ERROR_MESSAGE_ADMIN_NOT_FOUND = "관리자 정보를 찾을 수 없습니다.";
+
+    private final AdminAiServerService adminAiServerService;
+    private final AdminRepository adminRepository;
+
+    /**
+     * AI 서버 인스턴스 상태 목록 조회 (헬스 체크, 제외 여부, 처리 중 요청 수)
+     */
+    @GetMapping
+    public ResponseEntity<?> getAiServers(Authentication authentication) {
+        getAdminIdFromAuthentication(authentication);
+        List<AiServerStatus> response = adminAiServerService.getAiServers();
+        return ResponseEntity.ok(Map.of("success", true, "data", response));
+    }
+
+    /**
+     * AI 서버 인스턴스 추가
+     */
+    @PostMapping
+    public ResponseEntity<?> addAiServer(
+            @RequestBody @Valid AiServerInstanceRequest request,
+            Authentication authentication) {
+        Long adminId = getAdminIdFromAuthentication(authentication);
+        List<AiServerStatus> response = adminAiServerService.addAiServer(request.getUrl(), adminId);
+        return ResponseEntity.ok(Map.of("success", true, "data", response));
+    }
+
+    /**
+     * AI 서버 인스턴스 제거
+     */
+    @DeleteMapping
+    public ResponseEntity<?> removeAiServer(
+            @RequestBody @Valid AiServerInstanceRequest request,
+            Authentication authentication) {
+        Long adminId = getAdminIdFromAuthentication(authentication);
+        List<AiServerStatus> response = adminAiServerService.removeAiServer(request.getUrl(), adminId);
+        return ResponseEntity.ok(Map.of("success", true, "data", response));
+    }
+
+    /**
+     * 인증 정보에서 관리자 식별자(ID) 추출
+     */
+    private Long getAdminIdFromAuthentication(Authentication authentication) {
+        if (authentication == null || authentication.getPrincipal() == null) {
+            throw new RuntimeException(ERROR_MESSAGE_AUTHENTICATION_REQUIRED);
+        }
+
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        String email = userDetails.getUsername();
+
+        return adminRepository.findByEmail(email)
+                .map(Admin::getId)
+                .orElseThrow(() -> new RuntimeException(ERROR_MESSAGE_ADMIN_NOT_FOUND));
+    }
+}
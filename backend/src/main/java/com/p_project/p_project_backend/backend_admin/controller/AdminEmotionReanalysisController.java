@@ -0,0 +1,71 @@
+package com.p_project.p_project_backend.backend_admin.controller;
+
+import com.p_project.p_project_backend.backend_admin.dto.reanalysis.EmotionReanalysisStatusResponse;
+import com.p_project.p_project_backend.backend_admin.service.AdminEmotionReanalysisService;
+import com.p_project.p_project_backend.entity.Admin;
+import com.p_project.p_project_backend.repository.AdminRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/emotion-reanalysis")
+@RequiredArgsConstructor
+public class AdminEmotionReanalysisController {
+
+    private static final String ERROR_MESSAGE_AUTHENTICATION_REQUIRED = "인증 정보가 없습니다.";
+    private static final String ERROR_MESSAGE_ADMIN_NOT_FOUND = "관리자 정보를 찾을 수 없습니다.";
+
+    private final AdminEmotionReanalysisService adminEmotionReanalysisService;
+    private final AdminRepository adminRepository;
+
+    /**
+     * 감정 재분류 진행 상황 조회 (현재 모델 버전 기준)
+     */
+    @GetMapping
+    public ResponseEntity<?> getStatus(Authentication authentication) {
+        getAdminIdFromAuthentication(authentication);
+        EmotionReanalysisStatusResponse response = adminEmotionReanalysisService.getStatus();
+        return ResponseEntity.ok(Map.of("success", true, "data", response));
+    }
+
+    /**
+     * 감정 재분류 시작 (중지된 작업은 체크포인트부터 재개)
+     */
+    @PostMapping("/start")
+    public ResponseEntity<?> start(Authentication authentication) {
+        Long adminId = getAdminIdFromAuthentication(authentication);
+        EmotionReanalysisStatusResponse response = adminEmotionReanalysisService.start(adminId);
+        return ResponseEntity.ok(Map.of("success", true, "data", response));
+    }
+
+    /**
+     * 감정 재분류 일시 중지
+     */
+    @PostMapping("/pause")
+    public ResponseEntity<?> pause(Authentication authentication) {
+        Long adminId = getAdminIdFromAuthentication(authentication);
+        EmotionReanalysisStatusResponse response = adminEmotionReanalysisService.pause(adminId);
+        return ResponseEntity.ok(Map.of("success", true, "data", response));
+    }
+
+    /**
+     * 인증 정보에서 관리자 식별자(ID) 추출
+     */
+    private Long getAdminIdFromAuthentication(Authentication authentication) {
+        if (authentication == null || authentication.getPrincipal() == null) {
+            throw new RuntimeException(ERROR_MESSAGE_AUTHENTICATION_REQUIRED);
+        }
+
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        String email = userDetails.getUsername();
+
+        return adminRepository.findByEmail(email)
+                .map(Admin::getId)
+                .orElseThrow(() -> new RuntimeException(ERROR_MESSAGE_ADMIN_NOT_FOUND));
+    }
+}
@@ -0,0 +1,24 @@
+package com.p_project.p_project_backend.backend_admin.dto.aiserver;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * AI 서버 인스턴스 추가/제거 요청 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AiServerInstanceRequest {
+
+    @NotBlank(message = "AI 서버 주소는 필수입니다")
+    @Pattern(regexp = "^https?://.+", message = "AI 서버 주소는 http:// 또는 https:// 로 시작해야 합니다")
+    private String url;
+}
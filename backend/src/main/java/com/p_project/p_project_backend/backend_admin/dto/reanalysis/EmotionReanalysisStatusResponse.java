@@ -0,0 +1,54 @@
+package com.p_project.p_project_backend.backend_admin.dto.reanalysis;
+
+import com.p_project.p_project_backend.entity.EmotionReanalysisRun;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감정 재분류 진행 상황 응답 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmotionReanalysisStatusResponse {
+        private String modelVersion;
+        private String status; // NOT_STARTED, RUNNING, PAUSED, COMPLETED
+        private Long lastDiaryId;
+        private Long processedCount;
+        private Long changedCount;
+        private String lastError;
+        private LocalDateTime startedAt;
+        private LocalDateTime updatedAt;
+        private LocalDateTime completedAt;
+
+        public static EmotionReanalysisStatusResponse from(EmotionReanalysisRun run) {
+                return EmotionReanalysisStatusResponse.builder()
+                                .modelVersion(run.getModelVersion())
+                                .status(run.getStatus().name())
+                                .lastDiaryId(run.getLastDiaryId())
+                                .processedCount(run.getProcessedCount())
+                                .changedCount(run.getChangedCount())
+                                .lastError(run.getLastError())
+                                .startedAt(run.getStartedAt())
+                                .updatedAt(run.getUpdatedAt())
+                                .completedAt(run.getCompletedAt())
+                                .build();
+        }
+
+        public static EmotionReanalysisStatusResponse notStarted(String modelVersion) {
+                return EmotionReanalysisStatusResponse.builder()
+                                .modelVersion(modelVersion)
+                                .status("NOT_STARTED")
+                                .lastDiaryId(0L)
+                                .processedCount(0L)
+                                .changedCount(0L)
+                                .build();
+        }
+}
@@ -0,0 +1,49 @@
+package com.p_project.p_project_backend.backend_admin.service;
+
+import com.p_project.p_project_backend.backend_user.service.ai.AiServerPool;
+import com.p_project.p_project_backend.backend_user.service.ai.AiServerPool.AiServerStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdminAiServerService {
+
+    private static final String ERROR_MESSAGE_ALREADY_REGISTERED = "이미 등록된 AI 서버입니다.";
+    private static final String ERROR_MESSAGE_NOT_REGISTERED = "등록되지 않은 AI 서버입니다.";
+
+    private final AiServerPool aiServerPool;
+
+    /**
+     * AI 서버 인스턴스 상태 목록 조회
+     */
+    public List<AiServerStatus> getAiServers() {
+        return aiServerPool.getStatuses();
+    }
+
+    /**
+     * AI 서버 인스턴스 추가 (재시작 없이 즉시 라우팅 대상에 포함)
+     */
+    public List<AiServerStatus> addAiServer(String url, Long adminId) {
+        if (!aiServerPool.addInstance(url)) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_ALREADY_REGISTERED);
+        }
+        log.info("AI server added by admin {}: {}", adminId, url);
+        return aiServerPool.getStatuses();
+    }
+
+    /**
+     * AI 서버 인스턴스 제거 (처리 중인 요청은 완료 후 정리)
+     */
+    public List<AiServerStatus> removeAiServer(String url, Long adminId) {
+        if (!aiServerPool.removeInstance(url)) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_NOT_REGISTERED);
+        }
+        log.info("AI server removed by admin {}: {}", adminId, url);
+        return aiServerPool.getStatuses();
+    }
+}
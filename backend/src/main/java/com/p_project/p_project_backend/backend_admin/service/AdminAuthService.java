@@ -8,9 +8,11 @@ import com.p_project.p_project_backend.entity.AdminRefreshToken;
 import com.p_project.p_project_backend.entity.ErrorLog;
 import com.p_project.p_project_backend.exception.AdminNotFoundException;
 import com.p_project.p_project_backend.exception.InvalidCredentialsException;
+import com.p_project.p_project_backend.exception.PasswordHashingBusyException;
 import com.p_project.p_project_backend.repository.AdminRefreshTokenRepository;
 import com.p_project.p_project_backend.repository.AdminRepository;
 import com.p_project.p_project_backend.repository.ErrorLogRepository;
+import com.p_project.p_project_backend.security.JwtClaims;
 import com.p_project.p_project_backend.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -55,15 +57,25 @@ public class AdminAuthService {
                 throw new InvalidCredentialsException("아이디 또는 비밀번호가 일치하지 않습니다.");
             }
 
+            // 저장된 해시의 cost 가 현재 설정보다 낮으면 새 cost 로 다시 저장 (해시 작업이 밀려 있으면 다음 로그인으로 미룸)
+            if (passwordEncoder.upgradeEncoding(admin.getPasswordHash())) {
+                try {
+                    admin.setPasswordHash(passwordEncoder.encode(password));
+                    admin.setUpdatedAt(LocalDateTime.now());
+                } catch (PasswordHashingBusyException e) {
+                    log.debug("Skipped admin password rehash: adminId={}", admin.getId());
+                }
+            }
+
             // 토큰 생성 및 발급
-            String accessToken = tokenProvider.createAccessToken(email);
-            String refreshToken = tokenProvider.createRefreshToken(email);
+            String accessToken = tokenProvider.createAccessToken(email, JwtClaims.Role.ADMIN);
+            String refreshToken = tokenProvider.createRefreshToken(email, JwtClaims.Role.ADMIN);
 
             // 리프레시 토큰 저장
             long refreshTokenValidityDays = refreshTokenValidityInMilliseconds / (1000 * 60 * 60 * 24);
             AdminRefreshToken adminRefreshToken = AdminRefreshToken.builder()
                     .admin(admin)
-                    .token(refreshToken)
+                    .tokenHash(JwtTokenProvider.hashToken(refreshToken))
                     .expiresAt(LocalDateTime.now().plusDays(refreshTokenValidityDays))
                     .createdAt(LocalDateTime.now())
                     .build();
@@ -80,7 +92,7 @@ public class AdminAuthService {
                     .admin(AdminInfo.from(admin))
                     .build();
 
-        } catch (InvalidCredentialsException e) {
+        } catch (InvalidCredentialsException | PasswordHashingBusyException e) {
             throw e;
         } catch (Exception e) {
             log.error("Unexpected error during admin login: email={}", email, e);
@@ -105,8 +117,8 @@ public class AdminAuthService {
             Admin admin = adminRepository.findByEmail(email)
                     .orElseThrow(() -> new AdminNotFoundException("Admin not found with email: " + email));
 
-            // 리프레시 토큰 전체 삭제
-            adminRefreshTokenRepository.deleteByAdmin(admin);
+            // 리프레시 토큰 전체 무효화
+            adminRefreshTokenRepository.revokeAllByAdmin(admin, LocalDateTime.now());
 
             log.info("Admin logout successful: email={}, adminId={}", email, admin.getId());
 
@@ -150,30 +162,34 @@ public class AdminAuthService {
     @Transactional
     public AdminRefreshResponse refresh(String refreshToken) {
         try {
-            // 리프레시 토큰 조회
-            AdminRefreshToken adminRefreshToken = adminRefreshTokenRepository.findByToken(refreshToken)
+            // 리프레시 토큰 조회 (토큰 해시 기준, 관리자 정보가 필요하므로 항상 조회)
+            String tokenHash = JwtTokenProvider.hashToken(refreshToken);
+            AdminRefreshToken adminRefreshToken = adminRefreshTokenRepository.findByTokenHash(tokenHash)
+                    .filter(token -> token.getRevokedAt() == null)
                     .orElseThrow(() -> new AdminNotFoundException("유효하지 않은 리프레시 토큰입니다."));
 
             // 만료 여부 확인
             if (adminRefreshToken.getExpiresAt().isBefore(LocalDateTime.now())) {
-                adminRefreshTokenRepository.delete(adminRefreshToken);
                 throw new AdminNotFoundException("만료된 리프레시 토큰입니다.");
             }
 
+            // 조건부 UPDATE 로 무효화 (동시에 같은 토큰으로 갱신해도 한 요청만 성공)
+            if (adminRefreshTokenRepository.revokeActive(tokenHash, LocalDateTime.now()) == 0) {
+                throw new AdminNotFoundException("유효하지 않은 리프레시 토큰입니다.");
+            }
+
             Admin admin = adminRefreshToken.getAdmin();
             String email = admin.getEmail();
 
             // 신규 토큰 발급
-            String newAccessToken = tokenProvider.createAccessToken(email);
-            String newRefreshToken = tokenProvider.createRefreshToken(email);
-
-            // 기존 토큰 삭제 및 신규 토큰 저장
-            adminRefreshTokenRepository.delete(adminRefreshToken);
+            String newAccessToken = tokenProvider.createAccessToken(email, JwtClaims.Role.ADMIN);
+            String newRefreshToken = tokenProvider.createRefreshToken(email, JwtClaims.Role.ADMIN);
 
+            // 신규 토큰 저장 (기존 토큰은 만료 시 정리 작업에서 삭제)
             long refreshTokenValidityDays = refreshTokenValidityInMilliseconds / (1000 * 60 * 60 * 24);
             AdminRefreshToken newAdminRefreshToken = AdminRefreshToken.builder()
                     .admin(admin)
-                    .token(newRefreshToken)
+                    .tokenHash(JwtTokenProvider.hashToken(newRefreshToken))
                     .expiresAt(LocalDateTime.now().plusDays(refreshTokenValidityDays))
                     .createdAt(LocalDateTime.now())
                     .build();
@@ -0,0 +1,48 @@
+package com.p_project.p_project_backend.backend_admin.service;
+
+import com.p_project.p_project_backend.backend_admin.dto.reanalysis.EmotionReanalysisStatusResponse;
+import com.p_project.p_project_backend.backend_user.service.AiService;
+import com.p_project.p_project_backend.backend_user.service.EmotionReanalysisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdminEmotionReanalysisService {
+
+    private final EmotionReanalysisService emotionReanalysisService;
+    private final AiService aiService;
+
+    /**
+     * 현재 모델 버전의 재분류 진행 상황 조회
+     */
+    public EmotionReanalysisStatusResponse getStatus() {
+        return emotionReanalysisService.getCurrentRun()
+                .map(EmotionReanalysisStatusResponse::from)
+                .orElseGet(() -> EmotionReanalysisStatusResponse.notStarted(aiService.getEmotionModelVersion()));
+    }
+
+    /**
+     * 재분류 시작/재개
+     */
+    public EmotionReanalysisStatusResponse start(Long adminId) {
+        EmotionReanalysisStatusResponse response = EmotionReanalysisStatusResponse
+                .from(emotionReanalysisService.start());
+        log.info("Emotion reanalysis started by admin {}: modelVersion={}, afterId={}",
+                adminId, response.getModelVersion(), response.getLastDiaryId());
+        return response;
+    }
+
+    /**
+     * 재분류 일시 중지
+     */
+    public EmotionReanalysisStatusResponse pause(Long adminId) {
+        EmotionReanalysisStatusResponse response = EmotionReanalysisStatusResponse
+                .from(emotionReanalysisService.pause());
+        log.info("Emotion reanalysis paused by admin {}: modelVersion={}, afterId={}",
+                adminId, response.getModelVersion(), response.getLastDiaryId());
+        return response;
+    }
+}
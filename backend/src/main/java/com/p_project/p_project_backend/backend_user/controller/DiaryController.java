@@ -1,14 +1,21 @@
 package com.p_project.p_project_backend.backend_user.controller;
 
+import com.p_project.p_project_backend.backend_user.dto.diary.DiaryResponse;
+import com.p_project.p_project_backend.backend_user.service.DiaryAnalysisNotifier;
+import com.p_project.p_project_backend.backend_user.service.DiaryCalendarCache;
+import com.p_project.p_project_backend.backend_user.service.DiaryDraftAnalysisService;
 import com.p_project.p_project_backend.backend_user.service.DiaryService;
+import com.p_project.p_project_backend.backend_user.service.IdempotencyService;
 import com.p_project.p_project_backend.entity.Diary.Emotion;
 import com.p_project.p_project_backend.entity.User;
-import com.p_project.p_project_backend.repository.UserRepository;
+import com.p_project.p_project_backend.security.CurrentUser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -19,34 +26,81 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class DiaryController {
 
+        private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
         private final DiaryService diaryService;
-        private final UserRepository userRepository;
+        private final IdempotencyService idempotencyService;
+        private final DiaryDraftAnalysisService diaryDraftAnalysisService;
+        private final DiaryAnalysisNotifier diaryAnalysisNotifier;
 
         /**
-         * 일기 작성
+         * 일기 작성 (Idempotency-Key 가 같은 재시도에는 저장된 응답 반환)
          */
         @PostMapping
         public ResponseEntity<?> createDiary(
-                        @AuthenticationPrincipal UserDetails userDetails,
+                        @CurrentUser User user,
+                        @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
                         @RequestBody @jakarta.validation.Valid com.p_project.p_project_backend.backend_user.dto.diary.DiaryCreateRequest request) {
-                User user = getUser(userDetails);
+                DiaryResponse response = idempotencyService.execute(user, idempotencyKey,
+                                "POST /api/diaries", request, DiaryResponse.class,
+                                () -> diaryService.createDiary(user, request));
                 return ResponseEntity.ok(Map.of(
                                 "success", true,
-                                "data", diaryService.createDiary(user, request)));
+                                "data", response));
+        }
+
+        /**
+         * 작성 중인 일기 사전 분석 (입력이 멈췄을 때 호출, 저장 시 같은 내용이면 결과 재사용)
+         */
+        @PostMapping("/drafts/analysis")
+        public ResponseEntity<?> analyzeDraft(
+                        @CurrentUser User user,
+                        @RequestBody @jakarta.validation.Valid com.p_project.p_project_backend.backend_user.dto.diary.DiaryDraftAnalysisRequest request) {
+                return ResponseEntity.accepted().body(Map.of(
+                                "success", true,
+                                "data", diaryDraftAnalysisService.submit(user, request)));
         }
 
         /**
-         * 일기 수정
+         * 일기 수정 (Idempotency-Key 가 같은 재시도에는 저장된 응답 반환)
          */
         @PutMapping("/{diaryId}")
         public ResponseEntity<?> updateDiary(
-                        @AuthenticationPrincipal UserDetails userDetails,
+                        @CurrentUser User user,
+                        @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
                         @PathVariable Long diaryId,
                         @RequestBody @jakarta.validation.Valid com.p_project.p_project_backend.backend_user.dto.diary.DiaryUpdateRequest request) {
-                User user = getUser(userDetails);
+                DiaryResponse response = idempotencyService.execute(user, idempotencyKey,
+                                "PUT /api/diaries/" + diaryId, request, DiaryResponse.class,
+                                () -> diaryService.updateDiary(user, diaryId, request));
+                return ResponseEntity.ok(Map.of(
+                                "success", true,
+                                "data", response));
+        }
+
+        /**
+         * 일기 AI 분석 상태 조회 (폴링용)
+         */
+        @GetMapping("/{diaryId}/analysis")
+        public ResponseEntity<?> getAnalysisStatus(
+                        @CurrentUser User user,
+                        @PathVariable Long diaryId) {
                 return ResponseEntity.ok(Map.of(
                                 "success", true,
-                                "data", diaryService.updateDiary(user, diaryId, request)));
+                                "data", diaryService.getAnalysisStatus(user, diaryId)));
+        }
+
+        /**
+         * 일기 AI 분석 상태 구독 (SSE, 분석 완료/실패 시 이벤트 전송 후 종료)
+         */
+        @GetMapping(value = "/{diaryId}/analysis/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        public SseEmitter streamAnalysisStatus(
+                        @CurrentUser User user,
+                        @PathVariable Long diaryId) {
+                // 소유권 확인 (권한이 없으면 구독 전에 예외 발생)
+                diaryService.getAnalysisStatus(user, diaryId);
+                return diaryAnalysisNotifier.subscribe(diaryId,
+                                () -> diaryService.getAnalysisStatus(user, diaryId));
         }
 
         /**
@@ -54,9 +108,8 @@ public class DiaryController {
          */
         @GetMapping("/{diaryId}")
         public ResponseEntity<?> getDiary(
-                        @AuthenticationPrincipal UserDetails userDetails,
+                        @CurrentUser User user,
                         @PathVariable Long diaryId) {
-                User user = getUser(userDetails);
                 return ResponseEntity.ok(Map.of(
                                 "success", true,
                                 "data", diaryService.getDiary(user, diaryId)));
@@ -67,9 +120,8 @@ public class DiaryController {
          */
         @GetMapping("/date/{date}")
         public ResponseEntity<?> getDiaryByDate(
-                        @AuthenticationPrincipal UserDetails userDetails,
+                        @CurrentUser User user,
                         @PathVariable("date") String dateStr) {
-                User user = getUser(userDetails);
                 LocalDate date = LocalDate.parse(dateStr);
                 return ResponseEntity.ok(Map.of(
                                 "success", true,
@@ -78,16 +130,25 @@ public class DiaryController {
 
         /**
          * 월별 일기 목록 조회 (캘린더용)
+         * 응답에 ETag 를 붙이고, If-None-Match 가 같으면 본문 없이 304 반환
          */
         @GetMapping("/calendar")
         public ResponseEntity<?> getMonthlyDiaries(
-                        @AuthenticationPrincipal UserDetails userDetails,
+                        @CurrentUser User user,
                         @RequestParam("year") int year,
-                        @RequestParam("month") int month) {
-                User user = getUser(userDetails);
-                return ResponseEntity.ok(Map.of(
-                                "success", true,
-                                "data", diaryService.getMonthlyDiaries(user, year, month)));
+                        @RequestParam("month") int month,
+                        WebRequest webRequest) {
+                DiaryCalendarCache.CalendarMonth calendar = diaryService.getMonthlyDiaries(user, year, month);
+                if (webRequest.checkNotModified(calendar.etag())) {
+                        return null;
+                }
+                return ResponseEntity.ok()
+                                .eTag(calendar.etag())
+                                // 사용자별 응답이므로 공유 캐시에 저장하지 않고, 매번 ETag 로 재검증
+                                .cacheControl(CacheControl.noCache().cachePrivate())
+                                .body(Map.of(
+                                                "success", true,
+                                                "data", calendar.response()));
         }
 
         /**
@@ -95,14 +156,13 @@ public class DiaryController {
          */
         @GetMapping("/search")
         public ResponseEntity<?> searchDiaries(
-                        @AuthenticationPrincipal UserDetails userDetails,
+                        @CurrentUser User user,
                         @RequestParam(required = false) String keyword,
                         @RequestParam(required = false) LocalDate startDate,
                         @RequestParam(required = false) LocalDate endDate,
                         @RequestParam(required = false) List<Emotion> emotions,
                         @RequestParam(defaultValue = "1") int page,
                         @RequestParam(defaultValue = "10") int limit) {
-                User user = getUser(userDetails);
                 return ResponseEntity.ok(Map.of("success", true, "data",
                                 diaryService.searchDiaries(user, keyword, startDate, endDate, emotions, page, limit)));
         }
@@ -112,17 +172,11 @@ public class DiaryController {
          */
         @DeleteMapping("/{diaryId}")
         public ResponseEntity<?> deleteDiary(
-                        @AuthenticationPrincipal UserDetails userDetails,
+                        @CurrentUser User user,
                         @PathVariable Long diaryId) {
-                User user = getUser(userDetails);
                 diaryService.deleteDiary(user, diaryId);
                 return ResponseEntity.ok(Map.of(
                                 "success", true,
                                 "data", Map.of("message", "일기가 삭제되었습니다")));
         }
-
-        private User getUser(UserDetails userDetails) {
-                return userRepository.findByEmail(userDetails.getUsername())
-                                .orElseThrow(() -> new RuntimeException("User not found"));
-        }
 }
@@ -4,12 +4,10 @@ import com.p_project.p_project_backend.backend_user.dto.risk.RiskAnalysisRespons
 import com.p_project.p_project_backend.backend_user.dto.risk.SessionStatusResponse;
 import com.p_project.p_project_backend.backend_user.service.RiskDetectionService;
 import com.p_project.p_project_backend.entity.User;
-import com.p_project.p_project_backend.backend_user.service.UserService;
+import com.p_project.p_project_backend.security.CurrentUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -24,14 +22,12 @@ import java.util.Map;
 public class RiskDetectionController {
 
     private final RiskDetectionService riskDetectionService;
-    private final UserService userService; // To get User entity from UserDetails
 
     /**
      * 위험 분석 수행
      */
     @GetMapping("/analyze")
-    public ResponseEntity<Map<String, Object>> analyzeRisk(@AuthenticationPrincipal UserDetails userDetails) {
-        User user = userService.findActiveUser(userDetails.getUsername());
+    public ResponseEntity<Map<String, Object>> analyzeRisk(@CurrentUser User user) {
         RiskAnalysisResponse response = riskDetectionService.analyze(user);
         return ResponseEntity.ok(Map.of("success", true, "data", response));
     }
@@ -40,8 +36,7 @@ public class RiskDetectionController {
      * 세션 상태 조회
      */
     @GetMapping("/session-status")
-    public ResponseEntity<Map<String, Object>> getSessionStatus(@AuthenticationPrincipal UserDetails userDetails) {
-        User user = userService.findActiveUser(userDetails.getUsername());
+    public ResponseEntity<Map<String, Object>> getSessionStatus(@CurrentUser User user) {
         SessionStatusResponse response = riskDetectionService.getSessionStatus(user);
         return ResponseEntity.ok(Map.of("success", true, "data", response));
     }
@@ -50,8 +45,7 @@ public class RiskDetectionController {
      * 위험 알림 표시 상태 업데이트
      */
     @PostMapping("/mark-shown")
-    public ResponseEntity<Map<String, Object>> markStationShown(@AuthenticationPrincipal UserDetails userDetails) {
-        User user = userService.findActiveUser(userDetails.getUsername());
+    public ResponseEntity<Map<String, Object>> markStationShown(@CurrentUser User user) {
         riskDetectionService.markShown(user);
         return ResponseEntity.ok(Map.of("success", true, "data", Map.of("message", "위험 알림 표시 완료 기록됨")));
     }
@@ -4,10 +4,10 @@ import com.p_project.p_project_backend.backend_user.dto.user.PasswordChangeReque
 import com.p_project.p_project_backend.backend_user.dto.user.PersonaUpdateRequest;
 import com.p_project.p_project_backend.backend_user.dto.user.UserResponse;
 import com.p_project.p_project_backend.backend_user.service.UserService;
+import com.p_project.p_project_backend.security.CurrentUser;
+import com.p_project.p_project_backend.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -23,8 +23,8 @@ public class UserController {
      * 내 정보 조회
      */
     @GetMapping("/me")
-    public ResponseEntity<?> getCurrentUser(@AuthenticationPrincipal UserDetails userDetails) {
-        UserResponse response = userService.getCurrentUser(userDetails.getUsername());
+    public ResponseEntity<?> getCurrentUser(@CurrentUser UserPrincipal principal) {
+        UserResponse response = userService.getCurrentUser(principal);
         return ResponseEntity.ok(Map.of("success", true, "data", response));
     }
 
@@ -32,9 +32,9 @@ public class UserController {
      * 페르소나 설정
      */
     @PutMapping("/me/persona")
-    public ResponseEntity<?> updatePersona(@AuthenticationPrincipal UserDetails userDetails,
+    public ResponseEntity<?> updatePersona(@CurrentUser UserPrincipal principal,
             @RequestBody @jakarta.validation.Valid PersonaUpdateRequest request) {
-        UserResponse response = userService.updatePersona(userDetails.getUsername(), request);
+        UserResponse response = userService.updatePersona(principal.getEmail(), request);
         return ResponseEntity.ok(Map.of("success", true, "data",
                 Map.of("message", "페르소나가 설정되었습니다", "persona", response.getPersona())));
     }
@@ -43,9 +43,9 @@ public class UserController {
      * 비밀번호 변경
      */
     @PutMapping("/me/password")
-    public ResponseEntity<?> changePassword(@AuthenticationPrincipal UserDetails userDetails,
+    public ResponseEntity<?> changePassword(@CurrentUser UserPrincipal principal,
             @RequestBody @jakarta.validation.Valid PasswordChangeRequest request) {
-        userService.changePassword(userDetails.getUsername(), request);
+        userService.changePassword(principal.getEmail(), request);
         return ResponseEntity.ok(Map.of("success", true, "data", Map.of("message", "비밀번호가 변경되었습니다")));
     }
 
@@ -54,10 +54,10 @@ public class UserController {
      */
     @DeleteMapping("/me")
     public ResponseEntity<?> deleteAccount(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @CurrentUser UserPrincipal principal,
             @RequestBody Map<String, String> request) {
         String password = request.get("password");
-        userService.deleteAccount(userDetails.getUsername(), password);
+        userService.deleteAccount(principal.getEmail(), password);
         return ResponseEntity.ok(Map.of("success", true, "data", Map.of("message", "계정이 삭제되었습니다")));
     }
 }
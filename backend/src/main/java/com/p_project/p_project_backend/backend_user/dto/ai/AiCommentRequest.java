@@ -0,0 +1,17 @@
+package com.p_project.p_project_backend.backend_user.dto.ai;
+
+import com.p_project.p_project_backend.entity.User.Persona;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * AI 서버 코멘트 재생성 요청 DTO (감정 분류/이미지 생성 없이 기존 감정 사용)
+ */
+@Getter
+@Builder
+public class AiCommentRequest {
+    private String content;
+    private Persona persona;
+    private String emotion;
+}
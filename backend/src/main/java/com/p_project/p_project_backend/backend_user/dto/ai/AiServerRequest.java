@@ -10,10 +10,13 @@ import lombok.Getter;
  * AI 서버 분석 요청 DTO
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class AiServerRequest {
     private String content;
     private Weather weather;
     private Persona persona;
     private com.p_project.p_project_backend.entity.User.Gender gender;
+    private String emotion; // 백엔드에서 미리 분류한 감정 (있으면 AI 서버는 감정 분석 생략)
+    private boolean skipImage; // 부하 단계에 따라 이미지 생성 생략
+    private boolean skipFeedback; // 부하 단계에 따라 피드백(코멘트/음식 추천) 생략
 }
@@ -18,5 +18,5 @@ public class AiServerResponse {
     private String emotion;
     private String aiComment;
     private RecommendedFood recommendedFood;
-    private String image; // Base64 string from AI Server
+    private String imageId; // 생성 이미지 ID (바이너리는 /api/ai/images/{imageId}로 별도 수신)
 }
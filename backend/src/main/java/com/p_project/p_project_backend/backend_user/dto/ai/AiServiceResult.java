@@ -1,5 +1,7 @@
 package com.p_project.p_project_backend.backend_user.dto.ai;
 
+import com.p_project.p_project_backend.entity.Diary.AnalysisTier;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,4 +21,9 @@ public class AiServiceResult {
     private String emotion;
     private RecommendedFood recommendedFood;
     private String imageUrl; // Saved image URL
+    private boolean cacheHit; // 캐시 적중 여부 (이미지가 다른 일기와 공유될 수 있음)
+    private boolean fallback; // AI 서버 장애로 대체 결과가 반환되었는지 여부
+    @Builder.Default
+    private AnalysisTier tier = AnalysisTier.FULL; // 적용된 분석 단계 (생략된 부분은 백필 대상)
+    private String emotionModelVersion; // 감정을 분류한 모델 버전 (대체 감정이면 null)
 }
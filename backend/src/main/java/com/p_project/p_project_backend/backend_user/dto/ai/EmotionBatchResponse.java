@@ -0,0 +1,21 @@
+package com.p_project.p_project_backend.backend_user.dto.ai;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * AI 서버 감정 분류 배치 응답 DTO (결과는 요청 순서와 동일)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmotionBatchResponse {
+    private List<EmotionPrediction> results;
+}
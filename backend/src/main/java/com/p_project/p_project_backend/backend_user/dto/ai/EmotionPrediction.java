@@ -0,0 +1,20 @@
+package com.p_project.p_project_backend.backend_user.dto.ai;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 감정 분류 결과 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmotionPrediction {
+    private String emotion; // Diary.Emotion 이름 (분노, 슬픔, 불안, 행복, 혐오, 당황, 중립)
+    private double confidence; // 0 ~ 100 (%)
+}
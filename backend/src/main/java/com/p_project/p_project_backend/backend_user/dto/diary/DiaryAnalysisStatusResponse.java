@@ -0,0 +1,24 @@
+package com.p_project.p_project_backend.backend_user.dto.diary;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 일기 AI 분석 상태 응답 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DiaryAnalysisStatusResponse {
+    private Long diaryId;
+    private String status; // PENDING, COMPLETED, FAILED
+    private String emotion;
+    private String aiComment;
+    private Object recommendedFood;
+    private String imageUrl;
+}
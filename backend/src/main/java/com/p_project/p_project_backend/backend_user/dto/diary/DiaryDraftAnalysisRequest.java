@@ -0,0 +1,21 @@
+package com.p_project.p_project_backend.backend_user.dto.diary;
+
+import com.p_project.p_project_backend.entity.Diary.Weather;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 작성 중인 일기 사전 분석 요청 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class DiaryDraftAnalysisRequest {
+
+    @NotBlank(message = "본문은 필수입니다")
+    private String content;
+
+    private Weather weather;
+}
@@ -0,0 +1,19 @@
+package com.p_project.p_project_backend.backend_user.dto.diary;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 작성 중인 일기 사전 분석 응답 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DiaryDraftAnalysisResponse {
+    private String status; // SCHEDULED, READY, SKIPPED
+}
@@ -32,6 +32,8 @@ public class DiaryResponse {
     private String aiComment;
     private String persona;
     private Object recommendedFood;
+    private String analysisStatus; // PENDING, COMPLETED, FAILED
+    private String analysisTier; // FULL, NO_IMAGE, NO_FEEDBACK, CLASSIFICATION_ONLY (생략된 부분은 추후 보완)
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
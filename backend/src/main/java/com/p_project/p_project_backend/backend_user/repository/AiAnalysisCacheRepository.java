@@ -0,0 +1,31 @@
+package com.p_project.p_project_backend.backend_user.repository;
+
+import com.p_project.p_project_backend.entity.AiAnalysisCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 분석 결과 캐시 레포지토리
+ */
+public interface AiAnalysisCacheRepository extends JpaRepository<AiAnalysisCache, String> {
+        /**
+         * 적중 일시 갱신
+         */
+        @Modifying
+        @Transactional
+        @Query("UPDATE AiAnalysisCache c SET c.lastHitAt = :now WHERE c.cacheKey = :cacheKey")
+        int touch(@Param("cacheKey") String cacheKey, @Param("now") LocalDateTime now);
+
+        /**
+         * 오래 사용되지 않은 캐시 삭제
+         */
+        @Modifying
+        @Transactional
+        @Query("DELETE FROM AiAnalysisCache c WHERE c.lastHitAt < :before")
+        int deleteUnusedBefore(@Param("before") LocalDateTime before);
+}
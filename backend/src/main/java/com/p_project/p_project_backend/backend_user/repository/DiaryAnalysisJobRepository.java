@@ -0,0 +1,60 @@
+package com.p_project.p_project_backend.backend_user.repository;
+
+import com.p_project.p_project_backend.entity.DiaryAnalysisJob;
+import com.p_project.p_project_backend.entity.DiaryAnalysisJob.Status;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 일기 AI 분석 작업 레포지토리
+ */
+public interface DiaryAnalysisJobRepository extends JpaRepository<DiaryAnalysisJob, Long> {
+        /**
+         * 실행 시각이 도래한 대기 작업 ID 조회
+         */
+        @Query("SELECT j.id FROM DiaryAnalysisJob j " +
+                        "WHERE j.status = :status AND j.nextAttemptAt <= :now " +
+                        "ORDER BY j.nextAttemptAt")
+        List<Long> findDueJobIds(@Param("status") Status status,
+                        @Param("now") LocalDateTime now,
+                        Pageable pageable);
+
+        /**
+         * 작업 선점 (다른 워커/노드가 먼저 가져간 경우 0 반환)
+         */
+        @Modifying
+        @Query("UPDATE DiaryAnalysisJob j SET j.status = :to, j.updatedAt = :now " +
+                        "WHERE j.id = :id AND j.status = :from")
+        int transitionStatus(@Param("id") Long id,
+                        @Param("from") Status from,
+                        @Param("to") Status to,
+                        @Param("now") LocalDateTime now);
+
+        /**
+         * 재시작/장애로 멈춘 실행 중 작업을 대기 상태로 복구
+         */
+        @Modifying
+        @Query("UPDATE DiaryAnalysisJob j SET j.status = :to, j.nextAttemptAt = :now, j.updatedAt = :now " +
+                        "WHERE j.status = :from AND j.updatedAt < :staleBefore")
+        int resetStaleJobs(@Param("from") Status from,
+                        @Param("to") Status to,
+                        @Param("staleBefore") LocalDateTime staleBefore,
+                        @Param("now") LocalDateTime now);
+
+        /**
+         * 일기의 최신 분석 작업 조회
+         */
+        Optional<DiaryAnalysisJob> findTopByDiaryIdOrderByIdDesc(Long diaryId);
+
+        /**
+         * 상태별 작업 수 (대기열 길이)
+         */
+        long countByStatus(Status status);
+}
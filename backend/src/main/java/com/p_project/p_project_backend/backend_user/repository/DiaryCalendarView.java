@@ -0,0 +1,11 @@
+package com.p_project.p_project_backend.backend_user.repository;
+
+import com.p_project.p_project_backend.entity.Diary.Emotion;
+
+import java.time.LocalDate;
+
+/**
+ * 캘린더용 일기 프로젝션 (id, 날짜, 감정만 조회하여 본문/AI 코멘트/추천 음식 컬럼을 읽지 않음)
+ */
+public record DiaryCalendarView(Long id, LocalDate date, Emotion emotion) {
+}
@@ -1,11 +1,11 @@
 package com.p_project.p_project_backend.backend_user.repository;
 
 import com.p_project.p_project_backend.entity.Diary;
-import com.p_project.p_project_backend.entity.Diary.Emotion;
+import com.p_project.p_project_backend.entity.Diary.AnalysisTier;
 import com.p_project.p_project_backend.entity.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -25,30 +25,66 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
         Optional<Diary> findByUserAndDate(User user, LocalDate date);
 
         /**
-         * 기간별 일기 목록 조회
+         * 기간별 분석 완료 일기 목록 조회 (통계용)
+         * 분석 대기/실패 일기의 감정은 임시값이므로 제외
          */
-        List<Diary> findByUserAndDateBetweenAndDeletedAtIsNull(User user, LocalDate startDate, LocalDate endDate);
+        @Query("SELECT d FROM Diary d " +
+                        "WHERE d.user = :user AND d.date BETWEEN :startDate AND :endDate AND d.deletedAt IS NULL " +
+                        "AND (d.analysisStatus IS NULL " +
+                        "OR d.analysisStatus = com.p_project.p_project_backend.entity.Diary.AnalysisStatus.COMPLETED)")
+        List<Diary> findAnalyzedByUserAndDateBetween(@Param("user") User user,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
 
         /**
-         * 기간별 일기 목록 조회 (최신순)
+         * 월별 캘린더 조회 (idx_diaries_calendar 커버링 인덱스만 읽음, 날짜순)
+         * 분석 대기/실패 일기는 표시하되 감정은 임시값이므로 null
          */
-        List<Diary> findByUserAndDateBetweenAndDeletedAtIsNullOrderByDateDesc(User user, LocalDate startDate,
-                        LocalDate endDate);
+        @Query("SELECT new com.p_project.p_project_backend.backend_user.repository.DiaryCalendarView(" +
+                        "d.id, d.date, CASE WHEN d.analysisStatus IS NULL " +
+                        "OR d.analysisStatus = com.p_project.p_project_backend.entity.Diary.AnalysisStatus.COMPLETED " +
+                        "THEN d.emotion ELSE NULL END) FROM Diary d " +
+                        "WHERE d.user.id = :userId AND d.date BETWEEN :startDate AND :endDate " +
+                        "AND d.deletedAt IS NULL ORDER BY d.date")
+        List<DiaryCalendarView> findCalendarViews(@Param("userId") Long userId,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
 
         /**
-         * 일기 검색 (키워드, 날짜, 감정 필터링)
+         * 기간별 분석 완료 일기 목록 조회 (최신순, 위험 감지용)
+         * 분석 대기/실패 일기의 임시 감정이 연속 부정 감정 집계를 끊지 않도록 제외
          */
-        @Query("SELECT d FROM Diary d WHERE d.user = :user " +
-                        "AND d.deletedAt IS NULL " +
-                        "AND (:keyword IS NULL OR d.content LIKE %:keyword% OR d.title LIKE %:keyword%) " +
-                        "AND (:startDate IS NULL OR d.date >= :startDate) " +
-                        "AND (:endDate IS NULL OR d.date <= :endDate) " +
-                        "AND (:emotions IS NULL OR d.emotion IN :emotions) " +
+        @Query("SELECT d FROM Diary d " +
+                        "WHERE d.user = :user AND d.date BETWEEN :startDate AND :endDate AND d.deletedAt IS NULL " +
+                        "AND (d.analysisStatus IS NULL " +
+                        "OR d.analysisStatus = com.p_project.p_project_backend.entity.Diary.AnalysisStatus.COMPLETED) " +
                         "ORDER BY d.date DESC")
-        Page<Diary> searchDiaries(@Param("user") User user,
-                        @Param("keyword") String keyword,
+        List<Diary> findAnalyzedByUserAndDateBetweenOrderByDateDesc(@Param("user") User user,
                         @Param("startDate") LocalDate startDate,
-                        @Param("endDate") LocalDate endDate,
-                        @Param("emotions") List<Emotion> emotions,
+                        @Param("endDate") LocalDate endDate);
+
+        /**
+         * 부하로 일부 분석이 생략된 일기 ID 조회 (백필 대상, afterId 이후 오래된 순)
+         * 분석 대기/실패 상태는 백필 대상이 아니므로 제외
+         */
+        @Query("SELECT d.id FROM Diary d " +
+                        "WHERE d.analysisTier IN :tiers AND d.id > :afterId AND d.deletedAt IS NULL " +
+                        "AND (d.analysisStatus IS NULL " +
+                        "OR d.analysisStatus = com.p_project.p_project_backend.entity.Diary.AnalysisStatus.COMPLETED) " +
+                        "ORDER BY d.id")
+        List<Long> findIdsByAnalysisTierIn(@Param("tiers") List<AnalysisTier> tiers, @Param("afterId") Long afterId,
                         Pageable pageable);
+
+        /**
+         * 수정 요청 순번 증가 (이전 수정 요청의 분석 결과가 반영되지 않도록 함)
+         */
+        @Modifying
+        @Query("UPDATE Diary d SET d.editSequence = d.editSequence + 1 WHERE d.id = :id")
+        int incrementEditSequence(@Param("id") Long id);
+
+        /**
+         * 현재 수정 요청 순번 조회
+         */
+        @Query("SELECT d.editSequence FROM Diary d WHERE d.id = :id")
+        Long findEditSequence(@Param("id") Long id);
 }
@@ -0,0 +1,126 @@
+package com.p_project.p_project_backend.backend_user.repository;
+
+import com.p_project.p_project_backend.entity.Diary.Emotion;
+import com.p_project.p_project_backend.entity.Diary.Weather;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 일기 검색 레포지토리
+ * 키워드는 제목/본문 부분 일치(LIKE)로 검색하며, 사용자와 날짜 범위로 대상이 제한됨 (최신순)
+ * ngram 파서 FULLTEXT 인덱스(idx_diaries_title_content)가 있으면 MATCH ... AGAINST 로 후보를 먼저 좁히고
+ * 관련도순(같으면 최신순) 정렬 (ngram 구문 검색은 부분 일치를 모두 포함하므로 결과는 LIKE 와 같음)
+ * 기본 파서는 단어 중간 일치("너무행복했다"의 "행복")를 찾지 못하므로 FULLTEXT 를 사용하지 않음
+ */
+@Repository
+public class DiarySearchRepository {
+
+    // 분석 완료 조건 (분석 대기/실패 일기의 감정은 임시값이므로 응답과 감정 필터에서 제외)
+    private static final String ANALYZED = "(analysis_status IS NULL OR analysis_status = 'COMPLETED')";
+    private static final String SELECT_COLUMNS = "SELECT id, date, title, content, "
+            + "CASE WHEN " + ANALYZED + " THEN emotion END AS emotion, weather";
+    private static final String MATCH_EXPRESSION = "MATCH(title, content) AGAINST (:query IN BOOLEAN MODE)";
+    // 불리언 모드 연산자와 LIKE 와일드카드 (포함되면 구문 검색이 LIKE 결과를 모두 포함하지 않으므로 후보 필터 생략)
+    private static final Pattern SPECIAL_CHARACTERS = Pattern.compile("[+\\-<>()~*\"@%_]");
+    private static final String LIKE_EXPRESSION =
+            "(content LIKE CONCAT('%', :keyword, '%') OR title LIKE CONCAT('%', :keyword, '%'))";
+
+    private static final RowMapper<DiarySearchView> ROW_MAPPER = (rs, rowNum) -> new DiarySearchView(
+            rs.getLong("id"),
+            rs.getDate("date").toLocalDate(),
+            rs.getString("title"),
+            rs.getString("content"),
+            rs.getString("emotion") != null ? Emotion.valueOf(rs.getString("emotion")) : null,
+            rs.getString("weather") != null ? Weather.valueOf(rs.getString("weather")) : null);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final boolean ngram;
+    private final int minTokenLength;
+
+    public DiarySearchRepository(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            @Value("${diary.search.ngram:false}") boolean ngram,
+            @Value("${diary.search.min-token-length:3}") int minTokenLength) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ngram = ngram;
+        this.minTokenLength = Math.max(1, minTokenLength);
+    }
+
+    /**
+     * 일기 검색 (키워드, 날짜, 감정 필터링)
+     */
+    public Page<DiarySearchView> search(Long userId, String keyword, LocalDate startDate, LocalDate endDate,
+            List<Emotion> emotions, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource("userId", userId);
+        StringBuilder where = new StringBuilder(" FROM diaries WHERE user_id = :userId AND deleted_at IS NULL");
+        if (startDate != null) {
+            where.append(" AND date >= :startDate");
+            params.addValue("startDate", startDate);
+        }
+        if (endDate != null) {
+            where.append(" AND date <= :endDate");
+            params.addValue("endDate", endDate);
+        }
+        if (emotions != null && !emotions.isEmpty()) {
+            where.append(" AND emotion IN (:emotions) AND ").append(ANALYZED);
+            params.addValue("emotions", emotions.stream().map(Emotion::name).toList());
+        }
+
+        String select = SELECT_COLUMNS;
+        String orderBy = " ORDER BY date DESC";
+        String trimmed = keyword != null ? keyword.trim() : "";
+        if (!trimmed.isEmpty()) {
+            String booleanQuery = toBooleanQuery(trimmed);
+            if (booleanQuery != null) {
+                // 후보 필터 (LIKE 결과를 모두 포함), 최종 일치는 아래 LIKE 로 판단
+                select += ", " + MATCH_EXPRESSION + " AS score";
+                where.append(" AND ").append(MATCH_EXPRESSION);
+                orderBy = " ORDER BY score DESC, date DESC";
+                params.addValue("query", booleanQuery);
+            }
+            where.append(" AND ").append(LIKE_EXPRESSION);
+            params.addValue("keyword", trimmed);
+        }
+
+        params.addValue("limit", pageable.getPageSize());
+        params.addValue("offset", pageable.getOffset());
+        List<DiarySearchView> content = jdbcTemplate.query(
+                select + where + orderBy + " LIMIT :limit OFFSET :offset", params, ROW_MAPPER);
+
+        // 첫 페이지가 다 차지 않으면 COUNT 생략
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> jdbcTemplate.queryForObject("SELECT COUNT(*)" + where, params, Long.class));
+    }
+
+    // --- Helper Methods ---
+
+    /**
+     * FULLTEXT 후보 필터용 불리언 모드 검색식 생성 (모든 단어를 구문으로 포함, AND)
+     * ngram 파서는 단어를 n-gram 으로 나눠 연속 일치를 검색하므로 단어 중간 일치도 포함
+     * 기본 파서이거나, 인덱싱 최소 길이보다 짧은 단어 또는 특수 문자가 있으면 null (LIKE 로만 검색)
+     */
+    String toBooleanQuery(String keyword) {
+        if (!ngram) {
+            return null;
+        }
+        List<String> terms = new ArrayList<>();
+        for (String term : keyword.split("\\s+")) {
+            if (SPECIAL_CHARACTERS.matcher(term).find() || term.codePointCount(0, term.length()) < minTokenLength) {
+                return null;
+            }
+            terms.add("+\"" + term + "\"");
+        }
+        return String.join(" ", terms);
+    }
+}
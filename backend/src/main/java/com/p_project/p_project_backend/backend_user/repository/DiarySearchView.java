@@ -0,0 +1,13 @@
+package com.p_project.p_project_backend.backend_user.repository;
+
+import com.p_project.p_project_backend.entity.Diary.Emotion;
+import com.p_project.p_project_backend.entity.Diary.Weather;
+
+import java.time.LocalDate;
+
+/**
+ * 검색 결과용 일기 프로젝션 (본문은 지연 로딩 컬럼이므로 엔티티 대신 한 번의 조회로 함께 읽음)
+ */
+public record DiarySearchView(Long id, LocalDate date, String title, String content, Emotion emotion,
+        Weather weather) {
+}
@@ -0,0 +1,38 @@
+package com.p_project.p_project_backend.backend_user.repository;
+
+import com.p_project.p_project_backend.entity.EmotionReanalysisRun;
+import com.p_project.p_project_backend.entity.EmotionReanalysisRun.Status;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 감정 재분류 작업 레포지토리
+ */
+public interface EmotionReanalysisRunRepository extends JpaRepository<EmotionReanalysisRun, Long> {
+        /**
+         * 모델 버전별 작업 조회
+         */
+        Optional<EmotionReanalysisRun> findByModelVersion(String modelVersion);
+
+        /**
+         * 체크포인트 전진 (다른 노드가 같은 구간을 먼저 반영한 경우 0 반환)
+         */
+        @Modifying
+        @Query("UPDATE EmotionReanalysisRun r SET r.lastDiaryId = :to, " +
+                        "r.processedCount = r.processedCount + :processed, " +
+                        "r.changedCount = r.changedCount + :changed, " +
+                        "r.lastError = null, r.updatedAt = :now " +
+                        "WHERE r.id = :id AND r.status = :status AND r.lastDiaryId = :from")
+        int advanceCheckpoint(@Param("id") Long id,
+                        @Param("status") Status status,
+                        @Param("from") Long from,
+                        @Param("to") Long to,
+                        @Param("processed") long processed,
+                        @Param("changed") long changed,
+                        @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,37 @@
+package com.p_project.p_project_backend.backend_user.repository;
+
+import com.p_project.p_project_backend.entity.IdempotencyRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 멱등 요청 기록 레포지토리
+ */
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+        /**
+         * 사용자별 멱등 키 기록 조회
+         */
+        Optional<IdempotencyRecord> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+        /**
+         * 만료된 기록 ID 조회 (청크 단위 삭제용)
+         */
+        @Query("SELECT r.id FROM IdempotencyRecord r WHERE r.expiresAt < :now ORDER BY r.id")
+        List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+        /**
+         * 기록 일괄 삭제
+         */
+        @Modifying
+        @Transactional
+        @Query("DELETE FROM IdempotencyRecord r WHERE r.id IN :ids")
+        int deleteByIdIn(@Param("ids") List<Long> ids);
+}
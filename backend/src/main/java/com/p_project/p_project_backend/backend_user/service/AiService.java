@@ -1,61 +1,213 @@
 package com.p_project.p_project_backend.backend_user.service;
 
+import com.p_project.p_project_backend.backend_user.dto.ai.AiCommentRequest;
 import com.p_project.p_project_backend.backend_user.dto.ai.AiServerRequest;
 import com.p_project.p_project_backend.backend_user.dto.ai.AiServerResponse;
 import com.p_project.p_project_backend.backend_user.dto.ai.AiServiceResult;
+import com.p_project.p_project_backend.backend_user.dto.ai.EmotionPrediction;
+import com.p_project.p_project_backend.backend_user.service.ai.AiCallGuard;
+import com.p_project.p_project_backend.backend_user.service.ai.AiCancellation;
+import com.p_project.p_project_backend.backend_user.service.ai.AiDegradationController;
+import com.p_project.p_project_backend.backend_user.service.ai.AiImageStorage;
+import com.p_project.p_project_backend.backend_user.service.ai.AiResultCache;
+import com.p_project.p_project_backend.backend_user.service.ai.AiServerPool;
+import com.p_project.p_project_backend.backend_user.service.ai.EmotionClassifier;
+import com.p_project.p_project_backend.entity.Diary.AnalysisTier;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.util.Base64;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AiService {
 
-    // AI 생성 이미지 저장 경로
-    private static final String IMAGE_UPLOAD_DIR = "images/ai_generates/";
-    private final WebClient aiWebClient;
+    private final AiServerPool aiServerPool;
+    private final AiImageStorage aiImageStorage;
+    private final AiResultCache aiResultCache;
+    private final AiCallGuard aiCallGuard;
+    private final EmotionClassifier emotionClassifier;
+    private final AiDegradationController degradationController;
 
     /**
      * AI 서버로 요청 전송
      */
     public String sendToAiServer(Map<String, Object> requestData) {
-        return aiWebClient.post()
+        return aiServerPool.execute(client -> client.post()
                 .uri("/ai/test")
                 .bodyValue(requestData)
                 .retrieve()
                 .bodyToMono(String.class)
-                .block();
+                .block());
     }
 
     /**
      * 일기 분석 및 이미지 생성 요청
+     * 부하 단계에 따라 이미지/피드백 생성을 생략하며, 적용된 단계는 결과의 tier 로 반환
      */
     public AiServiceResult analyzeDiary(AiServerRequest request) {
-        // 1. AI 서버 요청
-        AiServerResponse response = aiWebClient.post()
+        return analyzeDiary(request, AiCancellation.none());
+    }
+
+    /**
+     * 취소 가능한 일기 분석 (cancellation 이 취소되면 진행 중인 AI 서버 요청과 이미지 수신을 중단하고
+     * CancellationException 발생)
+     */
+    public AiServiceResult analyzeDiary(AiServerRequest request, AiCancellation cancellation) {
+        // 0. 동일 입력의 분석 결과가 캐시에 있으면 AI 서버 호출 생략
+        String cacheKey = aiResultCache.keyOf(request);
+        Optional<AiServiceResult> cached = aiResultCache.get(cacheKey);
+        if (cached.isPresent()) {
+            AiServiceResult cachedResult = cached.get();
+            cachedResult.setEmotionModelVersion(aiResultCache.getModelVersion());
+            return cachedResult;
+        }
+
+        // 1. 로컬 분류기(또는 배치 사전 분류 설정)를 쓰면 감정을 먼저 분류 (AI 서버는 감정 분석 생략)
+        AiServerRequest resolvedRequest = preClassify(request);
+
+        // 2. 부하 단계 결정 (단계가 다른 요청끼리는 결과를 공유하지 않음)
+        AnalysisTier tier = degradationController.currentTier();
+        String flightKey = cacheKey + ":" + tier.name();
+
+        // 3. 동일 요청 병합, 동시 호출 제한, 시간 예산, 서킷 브레이커를 거쳐 AI 호출
+        AiServiceResult result = tier == AnalysisTier.CLASSIFICATION_ONLY
+                ? aiCallGuard.execute(flightKey, deadline -> classifyOnly(resolvedRequest))
+                : aiCallGuard.execute(flightKey, cancellation,
+                        (deadline, exclusive) -> requestAnalysis(cacheKey, resolvedRequest, tier, deadline, exclusive));
+
+        // 4. AI 서버 장애로 대체 결과가 반환되어도 미리 분류한 감정은 유지
+        if (result.isFallback() && resolvedRequest.getEmotion() != null) {
+            result.setEmotion(resolvedRequest.getEmotion());
+        }
+
+        // 5. 감정을 분류한 모델 버전 기록 (대체 감정은 기록하지 않아 재분류 대상으로 남김)
+        if (!result.isFallback() || resolvedRequest.getEmotion() != null) {
+            result.setEmotionModelVersion(aiResultCache.getModelVersion());
+        }
+        return result;
+    }
+
+    /**
+     * 감정 분류만 수행 (피드백/이미지 생성 없음)
+     */
+    public EmotionPrediction classifyEmotion(String content) {
+        return emotionClassifier.classify(content);
+    }
+
+    /**
+     * 여러 일기의 감정을 한 번에 분류 (결과는 입력 순서와 동일)
+     */
+    public List<EmotionPrediction> classifyEmotions(List<String> contents) {
+        return emotionClassifier.classifyBatch(contents);
+    }
+
+    /**
+     * 현재 감정 분류 모델 버전
+     */
+    public String getEmotionModelVersion() {
+        return aiResultCache.getModelVersion();
+    }
+
+    /**
+     * 페르소나 코멘트와 음식 추천만 재생성 (감정 분류/이미지 생성 생략)
+     * 반환 결과의 emotion 은 요청한 감정 그대로이며 imageUrl 은 비어 있음
+     */
+    public AiServiceResult regenerateComment(AiCommentRequest request) {
+        String key = aiResultCache.keyOf(request);
+        return aiCallGuard.execute(key, deadline -> requestComment(request, deadline));
+    }
+
+    /**
+     * 일기에 반영되지 않은 분석 결과의 이미지 삭제 (저장 실패/대체 시 정리용)
+     * 캐시 적중 결과의 이미지는 다른 일기와 공유되므로 삭제하지 않음
+     */
+    public void discardResult(AiServiceResult result) {
+        if (result == null || result.isCacheHit()) {
+            return;
+        }
+        aiImageStorage.delete(result.getImageUrl());
+    }
+
+    // --- Helper Methods ---
+
+    private AiServiceResult requestAnalysis(String cacheKey, AiServerRequest request, AnalysisTier tier,
+            Instant deadline, AiCancellation cancellation) {
+        AiServerRequest tieredRequest = request.toBuilder()
+                .skipImage(tier.compareTo(AnalysisTier.NO_IMAGE) >= 0)
+                .skipFeedback(tier.compareTo(AnalysisTier.NO_FEEDBACK) >= 0)
+                .build();
+
+        // 생성 이미지는 분석한 인스턴스에만 있으므로 이미지 수신까지 같은 인스턴스에서 처리
+        // 실패한 호출도 지연으로 기록 (타임아웃은 deadline 에서 끊기므로 시간 예산 전체가 기록됨, 과부하의 가장 강한 신호)
+        // 요청자 취소는 서버 상태와 무관하므로 제외
+        long startedAt = System.nanoTime();
+        boolean cancelled = false;
+        AiServiceResult result;
+        try {
+            result = aiServerPool.execute(
+                    client -> requestAnalysis(client, tieredRequest, deadline, cancellation));
+        } catch (CancellationException e) {
+            cancelled = true;
+            throw e;
+        } finally {
+            if (!cancelled) {
+                degradationController.recordLatency(Duration.ofNanos(System.nanoTime() - startedAt));
+            }
+        }
+
+        result.setTier(tier);
+        if (tier == AnalysisTier.FULL) {
+            aiResultCache.put(cacheKey, result);
+        }
+        return result;
+    }
+
+    /**
+     * 감정 분류만 수행한 결과 (최고 부하 단계)
+     */
+    private AiServiceResult classifyOnly(AiServerRequest request) {
+        String emotion = request.getEmotion() != null ? request.getEmotion()
+                : emotionClassifier.classify(request.getContent()).getEmotion();
+        return AiServiceResult.builder()
+                .emotion(emotion)
+                .imageUrl("")
+                .tier(AnalysisTier.CLASSIFICATION_ONLY)
+                .build();
+    }
+
+    private AiServiceResult requestAnalysis(WebClient client, AiServerRequest request, Instant deadline,
+            AiCancellation cancellation) {
+        // 1. AI 서버 요청 (취소되면 연결을 끊어 AI 서버가 이미지 생성 전에 중단할 수 있도록 함)
+        Mono<AiServerResponse> analysis = client.post()
                 .uri("/api/ai/diary")
                 .bodyValue(request)
                 .retrieve()
                 .bodyToMono(AiServerResponse.class)
+                .timeout(remaining(deadline));
+        AiServerResponse response = Mono.firstWithSignal(analysis, cancellation.<AiServerResponse>asError())
                 .block();
 
         if (response == null) {
             throw new RuntimeException("AI Server returned null response");
         }
 
-        // 2. 이미지 저장
-        String base64Image = response.getImage();
+        // 2. 이미지 저장 (바이너리 스트리밍, 이미 취소된 분석이면 수신하지 않음)
+        cancellation.throwIfCancelled();
         String imageUrl = "";
+        String imageId = response.getImageId();
 
-        if (base64Image != null && !base64Image.isEmpty()) {
-            imageUrl = saveImage(base64Image);
+        if (imageId != null && !imageId.isEmpty()) {
+            imageUrl = aiImageStorage.download(client, imageId, remaining(deadline));
         }
 
         // 3. 결과 반환
@@ -67,26 +219,46 @@ public class AiService {
                 .build();
     }
 
-    private String saveImage(String base64Image) {
-        try {
-            byte[] imageBytes = Base64.getDecoder().decode(base64Image);
-            String uuid = UUID.randomUUID().toString();
-            String fileName = uuid + ".jpg";
+    private AiServiceResult requestComment(AiCommentRequest request, Instant deadline) {
+        AiServerResponse response = aiServerPool.execute(client -> client.post()
+                .uri("/api/ai/comment")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(AiServerResponse.class)
+                .timeout(remaining(deadline))
+                .block());
 
-            File directory = new File(IMAGE_UPLOAD_DIR);
-            if (!directory.exists()) {
-                directory.mkdirs();
-            }
+        if (response == null) {
+            throw new RuntimeException("AI Server returned null response");
+        }
 
-            File outputFile = new File(IMAGE_UPLOAD_DIR + fileName);
-            try (FileOutputStream fos = new FileOutputStream(outputFile)) {
-                fos.write(imageBytes);
-            }
+        return AiServiceResult.builder()
+                .aiComment(response.getAiComment())
+                .emotion(request.getEmotion())
+                .recommendedFood(response.getRecommendedFood())
+                .imageUrl("")
+                .build();
+    }
 
-            return "/images/ai_generates/" + fileName;
+    private AiServerRequest preClassify(AiServerRequest request) {
+        if (!emotionClassifier.classifiesBeforeAnalysis() || request.getEmotion() != null) {
+            return request;
+        }
+        try {
+            String emotion = emotionClassifier.classify(request.getContent()).getEmotion();
+            return request.toBuilder().emotion(emotion).build();
+        } catch (RuntimeException e) {
+            // 사전 분류 실패 시 AI 서버가 분류하도록 그대로 전달
+            log.warn("Emotion pre-classification failed: {}", e.getMessage());
+            return request;
+        }
+    }
 
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to save AI image", e);
+    private Duration remaining(Instant deadline) {
+        Duration remaining = Duration.between(Instant.now(), deadline);
+        if (remaining.isNegative() || remaining.isZero()) {
+            throw new IllegalStateException("AI call time budget exceeded");
         }
+        return remaining;
     }
 }
@@ -1,11 +1,16 @@
 package com.p_project.p_project_backend.backend_user.service;
 
 import com.p_project.p_project_backend.backend_user.dto.auth.*;
+import com.p_project.p_project_backend.backend_user.service.code.VerificationCodeStore;
+import com.p_project.p_project_backend.backend_user.service.code.VerificationCodeStore.Purpose;
+import com.p_project.p_project_backend.backend_user.service.code.VerificationCodeStore.Result;
 import com.p_project.p_project_backend.exception.*;
 import com.p_project.p_project_backend.service.EmailService;
 import com.p_project.p_project_backend.entity.*;
 import com.p_project.p_project_backend.repository.*;
+import com.p_project.p_project_backend.security.JwtClaims;
 import com.p_project.p_project_backend.security.JwtTokenProvider;
+import com.p_project.p_project_backend.security.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -26,10 +31,10 @@ public class AuthService {
     private final UserRepository userRepository;
     private final AdminRepository adminRepository;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final EmailVerificationCodeRepository emailVerificationCodeRepository;
-    private final PasswordResetCodeRepository passwordResetCodeRepository;
+    private final VerificationCodeStore verificationCodeStore;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
      * 사용자 로그인
@@ -38,6 +43,7 @@ public class AuthService {
     public LoginResponse login(LoginRequest request) {
         User user = findActiveUser(request.getEmail());
         validatePassword(request.getPassword(), user.getPasswordHash());
+        rehashIfNeeded(user, request.getPassword());
 
         String accessToken = tokenProvider.createAccessToken(user.getEmail());
         String refreshToken = tokenProvider.createRefreshToken(user.getEmail());
@@ -69,7 +75,7 @@ public class AuthService {
         }
 
         String code = generateRandomCode();
-        saveVerificationCode(email, code);
+        verificationCodeStore.save(Purpose.EMAIL_VERIFICATION, email, code);
 
         log.info("Sent verification code to {}: {}", email, code);
         emailService.sendVerificationCode(email, code);
@@ -77,22 +83,12 @@ public class AuthService {
 
     /**
      * 이메일 인증 코드 검증
+     * 틀린 입력 횟수는 실패 응답과 함께 반영되어야 하므로 코드 예외로 롤백하지 않음
      */
-    @Transactional
+    @Transactional(noRollbackFor = { InvalidCodeException.class, CodeExpiredException.class })
     public void verifyEmailCode(String email, String code) {
-        EmailVerificationCode evc = emailVerificationCodeRepository.findTopByEmailOrderByCreatedAtDesc(email)
-                .orElseThrow(() -> new InvalidCodeException("Verification code not found"));
-
-        if (!evc.getCode().equals(code)) {
-            throw new InvalidCodeException("Invalid verification code");
-        }
-
-        if (evc.getExpiresAt().isBefore(LocalDateTime.now())) {
-            throw new CodeExpiredException("Verification code expired");
-        }
-
-        evc.setVerifiedAt(LocalDateTime.now());
-        emailVerificationCodeRepository.save(evc);
+        Result result = verificationCodeStore.verify(Purpose.EMAIL_VERIFICATION, email, code, null);
+        validateCodeResult(result, "Verification code");
     }
 
     /**
@@ -119,37 +115,19 @@ public class AuthService {
         }
 
         String code = generateRandomCode();
-        PasswordResetCode prc = PasswordResetCode.builder()
-                .email(email)
-                .code(code)
-                .expiresAt(LocalDateTime.now().plusMinutes(5))
-                .createdAt(LocalDateTime.now())
-                .build();
-        passwordResetCodeRepository.save(prc);
+        verificationCodeStore.save(Purpose.PASSWORD_RESET, email, code);
 
         emailService.sendPasswordResetCode(email, code);
     }
 
     /**
-     * 비밀번호 재설정 인증 코드 검증
+     * 비밀번호 재설정 인증 코드 검증 (성공 시 재설정 토큰 발급)
      */
-    @Transactional
+    @Transactional(noRollbackFor = { InvalidCodeException.class, CodeExpiredException.class })
     public String verifyPasswordResetCode(String email, String code) {
-        PasswordResetCode prc = passwordResetCodeRepository.findTopByEmailOrderByCreatedAtDesc(email)
-                .orElseThrow(() -> new InvalidCodeException("Reset code not found"));
-
-        if (!prc.getCode().equals(code)) {
-            throw new InvalidCodeException("Invalid reset code");
-        }
-
-        if (prc.getExpiresAt().isBefore(LocalDateTime.now())) {
-            throw new CodeExpiredException("Reset code expired");
-        }
-
         String resetToken = UUID.randomUUID().toString();
-        prc.setResetToken(resetToken);
-        passwordResetCodeRepository.save(prc);
-
+        Result result = verificationCodeStore.verify(Purpose.PASSWORD_RESET, email, code, resetToken);
+        validateCodeResult(result, "Reset code");
         return resetToken;
     }
 
@@ -162,48 +140,39 @@ public class AuthService {
             throw new IllegalArgumentException("Passwords do not match");
         }
 
-        PasswordResetCode prc = passwordResetCodeRepository.findTopByEmailOrderByCreatedAtDesc(request.getEmail())
-                .orElseThrow(() -> new InvalidCodeException("Reset code not found"));
+        User user = userRepository.findByEmail(request.getEmail())
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
-        if (prc.getResetToken() == null || !prc.getResetToken().equals(request.getResetToken())) {
+        if (!verificationCodeStore.consumeResetTicket(request.getEmail(), request.getResetToken())) {
             throw new IllegalArgumentException("Invalid reset token");
         }
 
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
         user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
-
-        prc.setUsedAt(LocalDateTime.now());
-        passwordResetCodeRepository.save(prc);
+        userPrincipalCache.evict(user.getEmail());
     }
 
     /**
-     * 토큰 갱신
+     * 토큰 갱신 (토큰 회전: 기존 토큰은 무효화하고 새 토큰 발급)
      */
     @Transactional
     public TokenResponse refreshToken(String refreshToken) {
-        if (!tokenProvider.validateToken(refreshToken)) {
+        JwtClaims claims = tokenProvider.parseToken(refreshToken);
+        if (claims == null) {
             throw new IllegalArgumentException("Invalid refresh token");
         }
 
-        RefreshToken rt = refreshTokenRepository.findByToken(refreshToken)
-                .orElseThrow(() -> new IllegalArgumentException("Refresh token not found"));
-
-        if (rt.getExpiresAt().isBefore(LocalDateTime.now())) {
-            refreshTokenRepository.delete(rt);
-            throw new IllegalArgumentException("Refresh token expired");
+        String tokenHash = JwtTokenProvider.hashToken(refreshToken);
+        // 조건부 UPDATE 한 번으로 확인과 무효화를 함께 처리 (없거나 이미 무효화/만료된 토큰이면 0, 동시 갱신 시 한 요청만 성공)
+        if (refreshTokenRepository.revokeActive(tokenHash, LocalDateTime.now()) == 0) {
+            throw new IllegalArgumentException("Refresh token not found");
         }
 
-        User user = rt.getUser();
+        User user = findActiveUser(claims.email());
         String newAccessToken = tokenProvider.createAccessToken(user.getEmail());
         String newRefreshToken = tokenProvider.createRefreshToken(user.getEmail());
-
-        rt.setToken(newRefreshToken);
-        rt.setExpiresAt(LocalDateTime.now().plusDays(7));
-        refreshTokenRepository.save(rt);
+        saveRefreshToken(user, newRefreshToken);
 
         return TokenResponse.builder()
                 .accessToken(newAccessToken)
@@ -212,12 +181,14 @@ public class AuthService {
     }
 
     /**
-     * 로그아웃
+     * 로그아웃 (리프레시 토큰 무효화)
      */
     @Transactional
     public void logout(String refreshToken) {
-        refreshTokenRepository.findByToken(refreshToken)
-                .ifPresent(refreshTokenRepository::delete);
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return;
+        }
+        refreshTokenRepository.revokeActive(JwtTokenProvider.hashToken(refreshToken), LocalDateTime.now());
     }
 
     // --- Private Helper Methods ---
@@ -238,10 +209,26 @@ public class AuthService {
         }
     }
 
+    /**
+     * 저장된 해시의 cost 가 현재 설정(security.bcrypt.strength)보다 낮으면 새 cost 로 다시 저장
+     * 해시 작업이 밀려 있으면 다음 로그인으로 미룸
+     */
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPasswordHash())) {
+            return;
+        }
+        try {
+            user.setPasswordHash(passwordEncoder.encode(rawPassword));
+            user.setUpdatedAt(LocalDateTime.now());
+        } catch (PasswordHashingBusyException e) {
+            log.debug("Skipped password rehash: userId={}", user.getId());
+        }
+    }
+
     private void saveRefreshToken(User user, String token) {
         RefreshToken rt = RefreshToken.builder()
                 .user(user)
-                .token(token)
+                .tokenHash(JwtTokenProvider.hashToken(token))
                 .expiresAt(LocalDateTime.now().plusDays(7))
                 .createdAt(LocalDateTime.now())
                 .build();
@@ -261,36 +248,37 @@ public class AuthService {
                 throw new IllegalArgumentException("Email already exists");
             } else {
                 // Hard delete existing soft-deleted user (Cascade will delete diaries)
-                emailVerificationCodeRepository.deleteByEmail(email);
-                passwordResetCodeRepository.deleteByEmail(email);
+                verificationCodeStore.removeAll(email);
                 userRepository.delete(existingUser.get());
                 userRepository.flush();
+                userPrincipalCache.evict(email);
                 log.info("Re-registration: Hard deleted existing user {}", email);
             }
         }
     }
 
-    private void saveVerificationCode(String email, String code) {
-        EmailVerificationCode evc = EmailVerificationCode.builder()
-                .email(email)
-                .code(code)
-                .expiresAt(LocalDateTime.now().plusMinutes(5))
-                .createdAt(LocalDateTime.now())
-                .build();
-        emailVerificationCodeRepository.save(evc);
-    }
-
     private void validateEmailVerified(String email, Boolean isVerifiedByClient) {
         if (Boolean.FALSE.equals(isVerifiedByClient)) { // Null safe check
-            EmailVerificationCode evc = emailVerificationCodeRepository
-                    .findTopByEmailOrderByCreatedAtDesc(email)
-                    .orElseThrow(() -> new IllegalArgumentException("Email verification required"));
-            if (evc.getVerifiedAt() == null) {
+            if (!verificationCodeStore.isEmailVerified(email)) {
                 throw new IllegalArgumentException("Email not verified");
             }
         }
     }
 
+    /**
+     * 코드 확인 결과를 예외로 변환 (시도 횟수 초과는 재발송이 필요하므로 만료와 같이 안내)
+     */
+    private void validateCodeResult(Result result, String label) {
+        switch (result) {
+            case VERIFIED -> {
+            }
+            case NOT_FOUND -> throw new InvalidCodeException(label + " not found");
+            case MISMATCH -> throw new InvalidCodeException("Invalid " + label.toLowerCase());
+            case EXPIRED -> throw new CodeExpiredException(label + " expired");
+            case TOO_MANY_ATTEMPTS -> throw new CodeExpiredException(label + " attempts exceeded");
+        }
+    }
+
     private User createUser(SignUpRequest request) {
         return User.builder()
                 .name(request.getName())
@@ -0,0 +1,83 @@
+package com.p_project.p_project_backend.backend_user.service;
+
+import com.p_project.p_project_backend.backend_user.dto.diary.DiaryAnalysisStatusResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * 일기 AI 분석 완료 알림 (SSE)
+ * 구독은 노드 로컬이며, 다른 노드에서 완료된 경우 클라이언트는 상태 조회 API로 확인
+ */
+@Slf4j
+@Component
+public class DiaryAnalysisNotifier {
+
+    private static final String EVENT_NAME = "analysis";
+
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+
+    public DiaryAnalysisNotifier(@Value("${ai.analysis.sse-timeout-ms:60000}") long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 분석 상태 구독 (현재 상태를 즉시 전송하고, 대기 중이면 완료 시점까지 유지)
+     */
+    public SseEmitter subscribe(Long diaryId, Supplier<DiaryAnalysisStatusResponse> currentStatus) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        List<SseEmitter> diaryEmitters = emitters.computeIfAbsent(diaryId, id -> new CopyOnWriteArrayList<>());
+        diaryEmitters.add(emitter);
+
+        emitter.onCompletion(() -> remove(diaryId, emitter));
+        emitter.onTimeout(() -> remove(diaryId, emitter));
+        emitter.onError(e -> remove(diaryId, emitter));
+
+        // 등록 후 현재 상태를 조회해야 그 사이에 완료된 분석을 놓치지 않음
+        DiaryAnalysisStatusResponse current = currentStatus.get();
+        send(emitter, current);
+        if (!"PENDING".equals(current.getStatus())) {
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    /**
+     * 분석 종료(완료/실패) 알림 전송
+     */
+    public void publish(DiaryAnalysisStatusResponse status) {
+        List<SseEmitter> diaryEmitters = emitters.remove(status.getDiaryId());
+        if (diaryEmitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : diaryEmitters) {
+            send(emitter, status);
+            emitter.complete();
+        }
+    }
+
+    private void send(SseEmitter emitter, DiaryAnalysisStatusResponse status) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(status));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Failed to send analysis event for diary {}: {}", status.getDiaryId(), e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(Long diaryId, SseEmitter emitter) {
+        emitters.computeIfPresent(diaryId, (id, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+}
@@ -0,0 +1,347 @@
+package com.p_project.p_project_backend.backend_user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.p_project.p_project_backend.backend_user.dto.ai.AiServerRequest;
+import com.p_project.p_project_backend.backend_user.dto.ai.AiServiceResult;
+import com.p_project.p_project_backend.backend_user.dto.diary.DiaryAnalysisStatusResponse;
+import com.p_project.p_project_backend.backend_user.repository.DiaryAnalysisJobRepository;
+import com.p_project.p_project_backend.backend_user.repository.DiaryRepository;
+import com.p_project.p_project_backend.entity.Diary;
+import com.p_project.p_project_backend.entity.Diary.AnalysisStatus;
+import com.p_project.p_project_backend.entity.Diary.Emotion;
+import com.p_project.p_project_backend.entity.DiaryAnalysisJob;
+import com.p_project.p_project_backend.entity.DiaryAnalysisJob.Status;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 일기 AI 분석 백그라운드 처리 서비스
+ * 작업은 DB(diary_analysis_jobs)에 기록되어 재시작 후에도 이어서 처리됨
+ */
+@Slf4j
+@Service
+public class DiaryAnalysisService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final DiaryAnalysisJobRepository jobRepository;
+    private final DiaryRepository diaryRepository;
+    private final AiService aiService;
+    private final DiaryAnalysisNotifier notifier;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final DiaryCalendarCache diaryCalendarCache;
+    private final ThreadPoolTaskExecutor executor;
+    private final Semaphore workerSlots;
+    private final int maxAttempts;
+    private final long backoffInitialMillis;
+    private final long backoffMaxMillis;
+    private final long runningTimeoutMillis;
+
+    public DiaryAnalysisService(
+            DiaryAnalysisJobRepository jobRepository,
+            DiaryRepository diaryRepository,
+            AiService aiService,
+            DiaryAnalysisNotifier notifier,
+            ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate,
+            DiaryCalendarCache diaryCalendarCache,
+            @Qualifier("diaryAnalysisExecutor") ThreadPoolTaskExecutor executor,
+            @Value("${ai.analysis.concurrency:4}") int concurrency,
+            @Value("${ai.analysis.max-attempts:5}") int maxAttempts,
+            @Value("${ai.analysis.backoff-initial-ms:2000}") long backoffInitialMillis,
+            @Value("${ai.analysis.backoff-max-ms:300000}") long backoffMaxMillis,
+            @Value("${ai.analysis.running-timeout-ms:300000}") long runningTimeoutMillis) {
+        this.jobRepository = jobRepository;
+        this.diaryRepository = diaryRepository;
+        this.aiService = aiService;
+        this.notifier = notifier;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.diaryCalendarCache = diaryCalendarCache;
+        this.executor = executor;
+        this.workerSlots = new Semaphore(concurrency);
+        this.maxAttempts = maxAttempts;
+        this.backoffInitialMillis = backoffInitialMillis;
+        this.backoffMaxMillis = backoffMaxMillis;
+        this.runningTimeoutMillis = runningTimeoutMillis;
+    }
+
+    /**
+     * 분석 작업 등록 (일기 저장 트랜잭션 안에서 호출, 커밋 후 즉시 처리 시도)
+     */
+    public void enqueue(Diary diary) {
+        LocalDateTime now = LocalDateTime.now();
+        jobRepository.save(DiaryAnalysisJob.builder()
+                .diary(diary)
+                .status(Status.PENDING)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatchDueJobs();
+                }
+            });
+        }
+    }
+
+    /**
+     * 실행 시각이 도래한 작업을 빈 워커 슬롯만큼 선점하여 실행
+     */
+    @Scheduled(fixedDelayString = "${ai.analysis.poll-interval-ms:1000}")
+    public void dispatchDueJobs() {
+        int freeSlots = workerSlots.availablePermits();
+        if (freeSlots == 0) {
+            return;
+        }
+
+        List<Long> jobIds = jobRepository.findDueJobIds(Status.PENDING, LocalDateTime.now(),
+                PageRequest.of(0, freeSlots));
+
+        for (Long jobId : jobIds) {
+            if (!workerSlots.tryAcquire()) {
+                return;
+            }
+            if (!transition(jobId, Status.PENDING, Status.RUNNING)) {
+                workerSlots.release();
+                continue;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        runJob(jobId);
+                    } finally {
+                        workerSlots.release();
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                workerSlots.release();
+                transition(jobId, Status.RUNNING, Status.PENDING);
+            }
+        }
+    }
+
+    /**
+     * 서버 재시작/장애로 실행 중 상태에 멈춘 작업 복구
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${ai.analysis.recovery-interval-ms:60000}")
+    public void recoverStaleJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        Integer recovered = transactionTemplate.execute(status -> jobRepository.resetStaleJobs(
+                Status.RUNNING, Status.PENDING, now.minusNanos(runningTimeoutMillis * 1_000_000L), now));
+        if (recovered != null && recovered > 0) {
+            log.info("Recovered {} stale diary analysis jobs", recovered);
+        }
+    }
+
+    /**
+     * 분석 상태 응답 생성
+     */
+    public DiaryAnalysisStatusResponse buildStatusResponse(Diary diary) {
+        AnalysisStatus status = diary.getAnalysisStatus() != null ? diary.getAnalysisStatus()
+                : AnalysisStatus.COMPLETED;
+        boolean completed = status == AnalysisStatus.COMPLETED;
+
+        return DiaryAnalysisStatusResponse.builder()
+                .diaryId(diary.getId())
+                .status(status.name())
+                .emotion(completed ? diary.getEmotion().name() : null)
+                .aiComment(completed ? diary.getAiComment() : null)
+                .recommendedFood(completed ? convertFromJson(diary.getRecommendedFood()) : null)
+                .imageUrl(completed ? diary.getImageUrl() : null)
+                .build();
+    }
+
+    // --- Helper Methods ---
+
+    private void runJob(Long jobId) {
+        AnalysisTarget target = transactionTemplate.execute(status -> loadTarget(jobId));
+        if (target == null) {
+            return;
+        }
+
+        AiServiceResult aiResult;
+        try {
+            aiResult = aiService.analyzeDiary(target.request());
+        } catch (RuntimeException e) {
+            log.warn("Diary analysis failed: jobId={}, diaryId={}, reason={}", jobId, target.diaryId(),
+                    e.getMessage());
+            DiaryAnalysisStatusResponse failed = transactionTemplate.execute(
+                    status -> recordFailure(jobId, target.diaryId(), e));
+            if (failed != null) {
+                notifier.publish(failed);
+            }
+            return;
+        }
+
+        if (aiResult.isFallback() && target.attempts() + 1 < maxAttempts) {
+            // AI 서버 장애로 대체 결과가 반환된 경우 재시도 기회가 남아 있으면 대체 결과를 반영하지 않고 재시도
+            transactionTemplate.execute(status -> recordFailure(jobId, target.diaryId(),
+                    new IllegalStateException("AI Server unavailable, fallback result returned")));
+            return;
+        }
+
+        DiaryAnalysisStatusResponse completed;
+        try {
+            completed = transactionTemplate.execute(status -> applyResult(jobId, target.diaryId(), aiResult));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // 반영 중 사용자 수정이 먼저 반영된 경우, 다음 시도에서 상태를 다시 확인
+            aiService.discardResult(aiResult);
+            transactionTemplate.execute(status -> recordFailure(jobId, target.diaryId(), e));
+            return;
+        }
+        if (completed != null) {
+            notifier.publish(completed);
+        } else {
+            // 분석 중 일기가 삭제되었거나 동기 재분석으로 대체된 경우
+            aiService.discardResult(aiResult);
+        }
+    }
+
+    private AnalysisTarget loadTarget(Long jobId) {
+        DiaryAnalysisJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return null;
+        }
+
+        Diary diary = job.getDiary();
+        if (diary.getAnalysisStatus() != AnalysisStatus.PENDING) {
+            completeJob(job, Status.SUCCEEDED, null);
+            return null;
+        }
+
+        AiServerRequest request = AiServerRequest.builder()
+                .content(diary.getContent())
+                .weather(diary.getWeather())
+                .persona(diary.getPersona())
+                .gender(diary.getUser().getGender())
+                .build();
+        return new AnalysisTarget(diary.getId(), request, job.getAttempts());
+    }
+
+    private DiaryAnalysisStatusResponse applyResult(Long jobId, Long diaryId, AiServiceResult aiResult) {
+        DiaryAnalysisJob job = jobRepository.findById(jobId).orElse(null);
+        Diary diary = diaryRepository.findById(diaryId).orElse(null);
+        if (job == null || diary == null) {
+            return null;
+        }
+
+        if (diary.getAnalysisStatus() != AnalysisStatus.PENDING) {
+            completeJob(job, Status.SUCCEEDED, null);
+            return null;
+        }
+
+        diary.setEmotion(Emotion.valueOf(aiResult.getEmotion()));
+        diary.setEmotionModelVersion(aiResult.getEmotionModelVersion());
+        diary.setAiComment(aiResult.getAiComment());
+        diary.setRecommendedFood(convertToJson(aiResult.getRecommendedFood()));
+        diary.setImageUrl(aiResult.getImageUrl());
+        diary.setAnalysisTier(aiResult.getTier());
+        diary.setAnalysisStatus(AnalysisStatus.COMPLETED);
+        diary.setUpdatedAt(LocalDateTime.now());
+        diaryCalendarCache.evict(diary.getUser().getId(), diary.getDate());
+
+        completeJob(job, Status.SUCCEEDED, null);
+        return buildStatusResponse(diary);
+    }
+
+    private DiaryAnalysisStatusResponse recordFailure(Long jobId, Long diaryId, Exception cause) {
+        DiaryAnalysisJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return null;
+        }
+
+        String error = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+
+        int attempts = job.getAttempts() + 1;
+        if (attempts < maxAttempts) {
+            job.setAttempts(attempts);
+            job.setStatus(Status.PENDING);
+            job.setNextAttemptAt(LocalDateTime.now().plusNanos(calculateBackoffMillis(attempts) * 1_000_000L));
+            job.setLastError(error);
+            job.setUpdatedAt(LocalDateTime.now());
+            return null;
+        }
+
+        completeJob(job, Status.FAILED, error);
+        return diaryRepository.findById(diaryId)
+                .filter(diary -> diary.getAnalysisStatus() == AnalysisStatus.PENDING)
+                .map(diary -> {
+                    diary.setAnalysisStatus(AnalysisStatus.FAILED);
+                    diary.setUpdatedAt(LocalDateTime.now());
+                    return buildStatusResponse(diary);
+                })
+                .orElse(null);
+    }
+
+    private void completeJob(DiaryAnalysisJob job, Status status, String error) {
+        job.setAttempts(job.getAttempts() + 1);
+        job.setStatus(status);
+        job.setLastError(error);
+        job.setUpdatedAt(LocalDateTime.now());
+    }
+
+    private boolean transition(Long jobId, Status from, Status to) {
+        Integer updated = transactionTemplate.execute(
+                status -> jobRepository.transitionStatus(jobId, from, to, LocalDateTime.now()));
+        return updated != null && updated > 0;
+    }
+
+    /**
+     * 지수 백오프 (+-20% 지터)
+     */
+    private long calculateBackoffMillis(int attempts) {
+        long base = backoffInitialMillis << Math.min(attempts - 1, 20);
+        long capped = Math.min(base, backoffMaxMillis);
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return (long) (capped * jitter);
+    }
+
+    private String convertToJson(Object object) {
+        try {
+            return objectMapper.writeValueAsString(object);
+        } catch (Exception e) {
+            throw new RuntimeException("JSON conversion failed", e);
+        }
+    }
+
+    private Object convertFromJson(String json) {
+        if (json == null || json.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, Object.class);
+        } catch (Exception e) {
+            throw new RuntimeException("JSON parsing failed", e);
+        }
+    }
+
+    private record AnalysisTarget(Long diaryId, AiServerRequest request, int attempts) {
+    }
+}
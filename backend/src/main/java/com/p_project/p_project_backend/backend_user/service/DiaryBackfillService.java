@@ -0,0 +1,185 @@
+package com.p_project.p_project_backend.backend_user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.p_project.p_project_backend.backend_user.dto.ai.AiServerRequest;
+import com.p_project.p_project_backend.backend_user.dto.ai.AiServiceResult;
+import com.p_project.p_project_backend.backend_user.repository.DiaryRepository;
+import com.p_project.p_project_backend.backend_user.service.ai.AiDegradationController;
+import com.p_project.p_project_backend.entity.Diary;
+import com.p_project.p_project_backend.entity.Diary.AnalysisStatus;
+import com.p_project.p_project_backend.entity.Diary.AnalysisTier;
+import com.p_project.p_project_backend.entity.Diary.Emotion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 부하로 생략된 AI 분석 백필 서비스
+ * AI 부하가 정상(FULL 단계)일 때만 생략된 이미지/피드백을 다시 생성하여 채움 (이미 저장된 분석 결과는 유지)
+ * ID 커서로 대상을 순회하므로 계속 실패하는 일기가 있어도 다음 일기로 진행 (끝까지 돌면 처음부터 다시 순회)
+ */
+@Slf4j
+@Service
+public class DiaryBackfillService {
+
+    private static final List<AnalysisTier> DEGRADED_TIERS = List.of(
+            AnalysisTier.NO_IMAGE, AnalysisTier.NO_FEEDBACK, AnalysisTier.CLASSIFICATION_ONLY);
+
+    private final DiaryRepository diaryRepository;
+    private final AiService aiService;
+    private final AiDegradationController degradationController;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final DiaryCalendarCache diaryCalendarCache;
+    private final boolean enabled;
+    private final int batchSize;
+    // 마지막으로 처리한 일기 ID (이 노드의 순회 위치, 스케줄러 스레드에서만 변경)
+    private volatile long cursor;
+
+    public DiaryBackfillService(
+            DiaryRepository diaryRepository,
+            AiService aiService,
+            AiDegradationController degradationController,
+            ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate,
+            DiaryCalendarCache diaryCalendarCache,
+            @Value("${ai.degrade.backfill.enabled:true}") boolean enabled,
+            @Value("${ai.degrade.backfill.batch-size:5}") int batchSize) {
+        this.diaryRepository = diaryRepository;
+        this.aiService = aiService;
+        this.degradationController = degradationController;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.diaryCalendarCache = diaryCalendarCache;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 생략된 분석 백필 (오래된 일기부터 batch-size 건씩)
+     */
+    @Scheduled(fixedDelayString = "${ai.degrade.backfill.interval-ms:60000}")
+    public void backfill() {
+        if (!enabled || degradationController.currentTier() != AnalysisTier.FULL) {
+            return;
+        }
+
+        List<Long> diaryIds = diaryRepository.findIdsByAnalysisTierIn(DEGRADED_TIERS, cursor,
+                PageRequest.of(0, batchSize));
+        for (Long diaryId : diaryIds) {
+            // 백필 도중 부하가 다시 올라가면 중단 (사용자 요청 우선, 남은 일기는 다음 실행에서 이어서 처리)
+            if (degradationController.currentTier() != AnalysisTier.FULL) {
+                return;
+            }
+            backfillDiary(diaryId);
+            cursor = diaryId;
+        }
+        if (diaryIds.size() < batchSize) {
+            // 끝까지 순회함 -> 실패했던 일기는 다음 순회에서 다시 시도
+            cursor = 0;
+        }
+    }
+
+    // --- Helper Methods ---
+
+    private void backfillDiary(Long diaryId) {
+        BackfillTarget target = transactionTemplate.execute(status -> loadTarget(diaryId));
+        if (target == null) {
+            return;
+        }
+
+        AiServiceResult aiResult;
+        try {
+            aiResult = aiService.analyzeDiary(target.request());
+        } catch (RuntimeException e) {
+            log.warn("Diary analysis backfill failed: diaryId={}, reason={}", diaryId, e.getMessage());
+            return;
+        }
+
+        if (aiResult.isFallback() || aiResult.getTier() != AnalysisTier.FULL) {
+            aiService.discardResult(aiResult);
+            return;
+        }
+
+        Boolean applied;
+        try {
+            applied = transactionTemplate.execute(status -> applyResult(diaryId, target, aiResult));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            applied = false;
+        }
+        if (!Boolean.TRUE.equals(applied)) {
+            // 분석 중 일기가 수정/삭제된 경우
+            aiService.discardResult(aiResult);
+        }
+    }
+
+    private BackfillTarget loadTarget(Long diaryId) {
+        Diary diary = diaryRepository.findById(diaryId).orElse(null);
+        if (diary == null || !isBackfillable(diary)) {
+            return null;
+        }
+
+        // 감정이 이미 분류된 일기는 그 감정으로 피드백/이미지를 생성 (감정 분석 생략)
+        String emotion = diary.getAnalysisTier() != AnalysisTier.CLASSIFICATION_ONLY
+                ? diary.getEmotion().name()
+                : null;
+        AiServerRequest request = AiServerRequest.builder()
+                .content(diary.getContent())
+                .weather(diary.getWeather())
+                .persona(diary.getPersona())
+                .gender(diary.getUser().getGender())
+                .emotion(emotion)
+                .build();
+        return new BackfillTarget(request, diary.getUpdatedAt());
+    }
+
+    private boolean applyResult(Long diaryId, BackfillTarget target, AiServiceResult aiResult) {
+        Diary diary = diaryRepository.findById(diaryId).orElse(null);
+        if (diary == null || !isBackfillable(diary)
+                || !Objects.equals(diary.getUpdatedAt(), target.updatedAt())) {
+            return false;
+        }
+
+        // 생략된 단계의 결과만 채움 (NO_IMAGE: 이미지, NO_FEEDBACK: 피드백 + 이미지, CLASSIFICATION_ONLY: 전체)
+        // 감정은 분류만 수행했거나 대체 감정이 저장된 CLASSIFICATION_ONLY 일기에서만 갱신
+        AnalysisTier skippedTier = diary.getAnalysisTier();
+        if (skippedTier == AnalysisTier.CLASSIFICATION_ONLY) {
+            diary.setEmotion(Emotion.valueOf(aiResult.getEmotion()));
+            diary.setEmotionModelVersion(aiResult.getEmotionModelVersion());
+            diaryCalendarCache.evict(diary.getUser().getId(), diary.getDate());
+        }
+        if (skippedTier != AnalysisTier.NO_IMAGE) {
+            diary.setAiComment(aiResult.getAiComment());
+            diary.setRecommendedFood(convertToJson(aiResult.getRecommendedFood()));
+        }
+        diary.setImageUrl(aiResult.getImageUrl());
+        diary.setAnalysisTier(AnalysisTier.FULL);
+        // 시스템 백필은 사용자 수정이 아니므로 updatedAt 은 갱신하지 않음
+        return true;
+    }
+
+    private boolean isBackfillable(Diary diary) {
+        return diary.getDeletedAt() == null
+                && DEGRADED_TIERS.contains(diary.getAnalysisTier())
+                && (diary.getAnalysisStatus() == null || diary.getAnalysisStatus() == AnalysisStatus.COMPLETED);
+    }
+
+    private String convertToJson(Object object) {
+        try {
+            return objectMapper.writeValueAsString(object);
+        } catch (Exception e) {
+            throw new RuntimeException("JSON conversion failed", e);
+        }
+    }
+
+    private record BackfillTarget(AiServerRequest request, LocalDateTime updatedAt) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.p_project.p_project_backend.backend_user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.p_project.p_project_backend.backend_user.dto.diary.DiaryMonthlyResponse;
+import com.p_project.p_project_backend.backend_user.dto.diary.DiarySummaryResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * 월별 캘린더 응답 캐시 ((사용자, 연월) -> 응답 + ETag)
+ * 일기 작성/수정/삭제, 분석 결과 반영 시 해당 월을 evict 로 무효화 (다른 노드는 TTL 이 지나면 반영)
+ * 크기는 월별 일기 수를 가중치로 제한하며, 적중률은 diary.calendar.cache 메트릭으로 확인
+ */
+@Component
+public class DiaryCalendarCache {
+
+    private final Cache<Key, CalendarMonth> cache;
+
+    public DiaryCalendarCache(
+            MeterRegistry meterRegistry,
+            @Value("${diary.calendar-cache.ttl-ms:600000}") long ttlMillis,
+            @Value("${diary.calendar-cache.max-weight:1000000}") long maxWeight) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                // 빈 달도 키와 응답 객체를 차지하므로 최소 1
+                .<Key, CalendarMonth>weigher((key, month) -> 1 + month.response().getDiaries().size())
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "diary.calendar.cache");
+    }
+
+    /**
+     * 캐시된 월별 응답 조회 (없으면 loader 로 조회 후 ETag 계산하여 저장)
+     */
+    public CalendarMonth get(Long userId, int year, int month, Supplier<DiaryMonthlyResponse> loader) {
+        return cache.get(new Key(userId, YearMonth.of(year, month)), key -> {
+            DiaryMonthlyResponse response = loader.get();
+            return new CalendarMonth(response, etagOf(key, response));
+        });
+    }
+
+    /**
+     * 일기 날짜가 속한 월 무효화
+     * 트랜잭션 안에서 호출되면 커밋 후 한 번 더 무효화 (커밋 전 다른 요청이 이전 값을 다시 캐시하는 경우 방지)
+     */
+    public void evict(Long userId, LocalDate date) {
+        Key key = new Key(userId, YearMonth.from(date));
+        cache.invalidate(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(key);
+                }
+            });
+        }
+    }
+
+    // --- Helper Methods ---
+
+    private String etagOf(Key key, DiaryMonthlyResponse response) {
+        StringBuilder source = new StringBuilder()
+                .append(key.userId()).append(':').append(key.yearMonth());
+        for (DiarySummaryResponse diary : response.getDiaries()) {
+            source.append(';').append(diary.getId()).append(',').append(diary.getDate())
+                    .append(',').append(diary.getEmotion());
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(hash) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Key(Long userId, YearMonth yearMonth) {
+    }
+
+    /**
+     * 캐시된 월별 응답과 ETag (응답 내용의 SHA-256, 따옴표 포함)
+     */
+    public record CalendarMonth(DiaryMonthlyResponse response, String etag) {
+    }
+}
@@ -0,0 +1,263 @@
+package com.p_project.p_project_backend.backend_user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.p_project.p_project_backend.backend_user.dto.ai.AiServerRequest;
+import com.p_project.p_project_backend.backend_user.dto.ai.AiServiceResult;
+import com.p_project.p_project_backend.backend_user.dto.diary.DiaryDraftAnalysisRequest;
+import com.p_project.p_project_backend.backend_user.dto.diary.DiaryDraftAnalysisResponse;
+import com.p_project.p_project_backend.backend_user.service.ai.AiDegradationController;
+import com.p_project.p_project_backend.backend_user.service.ai.AiResultCache;
+import com.p_project.p_project_backend.entity.Diary.AnalysisTier;
+import com.p_project.p_project_backend.entity.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 작성 중인 일기 사전 분석 서비스
+ * 사용자가 입력을 멈추면 클라이언트가 초안을 보내고, debounce-ms 동안 새 초안이 없을 때만 분석 시작
+ * 사용자별 최신 초안 하나만 유지하며 결과는 분석 입력 해시(AiResultCache 키)와 함께 보관
+ * 일기 저장 시 해시가 같으면 저장된 결과를 바로 반영하여 분석 대기 없이 완료
+ */
+@Slf4j
+@Service
+public class DiaryDraftAnalysisService implements DisposableBean {
+
+    private static final String METRIC_NAME = "ai.draft.results";
+
+    private final AiService aiService;
+    private final AiResultCache aiResultCache;
+    private final AiDegradationController degradationController;
+    private final ThreadPoolTaskExecutor executor;
+    private final ScheduledThreadPoolExecutor debouncer;
+    private final boolean enabled;
+    private final long debounceMillis;
+    private final ConcurrentMap<Long, DraftState> drafts = new ConcurrentHashMap<>();
+    private final Cache<Long, DraftResult> results;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter superseded;
+
+    public DiaryDraftAnalysisService(
+            AiService aiService,
+            AiResultCache aiResultCache,
+            AiDegradationController degradationController,
+            @Qualifier("draftAnalysisExecutor") ThreadPoolTaskExecutor executor,
+            MeterRegistry meterRegistry,
+            @Value("${ai.draft.enabled:true}") boolean enabled,
+            @Value("${ai.draft.debounce-ms:1500}") long debounceMillis,
+            @Value("${ai.draft.result-ttl-ms:1800000}") long resultTtlMillis,
+            @Value("${ai.draft.max-results:10000}") long maxResults) {
+        this.aiService = aiService;
+        this.aiResultCache = aiResultCache;
+        this.degradationController = degradationController;
+        this.executor = executor;
+        this.enabled = enabled;
+        this.debounceMillis = debounceMillis;
+
+        this.debouncer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "draft-debounce");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 새 초안으로 취소된 예약은 즉시 큐에서 제거
+        this.debouncer.setRemoveOnCancelPolicy(true);
+
+        // 저장에 쓰이지 않고 만료/교체된 결과의 이미지는 정리
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maxResults)
+                .expireAfterWrite(Duration.ofMillis(resultTtlMillis))
+                .<Long, DraftResult>removalListener((userId, draft, cause) -> {
+                    if (draft != null && draft.claim()) {
+                        aiService.discardResult(draft.result());
+                    }
+                })
+                .build();
+
+        this.hits = Counter.builder(METRIC_NAME).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(METRIC_NAME).tag("result", "miss").register(meterRegistry);
+        this.superseded = Counter.builder("ai.draft.superseded").register(meterRegistry);
+    }
+
+    /**
+     * 초안 사전 분석 요청 (사용자별 debounce, 이전 초안의 대기/진행 중인 분석은 취소)
+     */
+    public DiaryDraftAnalysisResponse submit(User user, DiaryDraftAnalysisRequest request) {
+        // 부하가 있을 때는 추측성 분석을 하지 않음 (저장 시 일반 분석으로 처리)
+        if (!enabled || degradationController.currentTier() != AnalysisTier.FULL) {
+            return response("SKIPPED");
+        }
+
+        AiServerRequest aiRequest = buildAiRequest(user, request);
+        String key = aiResultCache.keyOf(aiRequest);
+
+        DraftResult ready = results.getIfPresent(user.getId());
+        if (ready != null && ready.key().equals(key)) {
+            return response("READY");
+        }
+
+        drafts.compute(user.getId(), (userId, current) -> {
+            if (current != null && current.key().equals(key)) {
+                return current;
+            }
+            if (current != null) {
+                current.cancel();
+            }
+            DraftState next = new DraftState(key, aiRequest);
+            next.schedule(debouncer.schedule(() -> dispatch(userId, next), debounceMillis, TimeUnit.MILLISECONDS));
+            return next;
+        });
+        return response("SCHEDULED");
+    }
+
+    /**
+     * 일기 저장 시 사전 분석 결과 사용 (입력 해시가 같을 때만 반환, 한 번만 사용 가능)
+     * 남아 있는 초안 분석은 취소하며, 같은 입력으로 진행 중이던 분석은 결과 캐시에 남아 백그라운드 분석이 재사용
+     */
+    public Optional<AiServiceResult> takeResult(User user, AiServerRequest request) {
+        String key = aiResultCache.keyOf(request);
+
+        DraftState pending = drafts.get(user.getId());
+        if (pending != null) {
+            // 분석 스레드가 폐기 여부를 판단하기 전에 먼저 표시
+            pending.keepResult = pending.key().equals(key);
+            pending.cancel();
+            drafts.remove(user.getId(), pending);
+        }
+
+        DraftResult ready = results.getIfPresent(user.getId());
+        if (ready != null && ready.key().equals(key) && ready.claim()) {
+            results.invalidate(user.getId());
+            hits.increment();
+            return Optional.of(ready.result());
+        }
+
+        // 저장 내용과 다른 초안 결과는 더 이상 쓸 일이 없음
+        results.invalidate(user.getId());
+        misses.increment();
+        return Optional.empty();
+    }
+
+    @Override
+    public void destroy() {
+        debouncer.shutdownNow();
+    }
+
+    // --- Helper Methods ---
+
+    private void dispatch(Long userId, DraftState state) {
+        if (drafts.get(userId) != state) {
+            return;
+        }
+        try {
+            executor.execute(() -> analyze(userId, state));
+        } catch (RejectedExecutionException e) {
+            // 사전 분석은 최선 노력(best-effort)이므로 슬롯이 없으면 포기
+            drafts.remove(userId, state);
+        }
+    }
+
+    private void analyze(Long userId, DraftState state) {
+        if (state.cancelled) {
+            return;
+        }
+
+        AiServiceResult result;
+        try {
+            result = aiService.analyzeDiary(state.request());
+        } catch (RuntimeException e) {
+            log.debug("Draft analysis failed: userId={}, reason={}", userId, e.getMessage());
+            drafts.remove(userId, state);
+            return;
+        }
+
+        // 분석 중 새 초안이 들어왔거나 일기가 저장된 경우 결과 폐기
+        if (!drafts.remove(userId, state)) {
+            superseded.increment();
+            if (!state.keepResult) {
+                aiService.discardResult(result);
+            }
+            return;
+        }
+        if (result.isFallback()) {
+            return;
+        }
+        results.put(userId, new DraftResult(state.key(), result, new AtomicBoolean()));
+    }
+
+    private AiServerRequest buildAiRequest(User user, DiaryDraftAnalysisRequest request) {
+        return AiServerRequest.builder()
+                .content(request.getContent())
+                .weather(request.getWeather())
+                .persona(user.getPersona())
+                .gender(user.getGender())
+                .build();
+    }
+
+    private DiaryDraftAnalysisResponse response(String status) {
+        return DiaryDraftAnalysisResponse.builder()
+                .status(status)
+                .build();
+    }
+
+    /**
+     * 사용자별 최신 초안 (대기 중이거나 분석 중)
+     * 진행 중인 AI 호출은 다른 요청과 병합되어 있을 수 있으므로 중단하지 않고, 끝난 뒤 결과만 폐기
+     */
+    private static final class DraftState {
+        private final String key;
+        private final AiServerRequest request;
+        private ScheduledFuture<?> scheduled;
+        private volatile boolean cancelled;
+        private volatile boolean keepResult;
+
+        private DraftState(String key, AiServerRequest request) {
+            this.key = key;
+            this.request = request;
+        }
+
+        private String key() {
+            return key;
+        }
+
+        private AiServerRequest request() {
+            return request;
+        }
+
+        private synchronized void schedule(ScheduledFuture<?> future) {
+            this.scheduled = future;
+        }
+
+        private synchronized void cancel() {
+            cancelled = true;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * 분석 완료된 초안 결과 (claimed: 저장에 사용되었거나 폐기됨)
+     */
+    private record DraftResult(String key, AiServiceResult result, AtomicBoolean claimed) {
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.p_project.p_project_backend.backend_user.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.p_project.p_project_backend.backend_user.dto.ai.AiCommentRequest;
 import com.p_project.p_project_backend.backend_user.dto.ai.AiServerRequest;
 import com.p_project.p_project_backend.backend_user.dto.ai.AiServiceResult;
+import com.p_project.p_project_backend.backend_user.dto.diary.DiaryAnalysisStatusResponse;
 import com.p_project.p_project_backend.backend_user.dto.diary.DiaryCreateRequest;
 import com.p_project.p_project_backend.backend_user.dto.diary.DiaryUpdateRequest;
 import com.p_project.p_project_backend.backend_user.dto.diary.DiaryMonthlyResponse;
@@ -10,20 +12,37 @@ import com.p_project.p_project_backend.backend_user.dto.diary.DiaryResponse;
 import com.p_project.p_project_backend.backend_user.dto.diary.DiarySearchResponse;
 import com.p_project.p_project_backend.backend_user.dto.diary.DiarySummaryResponse;
 import com.p_project.p_project_backend.backend_user.repository.DiaryActivityRepository;
+import com.p_project.p_project_backend.backend_user.repository.DiaryCalendarView;
 import com.p_project.p_project_backend.backend_user.repository.DiaryImageRepository;
 import com.p_project.p_project_backend.backend_user.repository.DiaryRepository;
+import com.p_project.p_project_backend.backend_user.repository.DiarySearchRepository;
+import com.p_project.p_project_backend.backend_user.repository.DiarySearchView;
+import com.p_project.p_project_backend.backend_user.service.ai.AiCancellation;
 import com.p_project.p_project_backend.entity.Diary;
+import com.p_project.p_project_backend.entity.Diary.AnalysisStatus;
+import com.p_project.p_project_backend.entity.Diary.AnalysisTier;
 import com.p_project.p_project_backend.entity.Diary.Emotion;
 import com.p_project.p_project_backend.entity.DiaryActivity;
 import com.p_project.p_project_backend.entity.DiaryImage;
 import com.p_project.p_project_backend.entity.User;
+import com.p_project.p_project_backend.exception.DiaryEditSupersededException;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,53 +50,148 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class DiaryService {
 
+    private static final String DUPLICATE_DIARY_MESSAGE = "이미 해당 날짜에 작성된 일기가 있습니다. 기존 일기를 수정해주세요.";
+    private static final String EDIT_SUPERSEDED_MESSAGE = "더 최근의 수정 요청이 있어 이 요청은 반영되지 않았습니다.";
+    private static final String DUPLICATE_DIARY_INDEX = "idx_diaries_user_date";
+    private static final int MAX_APPLY_ATTEMPTS = 3;
+
     private final DiaryRepository diaryRepository;
+    private final DiarySearchRepository diarySearchRepository;
     private final AiService aiService;
+    private final DiaryAnalysisService diaryAnalysisService;
+    private final DiaryDraftAnalysisService diaryDraftAnalysisService;
     private final DiaryActivityRepository diaryActivityRepository;
     private final DiaryImageRepository diaryImageRepository;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final DiaryCalendarCache diaryCalendarCache;
+    // 일기별 진행 중인 수정 분석 (새 수정 요청이 오면 취소)
+    private final ConcurrentMap<Long, AiCancellation> inFlightEdits = new ConcurrentHashMap<>();
 
     /**
-     * 일기 작성 및 AI 분석 요청
+     * 일기 작성 (즉시 저장 후 AI 분석은 백그라운드 작업으로 처리)
+     * 작성 중 사전 분석한 결과가 저장 내용과 일치하면 바로 반영하여 분석 완료 상태로 저장
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DiaryResponse createDiary(User user, DiaryCreateRequest request) {
-        validateDuplicateDiary(user, request.getDate());
-
-        AiServiceResult aiResult = analyzeDiaryContent(user, request.getContent(), request.getWeather());
-        Diary diary = buildDiaryEntity(user, request, aiResult);
-        Diary savedDiary = diaryRepository.save(diary);
+        AiServiceResult precomputed = diaryDraftAnalysisService
+                .takeResult(user, buildAiRequest(user, request.getContent(), request.getWeather()))
+                .orElse(null);
 
-        saveDiaryContents(savedDiary, request.getActivities(), request.getImages());
-
-        return buildDiaryResponse(savedDiary, request.getActivities(), request.getImages());
+        try {
+            return transactionTemplate.execute(status -> {
+                validateDuplicateDiary(user, request.getDate());
+
+                Diary diary = buildDiaryEntity(user, request);
+                if (precomputed != null) {
+                    applyPrecomputedResult(diary, precomputed);
+                }
+                Diary savedDiary = diaryRepository.save(diary);
+                saveDiaryContents(savedDiary, request.getActivities(), request.getImages());
+                diaryCalendarCache.evict(user.getId(), savedDiary.getDate());
+                if (precomputed == null) {
+                    diaryAnalysisService.enqueue(savedDiary);
+                }
+
+                return buildDiaryResponse(savedDiary, request.getActivities(), request.getImages());
+            });
+        } catch (DataIntegrityViolationException e) {
+            aiService.discardResult(precomputed);
+            // 동시 요청이 같은 날짜의 일기를 먼저 저장한 경우만 중복으로 안내 (다른 제약 위반은 그대로 전달)
+            if (isDuplicateDiaryViolation(e)) {
+                throw new IllegalArgumentException(DUPLICATE_DIARY_MESSAGE);
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            aiService.discardResult(precomputed);
+            throw e;
+        }
     }
 
     /**
      * 일기 수정 (내용 변경 시 AI 재분석)
+     * AI 재분석은 트랜잭션 밖에서 수행하고, 반영은 짧은 트랜잭션으로 처리
+     * 연속 수정 시 가장 최근 요청만 반영하며, 이전 요청의 진행 중인 분석은 취소
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DiaryResponse updateDiary(User user, Long diaryId, DiaryUpdateRequest request) {
-        Diary diary = getOwnedDiary(user, diaryId);
+        Diary diary = loadDiaryWithBody(user, diaryId);
+        long editSequence = claimEdit(diaryId);
 
         // Check if content, weather, or persona has changed
         boolean contentChanged = !diary.getContent().equals(request.getContent());
         boolean weatherChanged = diary.getWeather() != request.getWeather();
         boolean personaChanged = diary.getPersona() != user.getPersona();
 
-        if (contentChanged || weatherChanged || personaChanged) {
-            // If any critical field changed, trigger AI analysis (Smart Update)
-            AiServiceResult aiResult = analyzeDiaryContent(user, request.getContent(), request.getWeather());
-            updateDiaryEntity(diary, request, aiResult);
-        } else {
-            // Only metadata changed (title, mood, activities, images), skip AI
-            updateDiaryEntityPartial(diary, request);
+        // 페르소나만 바뀐 경우 감정/이미지는 유지하고 코멘트와 음식 추천만 재생성
+        boolean commentOnly = personaChanged && !contentChanged && !weatherChanged
+                && isAnalysisCompleted(diary);
+
+        // 같은 일기의 이전 수정 요청이 분석 중이면 취소 (같은 노드 내)
+        AiCancellation cancellation = AiCancellation.create();
+        AiCancellation previous = inFlightEdits.put(diaryId, cancellation);
+        if (previous != null) {
+            previous.cancel();
         }
 
-        deleteDiaryContents(diary);
-        saveDiaryContents(diary, request.getActivities(), request.getImages());
+        // If any critical field changed, trigger AI analysis (Smart Update)
+        AiServiceResult aiResult;
+        try {
+            if (commentOnly) {
+                aiResult = regenerateDiaryComment(user, diary);
+            } else if (contentChanged || weatherChanged || personaChanged) {
+                aiResult = aiService.analyzeDiary(
+                        buildAiRequest(user, request.getContent(), request.getWeather()), cancellation);
+            } else {
+                aiResult = null;
+            }
+        } catch (CancellationException e) {
+            throw new DiaryEditSupersededException(EDIT_SUPERSEDED_MESSAGE);
+        } finally {
+            inFlightEdits.remove(diaryId, cancellation);
+        }
+
+        try {
+            return executeWithOptimisticRetry(status -> {
+                Diary managedDiary = getOwnedDiary(user, diaryId);
+                // 분석 중 더 최근 수정 요청이 순번을 발급받았으면 반영하지 않음 (다른 노드로 들어온 요청 포함)
+                if (managedDiary.getEditSequence() != editSequence) {
+                    throw new DiaryEditSupersededException(EDIT_SUPERSEDED_MESSAGE);
+                }
+
+                if (commentOnly) {
+                    // 대체 결과(AI 서버 장애)면 기존 코멘트 유지, 페르소나 스냅샷도 갱신하지 않아 다음 수정 시 재시도
+                    if (aiResult.isFallback()) {
+                        updateDiaryEntityPartial(managedDiary, request);
+                    } else {
+                        updateDiaryEntityComment(managedDiary, request, aiResult);
+                    }
+                } else if (aiResult != null) {
+                    updateDiaryEntity(managedDiary, request, aiResult);
+                } else {
+                    // Only metadata changed (title, mood, activities, images), skip AI
+                    updateDiaryEntityPartial(managedDiary, request);
+                }
+
+                deleteDiaryContents(managedDiary);
+                saveDiaryContents(managedDiary, request.getActivities(), request.getImages());
+                diaryCalendarCache.evict(user.getId(), managedDiary.getDate());
+
+                return buildDiaryResponse(managedDiary, request.getActivities(), request.getImages());
+            });
+        } catch (RuntimeException e) {
+            if (aiResult != null) {
+                aiService.discardResult(aiResult);
+            }
+            throw e;
+        }
+    }
 
-        return buildDiaryResponse(diary, request.getActivities(), request.getImages());
+    /**
+     * 일기 AI 분석 상태 조회
+     */
+    public DiaryAnalysisStatusResponse getAnalysisStatus(User user, Long diaryId) {
+        return diaryAnalysisService.buildStatusResponse(getOwnedDiary(user, diaryId));
     }
 
     /**
@@ -99,22 +213,10 @@ public class DiaryService {
     }
 
     /**
-     * 월별 일기 목록 조회
+     * 월별 일기 목록 조회 (캐시된 응답과 ETag)
      */
-    public DiaryMonthlyResponse getMonthlyDiaries(User user, int year, int month) {
-        LocalDate startDate = LocalDate.of(year, month, 1);
-        LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
-
-        List<DiarySummaryResponse> diaries = diaryRepository
-                .findByUserAndDateBetweenAndDeletedAtIsNull(user, startDate, endDate).stream()
-                .map(this::buildDiarySummaryResponse)
-                .collect(Collectors.toList());
-
-        return DiaryMonthlyResponse.builder()
-                .year(year)
-                .month(month)
-                .diaries(diaries)
-                .build();
+    public DiaryCalendarCache.CalendarMonth getMonthlyDiaries(User user, int year, int month) {
+        return diaryCalendarCache.get(user.getId(), year, month, () -> loadMonthlyDiaries(user, year, month));
     }
 
     /**
@@ -125,8 +227,8 @@ public class DiaryService {
             LocalDate endDate, List<Emotion> emotions, int page, int limit) {
         org.springframework.data.domain.Pageable pageable = org.springframework.data.domain.PageRequest.of(page - 1,
                 limit);
-        org.springframework.data.domain.Page<Diary> diaryPage = diaryRepository.searchDiaries(user, keyword, startDate,
-                endDate, emotions, pageable);
+        org.springframework.data.domain.Page<DiarySearchView> diaryPage = diarySearchRepository.search(user.getId(),
+                keyword, startDate, endDate, emotions, pageable);
 
         List<DiarySearchResponse> diaryResponses = diaryPage.getContent().stream()
                 .map(this::buildDiarySearchResponse)
@@ -148,16 +250,46 @@ public class DiaryService {
         Diary diary = getOwnedDiary(user, diaryId);
         deleteDiaryContents(diary);
         diaryRepository.delete(diary);
+        diaryCalendarCache.evict(user.getId(), diary.getDate());
     }
 
     // --- Helper Methods ---
 
+    private DiaryMonthlyResponse loadMonthlyDiaries(User user, int year, int month) {
+        LocalDate startDate = LocalDate.of(year, month, 1);
+        LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
+
+        List<DiarySummaryResponse> diaries = diaryRepository
+                .findCalendarViews(user.getId(), startDate, endDate).stream()
+                .map(this::buildDiarySummaryResponse)
+                .toList();
+
+        return DiaryMonthlyResponse.builder()
+                .year(year)
+                .month(month)
+                .diaries(diaries)
+                .build();
+    }
+
     private void validateDuplicateDiary(User user, LocalDate date) {
         if (diaryRepository.findByUserAndDate(user, date).isPresent()) {
-            throw new IllegalArgumentException("이미 해당 날짜에 작성된 일기가 있습니다. 기존 일기를 수정해주세요.");
+            throw new IllegalArgumentException(DUPLICATE_DIARY_MESSAGE);
         }
     }
 
+    /**
+     * 사용자/날짜 유니크 인덱스(idx_diaries_user_date) 위반인지 확인
+     */
+    private boolean isDuplicateDiaryViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(DUPLICATE_DIARY_INDEX);
+            }
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains(DUPLICATE_DIARY_INDEX);
+    }
+
     private Diary getOwnedDiary(User user, Long diaryId) {
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new IllegalArgumentException("Diary not found"));
@@ -168,10 +300,53 @@ public class DiaryService {
         return diary;
     }
 
-    private AiServiceResult analyzeDiaryContent(User user, String content,
-            com.p_project.p_project_backend.entity.Diary.Weather weather) {
-        AiServerRequest aiRequest = buildAiRequest(user, content, weather);
-        return aiService.analyzeDiary(aiRequest);
+    /**
+     * 트랜잭션 밖에서 본문을 비교하기 위한 조회 (지연 로딩되는 body 그룹을 트랜잭션 안에서 미리 초기화)
+     */
+    private Diary loadDiaryWithBody(User user, Long diaryId) {
+        return transactionTemplate.execute(status -> {
+            Diary diary = getOwnedDiary(user, diaryId);
+            diary.getContent();
+            return diary;
+        });
+    }
+
+    /**
+     * 수정 요청 순번 발급 (짧은 트랜잭션, 이후 더 최근 요청이 발급받으면 이 요청의 결과는 반영되지 않음)
+     */
+    private long claimEdit(Long diaryId) {
+        return transactionTemplate.execute(status -> {
+            diaryRepository.incrementEditSequence(diaryId);
+            return diaryRepository.findEditSequence(diaryId);
+        });
+    }
+
+    /**
+     * 반영 트랜잭션 실행 (백그라운드 분석 반영 등과 충돌하면 다시 읽어서 재시도)
+     */
+    private <T> T executeWithOptimisticRetry(TransactionCallback<T> callback) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                return transactionTemplate.execute(callback);
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt >= MAX_APPLY_ATTEMPTS) {
+                    throw new DiaryEditSupersededException(EDIT_SUPERSEDED_MESSAGE);
+                }
+            }
+        }
+    }
+
+    private AiServiceResult regenerateDiaryComment(User user, Diary diary) {
+        AiCommentRequest commentRequest = AiCommentRequest.builder()
+                .content(diary.getContent())
+                .persona(user.getPersona())
+                .emotion(diary.getEmotion().name())
+                .build();
+        return aiService.regenerateComment(commentRequest);
+    }
+
+    private boolean isAnalysisCompleted(Diary diary) {
+        return diary.getAnalysisStatus() == null || diary.getAnalysisStatus() == AnalysisStatus.COMPLETED;
     }
 
     private void updateDiaryEntity(Diary diary, DiaryUpdateRequest request, AiServiceResult aiResult) {
@@ -184,12 +359,34 @@ public class DiaryService {
         diary.setPersona(diary.getUser().getPersona());
 
         diary.setEmotion(Emotion.valueOf(aiResult.getEmotion()));
+        diary.setEmotionModelVersion(aiResult.getEmotionModelVersion());
         diary.setAiComment(aiResult.getAiComment());
         diary.setRecommendedFood(convertToJson(aiResult.getRecommendedFood()));
         diary.setImageUrl(aiResult.getImageUrl());
+        diary.setAnalysisTier(aiResult.getTier());
+        // 대기 중인 백그라운드 분석이 있다면 이 결과로 대체됨
+        diary.setAnalysisStatus(AnalysisStatus.COMPLETED);
         diary.setUpdatedAt(LocalDateTime.now());
     }
 
+    private void applyPrecomputedResult(Diary diary, AiServiceResult aiResult) {
+        diary.setEmotion(Emotion.valueOf(aiResult.getEmotion()));
+        diary.setEmotionModelVersion(aiResult.getEmotionModelVersion());
+        diary.setAiComment(aiResult.getAiComment());
+        diary.setRecommendedFood(convertToJson(aiResult.getRecommendedFood()));
+        diary.setImageUrl(aiResult.getImageUrl());
+        diary.setAnalysisTier(aiResult.getTier());
+        diary.setAnalysisStatus(AnalysisStatus.COMPLETED);
+    }
+
+    private void updateDiaryEntityComment(Diary diary, DiaryUpdateRequest request, AiServiceResult aiResult) {
+        // 감정(emotion)과 생성 이미지(imageUrl)는 그대로 유지
+        updateDiaryEntityPartial(diary, request);
+        diary.setPersona(diary.getUser().getPersona());
+        diary.setAiComment(aiResult.getAiComment());
+        diary.setRecommendedFood(convertToJson(aiResult.getRecommendedFood()));
+    }
+
     private void updateDiaryEntityPartial(Diary diary, DiaryUpdateRequest request) {
         // Update only metadata fields, skip AI fields
         diary.setTitle(request.getTitle());
@@ -234,7 +431,7 @@ public class DiaryService {
                 .build();
     }
 
-    private Diary buildDiaryEntity(User user, DiaryCreateRequest request, AiServiceResult aiResult) {
+    private Diary buildDiaryEntity(User user, DiaryCreateRequest request) {
         return Diary.builder()
                 .user(user)
                 .date(request.getDate())
@@ -243,10 +440,8 @@ public class DiaryService {
                 .mood(request.getMood())
                 .weather(request.getWeather())
                 .persona(user.getPersona()) // Save snapshot of persona
-                .emotion(Emotion.valueOf(aiResult.getEmotion()))
-                .aiComment(aiResult.getAiComment())
-                .recommendedFood(convertToJson(aiResult.getRecommendedFood()))
-                .imageUrl(aiResult.getImageUrl())
+                .emotion(Emotion.중립) // 분석 완료 전 임시값
+                .analysisStatus(AnalysisStatus.PENDING)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
@@ -274,7 +469,8 @@ public class DiaryService {
                 .date(savedDiary.getDate())
                 .title(savedDiary.getTitle())
                 .content(savedDiary.getContent())
-                .emotion(savedDiary.getEmotion().name())
+                // 분석 완료 전 감정은 임시값이므로 내보내지 않음
+                .emotion(isAnalysisCompleted(savedDiary) ? savedDiary.getEmotion().name() : null)
                 .mood(savedDiary.getMood())
                 .weather(savedDiary.getWeather() != null ? savedDiary.getWeather().name() : null)
                 .activities(activities)
@@ -285,25 +481,29 @@ public class DiaryService {
                 .createdAt(savedDiary.getCreatedAt())
                 .updatedAt(savedDiary.getUpdatedAt())
                 .persona(savedDiary.getPersona() != null ? savedDiary.getPersona().name() : null)
+                .analysisStatus(savedDiary.getAnalysisStatus() != null ? savedDiary.getAnalysisStatus().name()
+                        : AnalysisStatus.COMPLETED.name())
+                .analysisTier(savedDiary.getAnalysisTier() != null ? savedDiary.getAnalysisTier().name()
+                        : AnalysisTier.FULL.name())
                 .build();
     }
 
-    private DiarySummaryResponse buildDiarySummaryResponse(Diary diary) {
+    private DiarySummaryResponse buildDiarySummaryResponse(DiaryCalendarView view) {
         return DiarySummaryResponse.builder()
-                .id(diary.getId())
-                .date(diary.getDate())
-                .emotion(diary.getEmotion().name())
+                .id(view.id())
+                .date(view.date())
+                .emotion(view.emotion() != null ? view.emotion().name() : null)
                 .build();
     }
 
-    private DiarySearchResponse buildDiarySearchResponse(Diary diary) {
+    private DiarySearchResponse buildDiarySearchResponse(DiarySearchView view) {
         return DiarySearchResponse.builder()
-                .id(diary.getId())
-                .date(diary.getDate())
-                .title(diary.getTitle())
-                .content(diary.getContent())
-                .emotion(diary.getEmotion().name())
-                .weather(diary.getWeather() != null ? diary.getWeather().name() : null)
+                .id(view.id())
+                .date(view.date())
+                .title(view.title())
+                .content(view.content())
+                .emotion(view.emotion() != null ? view.emotion().name() : null)
+                .weather(view.weather() != null ? view.weather().name() : null)
                 .build();
     }
 
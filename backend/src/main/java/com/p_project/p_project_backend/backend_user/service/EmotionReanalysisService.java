@@ -0,0 +1,280 @@
+package com.p_project.p_project_backend.backend_user.service;
+
+import com.p_project.p_project_backend.backend_user.dto.ai.EmotionPrediction;
+import com.p_project.p_project_backend.backend_user.repository.EmotionReanalysisRunRepository;
+import com.p_project.p_project_backend.backend_user.service.ai.AiDegradationController;
+import com.p_project.p_project_backend.entity.Diary.AnalysisTier;
+import com.p_project.p_project_backend.entity.Diary.Emotion;
+import com.p_project.p_project_backend.entity.EmotionReanalysisRun;
+import com.p_project.p_project_backend.entity.EmotionReanalysisRun.Status;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 감정 모델 교체 후 기존 일기 감정 재분류 서비스
+ * 일기 ID 순(keyset)으로 청크를 읽어 감정 분류만 다시 수행하고, 청크 단위로 일괄 반영 + 체크포인트 기록
+ * AI 호출 중에는 트랜잭션을 잡지 않으며, 초당 재분류 건수는 토큰 버킷으로 제한
+ */
+@Slf4j
+@Service
+public class EmotionReanalysisService {
+
+    private static final String ERROR_MESSAGE_RUN_NOT_FOUND = "진행 중인 재분류 작업이 없습니다.";
+
+    // 현재 모델 버전으로 분류되지 않은 분석 완료 일기
+    // (분석 대기 일기는 분석 작업이 현재 모델로 분류하고, 분석 실패 일기는 감정이 임시값이므로 분석 재요청 대상으로 남김)
+    private static final String SELECT_CHUNK_SQL = """
+            SELECT id, user_id, date, content, emotion, updated_at
+            FROM diaries
+            WHERE id > ?
+              AND deleted_at IS NULL
+              AND (analysis_status IS NULL OR analysis_status = 'COMPLETED')
+              AND (emotion_model_version IS NULL OR emotion_model_version <> ?)
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    // 읽은 뒤 사용자가 수정한 일기는 건너뜀 (수정 시 현재 모델로 다시 분석됨)
+    // 낙관적 잠금 버전도 올려 이 일기를 읽어 둔 다른 변경(JPA)이 감정을 덮어쓰지 않게 함
+    private static final String UPDATE_EMOTION_SQL = """
+            UPDATE diaries
+            SET emotion = ?, emotion_model_version = ?, version = version + 1
+            WHERE id = ? AND updated_at = ? AND deleted_at IS NULL
+            """;
+
+    private final EmotionReanalysisRunRepository runRepository;
+    private final AiService aiService;
+    private final AiDegradationController degradationController;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DiaryCalendarCache diaryCalendarCache;
+    private final int chunkSize;
+    private final double ratePerSecond;
+
+    // 토큰 버킷 (스케줄러 단일 스레드에서만 사용)
+    private double tokens;
+    private long lastRefillAt = System.nanoTime();
+
+    public EmotionReanalysisService(
+            EmotionReanalysisRunRepository runRepository,
+            AiService aiService,
+            AiDegradationController degradationController,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            DiaryCalendarCache diaryCalendarCache,
+            @Value("${ai.reanalysis.chunk-size:50}") int chunkSize,
+            @Value("${ai.reanalysis.rate-per-second:20}") double ratePerSecond) {
+        this.runRepository = runRepository;
+        this.aiService = aiService;
+        this.degradationController = degradationController;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.diaryCalendarCache = diaryCalendarCache;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    /**
+     * 현재 모델 버전으로 재분류 시작 (중지된 작업은 체크포인트부터 재개, 완료된 작업은 처음부터 다시 수행)
+     */
+    public EmotionReanalysisRun start() {
+        String modelVersion = aiService.getEmotionModelVersion();
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            EmotionReanalysisRun run = runRepository.findByModelVersion(modelVersion)
+                    .orElseGet(() -> EmotionReanalysisRun.builder()
+                            .modelVersion(modelVersion)
+                            .status(Status.PAUSED)
+                            .startedAt(now)
+                            .updatedAt(now)
+                            .build());
+
+            if (run.getStatus() == Status.COMPLETED) {
+                run.setLastDiaryId(0L);
+                run.setProcessedCount(0L);
+                run.setChangedCount(0L);
+                run.setStartedAt(now);
+                run.setCompletedAt(null);
+            }
+            run.setStatus(Status.RUNNING);
+            run.setLastError(null);
+            run.setUpdatedAt(now);
+            return runRepository.save(run);
+        });
+    }
+
+    /**
+     * 재분류 일시 중지 (체크포인트는 유지)
+     */
+    public EmotionReanalysisRun pause() {
+        String modelVersion = aiService.getEmotionModelVersion();
+        return transactionTemplate.execute(status -> {
+            EmotionReanalysisRun run = runRepository.findByModelVersion(modelVersion)
+                    .filter(found -> found.getStatus() == Status.RUNNING)
+                    .orElseThrow(() -> new IllegalArgumentException(ERROR_MESSAGE_RUN_NOT_FOUND));
+            run.setStatus(Status.PAUSED);
+            run.setUpdatedAt(LocalDateTime.now());
+            return run;
+        });
+    }
+
+    /**
+     * 현재 모델 버전의 재분류 진행 상황
+     */
+    public Optional<EmotionReanalysisRun> getCurrentRun() {
+        return runRepository.findByModelVersion(aiService.getEmotionModelVersion());
+    }
+
+    /**
+     * 재분류 청크 처리 (재시작 후에도 체크포인트부터 이어서 수행)
+     */
+    @Scheduled(fixedDelayString = "${ai.reanalysis.interval-ms:1000}")
+    public void processChunk() {
+        EmotionReanalysisRun run = getCurrentRun()
+                .filter(found -> found.getStatus() == Status.RUNNING)
+                .orElse(null);
+        // 사용자 요청이 몰려 분석 단계가 낮아진 동안에는 양보
+        if (run == null || degradationController.currentTier() != AnalysisTier.FULL) {
+            return;
+        }
+
+        int limit = acquirePermits(chunkSize);
+        if (limit == 0) {
+            return;
+        }
+
+        // 1. 다음 청크 조회 (트랜잭션 없이 단건 조회)
+        List<Target> targets = jdbcTemplate.query(SELECT_CHUNK_SQL,
+                (rs, rowNum) -> new Target(
+                        rs.getLong("id"),
+                        rs.getLong("user_id"),
+                        rs.getDate("date").toLocalDate(),
+                        rs.getString("content"),
+                        rs.getString("emotion"),
+                        rs.getTimestamp("updated_at")),
+                run.getLastDiaryId(), run.getModelVersion(), limit);
+        if (targets.isEmpty()) {
+            completeRun(run.getId());
+            return;
+        }
+
+        // 2. 감정 분류만 수행 (트랜잭션 밖에서 AI 호출)
+        List<EmotionPrediction> predictions;
+        try {
+            predictions = aiService.classifyEmotions(targets.stream().map(Target::content).toList());
+        } catch (RuntimeException e) {
+            log.warn("Emotion reanalysis chunk failed: afterId={}, reason={}", run.getLastDiaryId(), e.getMessage());
+            recordError(run.getId(), e);
+            return;
+        }
+
+        // 3. 일괄 반영 + 체크포인트 전진 (짧은 트랜잭션 하나)
+        List<Object[]> updates = new ArrayList<>(targets.size());
+        List<Target> updateTargets = new ArrayList<>(targets.size());
+        List<String> updateEmotions = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            Target target = targets.get(i);
+            String emotion = predictions.get(i).getEmotion();
+            if (!isKnownEmotion(emotion)) {
+                continue;
+            }
+            updates.add(new Object[] { emotion, run.getModelVersion(), target.id(), target.updatedAt() });
+            updateTargets.add(target);
+            updateEmotions.add(emotion);
+        }
+
+        long lastDiaryId = targets.get(targets.size() - 1).id();
+        transactionTemplate.executeWithoutResult(status -> {
+            int[] counts = jdbcTemplate.batchUpdate(UPDATE_EMOTION_SQL, updates);
+
+            // 실제로 반영된 행만 집계 (읽은 뒤 사용자가 수정한 일기는 updated_at 조건으로 건너뜀)
+            List<Target> changedTargets = new ArrayList<>();
+            long processed = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (!isUpdated(counts[i])) {
+                    continue;
+                }
+                processed++;
+                Target target = updateTargets.get(i);
+                if (!updateEmotions.get(i).equals(target.emotion())) {
+                    changedTargets.add(target);
+                }
+            }
+
+            int advanced = runRepository.advanceCheckpoint(run.getId(), Status.RUNNING, run.getLastDiaryId(),
+                    lastDiaryId, processed, changedTargets.size(), LocalDateTime.now());
+            if (advanced == 0) {
+                // 중지되었거나 다른 노드가 같은 구간을 먼저 반영함
+                status.setRollbackOnly();
+                return;
+            }
+            // 감정이 바뀐 일기의 캘린더만 무효화 (커밋 후 한 번 더)
+            changedTargets.forEach(target -> diaryCalendarCache.evict(target.userId(), target.date()));
+        });
+    }
+
+    // --- Helper Methods ---
+
+    /**
+     * 토큰 버킷에서 최대 max 건 허용량 획득
+     */
+    private int acquirePermits(int max) {
+        long now = System.nanoTime();
+        double capacity = Math.max(max, ratePerSecond);
+        tokens = Math.min(capacity, tokens + (now - lastRefillAt) / 1_000_000_000.0 * ratePerSecond);
+        lastRefillAt = now;
+
+        int permits = (int) Math.min(max, Math.floor(tokens));
+        tokens -= permits;
+        return permits;
+    }
+
+    private void completeRun(Long runId) {
+        transactionTemplate.executeWithoutResult(status -> runRepository.findById(runId)
+                .filter(run -> run.getStatus() == Status.RUNNING)
+                .ifPresent(run -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    run.setStatus(Status.COMPLETED);
+                    run.setCompletedAt(now);
+                    run.setUpdatedAt(now);
+                    log.info("Emotion reanalysis completed: modelVersion={}, processed={}, changed={}",
+                            run.getModelVersion(), run.getProcessedCount(), run.getChangedCount());
+                }));
+    }
+
+    private void recordError(Long runId, Exception cause) {
+        String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        transactionTemplate.executeWithoutResult(status -> runRepository.findById(runId).ifPresent(run -> {
+            run.setLastError(message.length() > 1000 ? message.substring(0, 1000) : message);
+            run.setUpdatedAt(LocalDateTime.now());
+        }));
+    }
+
+    /**
+     * 배치 UPDATE 결과 해석 (드라이버가 행 수를 알려주지 않으면 반영된 것으로 간주)
+     */
+    private boolean isUpdated(int count) {
+        return count > 0 || count == Statement.SUCCESS_NO_INFO;
+    }
+
+    private boolean isKnownEmotion(String emotion) {
+        return emotion != null && Arrays.stream(Emotion.values()).anyMatch(value -> value.name().equals(emotion));
+    }
+
+    private record Target(long id, long userId, LocalDate date, String content, String emotion,
+            Timestamp updatedAt) {
+    }
+}
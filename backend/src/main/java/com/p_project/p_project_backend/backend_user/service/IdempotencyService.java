@@ -0,0 +1,276 @@
+package com.p_project.p_project_backend.backend_user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.p_project.p_project_backend.backend_user.repository.IdempotencyRecordRepository;
+import com.p_project.p_project_backend.entity.IdempotencyRecord;
+import com.p_project.p_project_backend.entity.IdempotencyRecord.Status;
+import com.p_project.p_project_backend.entity.User;
+import com.p_project.p_project_backend.exception.IdempotencyConflictException;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 요청 처리 서비스 (Idempotency-Key)
+ * 같은 사용자/키의 첫 요청만 실행하고 응답을 저장하여, 재시도 요청에는 저장된 응답을 그대로 반환
+ * 첫 요청이 처리 중이면 동시에 들어온 재시도는 결과가 저장될 때까지 대기
+ * 실패한 요청은 기록을 지워 같은 키로 다시 시도할 수 있게 함
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final String ERROR_MESSAGE_KEY_TOO_LONG = "Idempotency-Key 는 255자 이하여야 합니다.";
+    private static final String ERROR_MESSAGE_KEY_REUSED = "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.";
+    private static final String DUPLICATE_KEY_INDEX = "idx_idempotency_records_user_key";
+    private static final String ERROR_MESSAGE_IN_PROGRESS = "같은 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요.";
+
+    private final IdempotencyRecordRepository recordRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Duration inProgressTimeout;
+    private final long waitTimeoutMillis;
+    private final long pollIntervalMillis;
+    private final int purgeBatchSize;
+    // 이 노드에서 처리 중인 첫 요청 (같은 노드의 재시도는 DB 폴링 없이 완료를 기다림)
+    private final ConcurrentMap<String, CompletableFuture<Void>> localRuns = new ConcurrentHashMap<>();
+
+    public IdempotencyService(
+            IdempotencyRecordRepository recordRepository,
+            ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate,
+            @Value("${idempotency.ttl-hours:24}") long ttlHours,
+            @Value("${idempotency.in-progress-timeout-ms:300000}") long inProgressTimeoutMillis,
+            @Value("${idempotency.wait-timeout-ms:70000}") long waitTimeoutMillis,
+            @Value("${idempotency.poll-interval-ms:200}") long pollIntervalMillis,
+            @Value("${idempotency.purge-batch-size:500}") int purgeBatchSize) {
+        this.recordRepository = recordRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.inProgressTimeout = Duration.ofMillis(inProgressTimeoutMillis);
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    /**
+     * 멱등 키 기준으로 요청 실행 (키가 없으면 그대로 실행)
+     * operation 과 request 로 요청 지문을 만들어 같은 키로 다른 요청을 보낸 경우를 거부
+     */
+    public <T> T execute(User user, String idempotencyKey, String operation, Object request,
+            Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_KEY_TOO_LONG);
+        }
+
+        String requestHash = fingerprint(operation, request);
+        String localKey = user.getId() + ":" + idempotencyKey;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+
+        while (true) {
+            // claim 이 null 이면 동시에 들어온 같은 키의 요청이 먼저 기록한 것 -> 처리 중인 경우와 같이 대기 후 다시 읽음
+            Claim claim = claim(user.getId(), idempotencyKey, requestHash);
+            if (claim != null && claim.recordId() != null) {
+                return runAndStore(claim.recordId(), localKey, action);
+            }
+
+            if (claim != null) {
+                IdempotencyRecord existing = claim.existing();
+                if (!existing.getRequestHash().equals(requestHash)) {
+                    throw new IllegalArgumentException(ERROR_MESSAGE_KEY_REUSED);
+                }
+                if (existing.getStatus() == Status.COMPLETED) {
+                    return readResponse(existing, responseType);
+                }
+            }
+
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                throw new IdempotencyConflictException(ERROR_MESSAGE_IN_PROGRESS);
+            }
+            awaitCompletion(localKey, remainingNanos);
+        }
+    }
+
+    /**
+     * 만료된 기록 정리 (청크 단위 삭제)
+     */
+    @Scheduled(cron = "${idempotency.purge-cron:0 15 * * * *}")
+    public void purgeExpired() {
+        int deleted = 0;
+        while (true) {
+            List<Long> ids = recordRepository.findExpiredIds(LocalDateTime.now(), PageRequest.of(0, purgeBatchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            deleted += recordRepository.deleteByIdIn(ids);
+            if (ids.size() < purgeBatchSize) {
+                break;
+            }
+        }
+        if (deleted > 0) {
+            log.info("Purged {} expired idempotency records", deleted);
+        }
+    }
+
+    // --- Helper Methods ---
+
+    /**
+     * 키 선점 (성공 시 recordId, 이미 기록이 있으면 existing, 동시 선점 충돌 시 null)
+     */
+    private Claim claim(Long userId, String idempotencyKey, String requestHash) {
+        try {
+            return transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                IdempotencyRecord found = recordRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+                        .orElse(null);
+                if (found != null && found.getExpiresAt().isBefore(now)) {
+                    // 만료된 기록 또는 처리 중 중단된 요청(노드 장애 등)은 새 요청으로 대체
+                    recordRepository.delete(found);
+                    recordRepository.flush();
+                    found = null;
+                }
+                if (found != null) {
+                    return new Claim(null, found);
+                }
+
+                IdempotencyRecord created = recordRepository.saveAndFlush(IdempotencyRecord.builder()
+                        .userId(userId)
+                        .idempotencyKey(idempotencyKey)
+                        .requestHash(requestHash)
+                        .status(Status.IN_PROGRESS)
+                        .createdAt(now)
+                        .expiresAt(now.plus(inProgressTimeout))
+                        .build());
+                return new Claim(created.getId(), null);
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateKeyViolation(e)) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private boolean isDuplicateKeyViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(DUPLICATE_KEY_INDEX);
+            }
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains(DUPLICATE_KEY_INDEX);
+    }
+
+    private <T> T runAndStore(Long recordId, String localKey, Supplier<T> action) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        localRuns.put(localKey, done);
+        try {
+            T response;
+            try {
+                response = action.get();
+            } catch (RuntimeException e) {
+                release(recordId);
+                throw e;
+            }
+
+            try {
+                store(recordId, objectMapper.writeValueAsString(response));
+            } catch (Exception e) {
+                // 요청은 이미 처리되었으므로 응답은 반환하고, 다음 재시도는 다시 실행되도록 기록만 제거
+                log.warn("Failed to store idempotent response: recordId={}, reason={}", recordId, e.getMessage());
+                release(recordId);
+            }
+            return response;
+        } finally {
+            localRuns.remove(localKey, done);
+            done.complete(null);
+        }
+    }
+
+    private void store(Long recordId, String responseBody) {
+        transactionTemplate.executeWithoutResult(status -> recordRepository.findById(recordId).ifPresent(record -> {
+            record.setStatus(Status.COMPLETED);
+            record.setResponseBody(responseBody);
+            record.setExpiresAt(LocalDateTime.now().plus(ttl));
+        }));
+    }
+
+    private void release(Long recordId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> recordRepository.deleteById(recordId));
+        } catch (RuntimeException e) {
+            // 지우지 못한 기록은 처리 중 제한 시간이 지나면 만료됨
+            log.warn("Failed to release idempotency record: recordId={}, reason={}", recordId, e.getMessage());
+        }
+    }
+
+    /**
+     * 첫 요청 완료 대기 (같은 노드면 완료 신호, 다른 노드면 폴링 간격만큼 대기)
+     */
+    private void awaitCompletion(String localKey, long remainingNanos) {
+        CompletableFuture<Void> running = localRuns.get(localKey);
+        try {
+            if (running != null) {
+                running.get(remainingNanos, TimeUnit.NANOSECONDS);
+            } else {
+                Thread.sleep(Math.min(pollIntervalMillis, TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1));
+            }
+        } catch (TimeoutException | ExecutionException e) {
+            // 다음 반복에서 기록 상태로 판단
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException(ERROR_MESSAGE_IN_PROGRESS);
+        }
+    }
+
+    private <T> T readResponse(IdempotencyRecord record, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(record.getResponseBody(), responseType);
+        } catch (Exception e) {
+            throw new RuntimeException("Stored idempotent response is unreadable", e);
+        }
+    }
+
+    private String fingerprint(String operation, Object request) {
+        try {
+            String source = operation + "\u0000" + objectMapper.writeValueAsString(request);
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        } catch (Exception e) {
+            throw new RuntimeException("JSON conversion failed", e);
+        }
+    }
+
+    private record Claim(Long recordId, IdempotencyRecord existing) {
+    }
+}
@@ -41,7 +41,7 @@ public class RiskDetectionService {
         LocalDate today = LocalDate.now();
         LocalDate startDate = today.minusDays(monitoringPeriod);
 
-        List<Diary> diaries = diaryRepository.findByUserAndDateBetweenAndDeletedAtIsNullOrderByDateDesc(user, startDate,
+        List<Diary> diaries = diaryRepository.findAnalyzedByUserAndDateBetweenOrderByDateDesc(user, startDate,
                 today);
 
         int consecutiveScore = calculateConsecutiveScore(diaries);
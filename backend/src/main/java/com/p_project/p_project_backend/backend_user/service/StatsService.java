@@ -26,7 +26,7 @@ public class StatsService {
         public Map<String, Object> getEmotionStats(User user, String period, Integer year, Integer month,
                         Integer week) {
                 DateRange dateRange = calculateDateRange(period, year, month, week);
-                List<Diary> diaries = diaryRepository.findByUserAndDateBetweenAndDeletedAtIsNull(user,
+                List<Diary> diaries = diaryRepository.findAnalyzedByUserAndDateBetween(user,
                                 dateRange.startDate, dateRange.endDate);
 
                 Map<String, Long> emotionCounts = calculateEmotionCounts(diaries);
@@ -63,7 +63,7 @@ public class StatsService {
 
         // I will implement a shared `getDailyTrend` method.
         private Map<String, Object> getDailyTrend(User user, String period, LocalDate startDate, LocalDate endDate) {
-                List<Diary> diaries = diaryRepository.findByUserAndDateBetweenAndDeletedAtIsNull(user,
+                List<Diary> diaries = diaryRepository.findAnalyzedByUserAndDateBetween(user,
                                 startDate, endDate);
 
                 Map<LocalDate, String> dateEmotionMap = diaries.stream()
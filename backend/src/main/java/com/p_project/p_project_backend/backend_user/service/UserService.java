@@ -7,6 +7,8 @@ import com.p_project.p_project_backend.exception.IncorrectPasswordException;
 import com.p_project.p_project_backend.exception.InvalidCredentialsException;
 import com.p_project.p_project_backend.entity.User;
 import com.p_project.p_project_backend.repository.UserRepository;
+import com.p_project.p_project_backend.security.UserPrincipal;
+import com.p_project.p_project_backend.security.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -20,15 +22,13 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
-     * 현재 로그인한 사용자 정보 조회
+     * 현재 로그인한 사용자 정보 조회 (인증 시 로드된 사용자 정보 사용)
      */
-    @Transactional(readOnly = true)
-    public UserResponse getCurrentUser(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        return UserResponse.from(user);
+    public UserResponse getCurrentUser(UserPrincipal principal) {
+        return UserResponse.from(principal.toUser());
     }
 
     /**
@@ -42,6 +42,7 @@ public class UserService {
         user.setPersona(request.getPersona());
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        userPrincipalCache.evict(email);
 
         return UserResponse.from(user);
     }
@@ -65,6 +66,7 @@ public class UserService {
         user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        userPrincipalCache.evict(email);
     }
 
     /**
@@ -87,11 +89,6 @@ public class UserService {
         // Soft delete
         user.setDeletedAt(LocalDateTime.now());
         userRepository.save(user);
-    }
-
-    @Transactional(readOnly = true)
-    public User findActiveUser(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        userPrincipalCache.evict(email);
     }
 }
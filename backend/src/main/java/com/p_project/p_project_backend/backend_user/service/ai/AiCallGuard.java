@@ -0,0 +1,233 @@
+package com.p_project.p_project_backend.backend_user.service.ai;
+
+import com.p_project.p_project_backend.backend_user.dto.ai.AiServiceResult;
+import com.p_project.p_project_backend.entity.Diary.AnalysisTier;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * AI 서버 호출 보호 계층
+ * - Single-flight: 같은 키로 진행 중인 호출이 있으면 새로 호출하지 않고 그 결과를 공유
+ * - Bulkhead: 동시 AI 호출 수 제한 (AI 서버 지연 시 요청 스레드 전체가 묶이는 것 방지)
+ * - Timeout: 호출 1건당 시간 예산(deadline) 부여
+ * - Circuit Breaker: AI 서버 장애 시 즉시 대체 결과 반환
+ * - Cancellation: 요청자가 취소하면 진행 중인 호출 중단 (결과를 공유 중인 요청이 있으면 중단하지 않음)
+ */
+@Slf4j
+@Component
+public class AiCallGuard {
+
+    private static final String FALLBACK_METRIC = "ai.client.fallback";
+
+    private final ConcurrentMap<String, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Semaphore bulkhead;
+    private final int maxConcurrentCalls;
+    private final long bulkheadWaitMillis;
+    private final Duration timeoutBudget;
+    private final AiCircuitBreaker circuitBreaker;
+    private final boolean fallbackEnabled;
+    private final String fallbackEmotion;
+    private final String fallbackComment;
+    private final MeterRegistry meterRegistry;
+    private final Counter coalesced;
+
+    public AiCallGuard(
+            MeterRegistry meterRegistry,
+            @Value("${ai.client.max-concurrent-calls:8}") int maxConcurrentCalls,
+            @Value("${ai.client.bulkhead-wait-ms:1000}") long bulkheadWaitMillis,
+            @Value("${ai.client.timeout-ms:60000}") long timeoutMillis,
+            @Value("${ai.client.breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${ai.client.breaker.open-ms:30000}") long openMillis,
+            @Value("${ai.fallback.enabled:true}") boolean fallbackEnabled,
+            @Value("${ai.fallback.emotion:중립}") String fallbackEmotion,
+            @Value("${ai.fallback.comment:지금은 AI 분석을 할 수 없어요. 잠시 후 다시 시도해 주세요.}") String fallbackComment) {
+        this.meterRegistry = meterRegistry;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.bulkheadWaitMillis = bulkheadWaitMillis;
+        this.timeoutBudget = Duration.ofMillis(timeoutMillis);
+        this.circuitBreaker = new AiCircuitBreaker(failureThreshold, openMillis);
+        this.fallbackEnabled = fallbackEnabled;
+        this.fallbackEmotion = fallbackEmotion;
+        this.fallbackComment = fallbackComment;
+        this.coalesced = Counter.builder("ai.client.coalesced").register(meterRegistry);
+        Gauge.builder("ai.client.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .register(meterRegistry);
+        Gauge.builder("ai.client.breaker.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 보호 계층을 거쳐 AI 호출 실행
+     * call 은 전달받은 deadline 안에 끝나도록 각 단계의 타임아웃을 설정해야 함
+     */
+    public AiServiceResult execute(String key, Function<Instant, AiServiceResult> call) {
+        return execute(key, AiCancellation.none(), (deadline, cancellation) -> call.apply(deadline));
+    }
+
+    /**
+     * 취소 가능한 AI 호출 실행
+     * call 은 전달받은 취소 신호로 진행 중인 요청을 중단해야 하며, 취소되면 CancellationException 발생
+     */
+    public AiServiceResult execute(String key, AiCancellation cancellation,
+            BiFunction<Instant, AiCancellation, AiServiceResult> call) {
+        while (true) {
+            Flight created = new Flight();
+            Flight flight = inFlight.compute(key, (k, existing) -> {
+                if (existing == null) {
+                    return created;
+                }
+                existing.followers++;
+                return existing;
+            });
+            if (flight != created) {
+                coalesced.increment();
+                try {
+                    return awaitShared(flight.future);
+                } catch (CancellationException e) {
+                    // 공유하던 호출이 호출한 쪽의 취소로 중단되면 직접 다시 호출
+                    cancellation.throwIfCancelled();
+                    continue;
+                }
+            }
+
+            AiCancellation exclusive = cancellation.onlyIf(() -> flight.followers == 0);
+            AiServiceResult result;
+            try {
+                result = callGuarded(deadline -> call.apply(deadline, exclusive));
+                flight.future.complete(result);
+            } catch (RuntimeException e) {
+                flight.future.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, flight);
+            }
+            // 결과를 공유한 요청이 있으면 호출한 쪽도 이미지를 단독으로 삭제할 수 없음
+            return flight.followers > 0 ? shared(result) : result;
+        }
+    }
+
+    /**
+     * 현재 진행 중인 AI 호출 수
+     */
+    public int getInFlightCalls() {
+        return maxConcurrentCalls - bulkhead.availablePermits();
+    }
+
+    public AiCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    // --- Helper Methods ---
+
+    private AiServiceResult callGuarded(Function<Instant, AiServiceResult> call) {
+        if (!circuitBreaker.tryAcquire()) {
+            return fallback("circuit_open", null);
+        }
+
+        if (!acquireBulkhead()) {
+            // 호출하지 않았으므로 브레이커에는 결과로 반영하지 않음 (HALF_OPEN 시험 호출 슬롯만 반환)
+            circuitBreaker.releaseTrial();
+            return fallback("bulkhead_full", null);
+        }
+
+        try {
+            AiServiceResult result = call.apply(Instant.now().plus(timeoutBudget));
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (CancellationException e) {
+            // 요청자 취소는 AI 서버 상태와 무관하므로 브레이커에 반영하지 않음
+            circuitBreaker.releaseTrial();
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            return fallback("error", e);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(bulkheadWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 진행 중인 동일 호출의 결과 대기
+     * 공유된 결과의 이미지는 여러 일기가 함께 쓰므로 cacheHit 로 표시하여 개별 삭제 대상에서 제외
+     */
+    private AiServiceResult awaitShared(CompletableFuture<AiServiceResult> flight) {
+        try {
+            return shared(flight.get(timeoutBudget.toMillis(), TimeUnit.MILLISECONDS));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("AI Server call failed", e.getCause());
+        } catch (TimeoutException e) {
+            return fallback("timeout", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallback("interrupted", e);
+        }
+    }
+
+    private AiServiceResult fallback(String reason, Exception cause) {
+        meterRegistry.counter(FALLBACK_METRIC, "reason", reason).increment();
+        if (!fallbackEnabled) {
+            throw new RuntimeException("AI Server unavailable: " + reason, cause);
+        }
+        if (cause != null) {
+            log.warn("AI call failed, using fallback result: {}", cause.getMessage());
+        }
+        return AiServiceResult.builder()
+                .emotion(fallbackEmotion)
+                .aiComment(fallbackComment)
+                .imageUrl("")
+                .fallback(true)
+                // 대체 결과는 감정 외 분석이 모두 빠진 상태이므로 백필 대상
+                .tier(AnalysisTier.CLASSIFICATION_ONLY)
+                .build();
+    }
+
+    private AiServiceResult shared(AiServiceResult result) {
+        return AiServiceResult.builder()
+                .emotion(result.getEmotion())
+                .aiComment(result.getAiComment())
+                .recommendedFood(result.getRecommendedFood())
+                .imageUrl(result.getImageUrl())
+                .cacheHit(true)
+                .fallback(result.isFallback())
+                .tier(result.getTier())
+                .build();
+    }
+
+    /**
+     * 진행 중인 호출 (followers 는 ConcurrentHashMap.compute 안에서만 변경, 취소 판단을 위해 volatile)
+     */
+    private static final class Flight {
+        private final CompletableFuture<AiServiceResult> future = new CompletableFuture<>();
+        private volatile int followers;
+    }
+}
@@ -0,0 +1,78 @@
+package com.p_project.p_project_backend.backend_user.service.ai;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+/**
+ * AI 호출 취소 신호
+ * 요청자가 cancel() 하면 진행 중인 AI 서버 요청(Mono)을 중단하고 CancellationException 발생
+ */
+public final class AiCancellation {
+
+    private static final AiCancellation NONE = new AiCancellation(new AtomicBoolean(), Sinks.one(), () -> false);
+
+    private final AtomicBoolean cancelled;
+    private final Sinks.One<Boolean> signal;
+    private final BooleanSupplier applicable;
+
+    private AiCancellation(AtomicBoolean cancelled, Sinks.One<Boolean> signal, BooleanSupplier applicable) {
+        this.cancelled = cancelled;
+        this.signal = signal;
+        this.applicable = applicable;
+    }
+
+    /**
+     * 새 취소 신호
+     */
+    public static AiCancellation create() {
+        return new AiCancellation(new AtomicBoolean(), Sinks.one(), () -> true);
+    }
+
+    /**
+     * 취소되지 않는 신호 (취소가 필요 없는 호출용)
+     */
+    public static AiCancellation none() {
+        return NONE;
+    }
+
+    public void cancel() {
+        if (cancelled.compareAndSet(false, true)) {
+            signal.tryEmitValue(Boolean.TRUE);
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled.get() && applicable.getAsBoolean();
+    }
+
+    /**
+     * 취소된 경우 CancellationException 발생
+     */
+    public void throwIfCancelled() {
+        if (isCancelled()) {
+            throw new CancellationException("AI call cancelled");
+        }
+    }
+
+    /**
+     * 취소 시 CancellationException 으로 끝나는 Mono (Mono.firstWithSignal 로 요청과 경쟁시켜 사용)
+     */
+    public <T> Mono<T> asError() {
+        return signal.asMono()
+                .flatMap(value -> applicable.getAsBoolean()
+                        ? Mono.<T>error(new CancellationException("AI call cancelled"))
+                        : Mono.<T>never());
+    }
+
+    /**
+     * condition 이 참일 때만 취소가 적용되는 신호 (다른 요청과 공유 중인 호출 보호)
+     */
+    AiCancellation onlyIf(BooleanSupplier condition) {
+        return new AiCancellation(cancelled, signal,
+                () -> applicable.getAsBoolean() && condition.getAsBoolean());
+    }
+}
@@ -0,0 +1,151 @@
+package com.p_project.p_project_backend.backend_user.service.ai;
+
+import com.p_project.p_project_backend.backend_user.repository.DiaryAnalysisJobRepository;
+import com.p_project.p_project_backend.entity.Diary.AnalysisTier;
+import com.p_project.p_project_backend.entity.DiaryAnalysisJob.Status;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * AI 부하 단계 제어기 (Load Shedding)
+ * AI 호출 지연(EWMA)과 대기열 길이(대기 중인 분석 작업 + 진행 중인 AI 호출)로 분석 단계를 결정
+ * FULL -> NO_IMAGE -> NO_FEEDBACK -> CLASSIFICATION_ONLY 순으로 비싼 기능부터 생략
+ * 단계 상승은 즉시, 하강(복구)은 recover-evaluations 회 연속 여유가 있을 때 한 단계씩
+ */
+@Slf4j
+@Component
+public class AiDegradationController {
+
+    private static final AnalysisTier[] TIERS = AnalysisTier.values();
+
+    private final DiaryAnalysisJobRepository jobRepository;
+    private final AiCallGuard aiCallGuard;
+    private final boolean enabled;
+    private final double ewmaAlpha;
+    private final long[] latencyThresholds; // NO_IMAGE, NO_FEEDBACK, CLASSIFICATION_ONLY 진입 기준 (ms)
+    private final long[] queueThresholds; // NO_IMAGE, NO_FEEDBACK, CLASSIFICATION_ONLY 진입 기준 (건)
+    private final double recoverRatio;
+    private final int recoverEvaluations;
+
+    private volatile AnalysisTier currentTier = AnalysisTier.FULL;
+    private volatile double latencyEwmaMillis;
+    private volatile long queueDepth;
+    private int healthyEvaluations;
+
+    public AiDegradationController(
+            DiaryAnalysisJobRepository jobRepository,
+            AiCallGuard aiCallGuard,
+            MeterRegistry meterRegistry,
+            @Value("${ai.degrade.enabled:true}") boolean enabled,
+            @Value("${ai.degrade.ewma-alpha:0.2}") double ewmaAlpha,
+            @Value("${ai.degrade.latency-ms.no-image:8000}") long latencyNoImage,
+            @Value("${ai.degrade.latency-ms.no-feedback:15000}") long latencyNoFeedback,
+            @Value("${ai.degrade.latency-ms.classification-only:25000}") long latencyClassificationOnly,
+            @Value("${ai.degrade.queue.no-image:20}") long queueNoImage,
+            @Value("${ai.degrade.queue.no-feedback:50}") long queueNoFeedback,
+            @Value("${ai.degrade.queue.classification-only:100}") long queueClassificationOnly,
+            @Value("${ai.degrade.recover-ratio:0.7}") double recoverRatio,
+            @Value("${ai.degrade.recover-evaluations:3}") int recoverEvaluations) {
+        this.jobRepository = jobRepository;
+        this.aiCallGuard = aiCallGuard;
+        this.enabled = enabled;
+        this.ewmaAlpha = ewmaAlpha;
+        this.latencyThresholds = new long[] { latencyNoImage, latencyNoFeedback, latencyClassificationOnly };
+        this.queueThresholds = new long[] { queueNoImage, queueNoFeedback, queueClassificationOnly };
+        this.recoverRatio = recoverRatio;
+        this.recoverEvaluations = Math.max(1, recoverEvaluations);
+
+        Gauge.builder("ai.degrade.tier", this, controller -> controller.currentTier.ordinal())
+                .register(meterRegistry);
+        Gauge.builder("ai.degrade.latency.ewma", this, controller -> controller.latencyEwmaMillis)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("ai.degrade.queue.depth", this, controller -> controller.queueDepth)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 분석에 적용할 단계
+     */
+    public AnalysisTier currentTier() {
+        return enabled ? currentTier : AnalysisTier.FULL;
+    }
+
+    /**
+     * AI 분석 호출 지연 기록
+     */
+    public synchronized void recordLatency(Duration latency) {
+        double millis = latency.toMillis();
+        latencyEwmaMillis = latencyEwmaMillis == 0 ? millis
+                : ewmaAlpha * millis + (1 - ewmaAlpha) * latencyEwmaMillis;
+    }
+
+    /**
+     * 주기적으로 지표를 확인하여 단계 조정
+     */
+    @Scheduled(fixedDelayString = "${ai.degrade.evaluate-interval-ms:5000}")
+    public void evaluate() {
+        if (!enabled) {
+            return;
+        }
+        // DB 조회는 잠금 밖에서 수행 (지연 기록이 조회를 기다리지 않도록)
+        adjust(jobRepository.countByStatus(Status.PENDING) + aiCallGuard.getInFlightCalls());
+    }
+
+    // --- Helper Methods ---
+
+    private synchronized void adjust(long depth) {
+        queueDepth = depth;
+        AnalysisTier target = max(tierFor(latencyEwmaMillis, latencyThresholds, 1.0),
+                tierFor(queueDepth, queueThresholds, 1.0));
+
+        if (target.ordinal() > currentTier.ordinal()) {
+            changeTier(target);
+            healthyEvaluations = 0;
+            return;
+        }
+
+        // 한 단계 아래 기준보다 충분히 여유가 있을 때만 복구 (단계가 오르내리며 흔들리는 것 방지)
+        AnalysisTier relaxed = max(tierFor(latencyEwmaMillis, latencyThresholds, recoverRatio),
+                tierFor(queueDepth, queueThresholds, recoverRatio));
+        if (currentTier != AnalysisTier.FULL && relaxed.ordinal() < currentTier.ordinal()) {
+            if (++healthyEvaluations >= recoverEvaluations) {
+                changeTier(TIERS[currentTier.ordinal() - 1]);
+                healthyEvaluations = 0;
+            }
+        } else {
+            healthyEvaluations = 0;
+        }
+
+        // 단계가 낮아지면 지연 측정값이 줄어드므로, 호출이 없을 때도 EWMA 가 서서히 복구되도록 감쇠
+        if (aiCallGuard.getInFlightCalls() == 0) {
+            latencyEwmaMillis = latencyEwmaMillis * (1 - ewmaAlpha);
+        }
+    }
+
+    private AnalysisTier tierFor(double value, long[] thresholds, double ratio) {
+        AnalysisTier tier = AnalysisTier.FULL;
+        for (int i = 0; i < thresholds.length; i++) {
+            if (value >= thresholds[i] * ratio) {
+                tier = TIERS[i + 1];
+            }
+        }
+        return tier;
+    }
+
+    private AnalysisTier max(AnalysisTier a, AnalysisTier b) {
+        return a.ordinal() >= b.ordinal() ? a : b;
+    }
+
+    private void changeTier(AnalysisTier tier) {
+        log.warn("AI analysis tier changed: {} -> {} (latencyEwma={}ms, queueDepth={})",
+                currentTier, tier, Math.round(latencyEwmaMillis), queueDepth);
+        currentTier = tier;
+    }
+}
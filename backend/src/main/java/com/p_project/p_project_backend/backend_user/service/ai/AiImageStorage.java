@@ -0,0 +1,171 @@
+package com.p_project.p_project_backend.backend_user.service.ai;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AI 생성 이미지 저장소
+ * AI 서버의 이미지 바이너리를 DataBuffer 단위로 받아 파일에 바로 기록 (전체 이미지를 힙에 올리지 않음)
+ */
+@Slf4j
+@Component
+public class AiImageStorage {
+
+    // AI 생성 이미지 저장 경로
+    private static final String IMAGE_UPLOAD_DIR = "images/ai_generates/";
+    private static final String IMAGE_URL_PREFIX = "/images/ai_generates/";
+    private static final int BUDGET_UNIT_BYTES = 1024;
+
+    private final long maxImageBytes;
+    private final int permitsPerTransfer;
+    private final Semaphore transferBudget;
+    private final long budgetWaitMillis;
+    private final Duration transferTimeout;
+
+    public AiImageStorage(
+            @Value("${ai.image.max-bytes:8388608}") long maxImageBytes,
+            @Value("${ai.image.memory-budget-bytes:67108864}") long memoryBudgetBytes,
+            @Value("${ai.image.budget-wait-ms:10000}") long budgetWaitMillis,
+            @Value("${ai.image.transfer-timeout-ms:30000}") long transferTimeoutMillis) {
+        this.maxImageBytes = maxImageBytes;
+        // 전송 1건은 최악의 경우(디스크 지연으로 버퍼가 쌓이는 경우) 이미지 상한만큼 메모리를 점유한다고 보고 예약
+        int budgetPermits = (int) Math.max(1, memoryBudgetBytes / BUDGET_UNIT_BYTES);
+        this.permitsPerTransfer = (int) Math.min(budgetPermits,
+                Math.max(1, (maxImageBytes + BUDGET_UNIT_BYTES - 1) / BUDGET_UNIT_BYTES));
+        this.transferBudget = new Semaphore(budgetPermits);
+        this.budgetWaitMillis = budgetWaitMillis;
+        this.transferTimeout = Duration.ofMillis(transferTimeoutMillis);
+    }
+
+    /**
+     * AI 서버의 생성 이미지를 스트리밍으로 내려받아 저장 후 URL 반환
+     */
+    public String download(WebClient webClient, String imageId) {
+        return download(webClient, imageId, transferTimeout);
+    }
+
+    /**
+     * 남은 시간 예산 안에서 이미지 다운로드 (전송 타임아웃보다 짧으면 예산 우선)
+     */
+    public String download(WebClient webClient, String imageId, Duration timeout) {
+        Duration effectiveTimeout = timeout.compareTo(transferTimeout) < 0 ? timeout : transferTimeout;
+        if (effectiveTimeout.isNegative() || effectiveTimeout.isZero()) {
+            throw new IllegalStateException("No time budget left for AI image transfer");
+        }
+        acquireBudget();
+        Path target = null;
+        try {
+            Path directory = Paths.get(IMAGE_UPLOAD_DIR);
+            Files.createDirectories(directory);
+            String fileName = UUID.randomUUID() + ".jpg";
+            target = directory.resolve(fileName);
+
+            Flux<DataBuffer> body = webClient.get()
+                    .uri("/api/ai/images/{imageId}", imageId)
+                    .retrieve()
+                    .bodyToFlux(DataBuffer.class);
+
+            writeTo(limitSize(body), target, effectiveTimeout);
+            return IMAGE_URL_PREFIX + fileName;
+
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(target);
+            throw new RuntimeException("Failed to save AI image", e);
+        } finally {
+            transferBudget.release(permitsPerTransfer);
+        }
+    }
+
+    /**
+     * 저장된 AI 생성 이미지 삭제
+     */
+    public void delete(String imageUrl) {
+        if (imageUrl == null || imageUrl.isEmpty()) {
+            return;
+        }
+        String fileName = imageUrl.substring(imageUrl.lastIndexOf("/") + 1);
+        deleteQuietly(Paths.get(IMAGE_UPLOAD_DIR).resolve(fileName));
+    }
+
+    /**
+     * 저장된 AI 생성 이미지 존재 여부
+     */
+    public boolean exists(String imageUrl) {
+        if (imageUrl == null || imageUrl.isEmpty()) {
+            return false;
+        }
+        String fileName = imageUrl.substring(imageUrl.lastIndexOf("/") + 1);
+        return Files.exists(Paths.get(IMAGE_UPLOAD_DIR).resolve(fileName));
+    }
+
+    // --- Helper Methods ---
+
+    private void acquireBudget() {
+        try {
+            if (!transferBudget.tryAcquire(permitsPerTransfer, budgetWaitMillis, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("AI image transfer memory budget exhausted");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for image transfer budget", e);
+        }
+    }
+
+    /**
+     * 요청당 이미지 크기 상한 적용
+     */
+    private Flux<DataBuffer> limitSize(Flux<DataBuffer> body) {
+        AtomicLong received = new AtomicLong();
+        return body.handle((buffer, sink) -> {
+            if (received.addAndGet(buffer.readableByteCount()) > maxImageBytes) {
+                DataBufferUtils.release(buffer);
+                sink.error(new DataBufferLimitException(
+                        "AI image exceeds limit of " + maxImageBytes + " bytes"));
+                return;
+            }
+            sink.next(buffer);
+        });
+    }
+
+    private void writeTo(Flux<DataBuffer> body, Path target, Duration timeout) throws IOException {
+        AsynchronousFileChannel channel = AsynchronousFileChannel.open(target,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        try {
+            DataBufferUtils.write(body, channel)
+                    .map(DataBufferUtils::release)
+                    .then()
+                    .block(timeout);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete AI image: {}", path.getFileName());
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.p_project.p_project_backend.backend_user.service.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.p_project.p_project_backend.backend_user.dto.ai.AiCommentRequest;
+import com.p_project.p_project_backend.backend_user.dto.ai.AiServerRequest;
+import com.p_project.p_project_backend.backend_user.dto.ai.AiServiceResult;
+import com.p_project.p_project_backend.backend_user.dto.ai.RecommendedFood;
+import com.p_project.p_project_backend.backend_user.repository.AiAnalysisCacheRepository;
+import com.p_project.p_project_backend.entity.AiAnalysisCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AI 분석 결과 캐시 (메모리 W-TinyLFU 1차 + DB 2차)
+ * 키: SHA-256(내용, 날씨, 페르소나, 성별, 모델 버전) - 같은 입력이면 AI 서버를 호출하지 않음
+ */
+@Slf4j
+@Component
+public class AiResultCache {
+
+    private static final String METRIC_NAME = "ai.result.cache.requests";
+
+    private final AiAnalysisCacheRepository cacheRepository;
+    private final AiImageStorage aiImageStorage;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, MemoryEntry> memoryCache;
+    private final String modelVersion;
+    private final long dbTtlDays;
+    private final long touchIntervalMillis;
+    private final Counter memoryHits;
+    private final Counter dbHits;
+    private final Counter misses;
+
+    public AiResultCache(
+            AiAnalysisCacheRepository cacheRepository,
+            AiImageStorage aiImageStorage,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${ai.cache.max-entries:10000}") long maxEntries,
+            @Value("${ai.cache.db-ttl-days:90}") long dbTtlDays,
+            @Value("${ai.cache.touch-interval-ms:86400000}") long touchIntervalMillis,
+            @Value("${ai.model-version:v1}") String modelVersion) {
+        this.cacheRepository = cacheRepository;
+        this.aiImageStorage = aiImageStorage;
+        this.objectMapper = objectMapper;
+        this.modelVersion = modelVersion;
+        this.dbTtlDays = dbTtlDays;
+        this.touchIntervalMillis = touchIntervalMillis;
+        // Caffeine 기본 정책은 W-TinyLFU (크기 제한 시 빈도+최근성 기반 제거)
+        this.memoryCache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, memoryCache, "ai.result.cache");
+        this.memoryHits = Counter.builder(METRIC_NAME).tag("tier", "memory").tag("result", "hit")
+                .register(meterRegistry);
+        this.dbHits = Counter.builder(METRIC_NAME).tag("tier", "db").tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder(METRIC_NAME).tag("tier", "all").tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 모델 버전 (캐시 키와 감정 재분류 기준)
+     */
+    public String getModelVersion() {
+        return modelVersion;
+    }
+
+    /**
+     * 요청 해시 키 생성
+     */
+    public String keyOf(AiServerRequest request) {
+        String source = String.join("\u0000",
+                request.getContent(),
+                request.getWeather() != null ? request.getWeather().name() : "",
+                request.getPersona() != null ? request.getPersona().name() : "",
+                request.getGender() != null ? request.getGender().name() : "",
+                modelVersion);
+        return sha256(source);
+    }
+
+    /**
+     * 코멘트 재생성 요청 해시 키 생성 (동시 요청 병합용, 결과는 캐시하지 않음)
+     */
+    public String keyOf(AiCommentRequest request) {
+        String source = String.join("\u0000",
+                "comment",
+                request.getContent(),
+                request.getPersona() != null ? request.getPersona().name() : "",
+                request.getEmotion(),
+                modelVersion);
+        return sha256(source);
+    }
+
+    /**
+     * 캐시 조회 (메모리 -> DB 순, DB 적중 시 메모리로 승격)
+     * 메모리 적중도 DB 적중 일시에 반영 (항목당 touch-interval 에 한 번, 자주 쓰는 항목이 정리되지 않도록)
+     */
+    public Optional<AiServiceResult> get(String key) {
+        MemoryEntry cached = memoryCache.getIfPresent(key);
+        if (cached != null && isUsable(cached.result())) {
+            memoryHits.increment();
+            touchIfDue(key, cached);
+            return Optional.of(copyOf(cached.result()));
+        }
+
+        Optional<AiServiceResult> stored = cacheRepository.findById(key)
+                .filter(entry -> modelVersion.equals(entry.getModelVersion()))
+                .map(this::toResult)
+                .filter(this::isUsable);
+        if (stored.isPresent()) {
+            dbHits.increment();
+            memoryCache.put(key, new MemoryEntry(stored.get(), new AtomicLong(System.currentTimeMillis())));
+            cacheRepository.touch(key, LocalDateTime.now());
+            return Optional.of(copyOf(stored.get()));
+        }
+
+        if (cached != null) {
+            memoryCache.invalidate(key);
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 분석 결과 저장 (이미지까지 생성된 완전한 결과만 저장)
+     */
+    public void put(String key, AiServiceResult result) {
+        if (result.getImageUrl() == null || result.getImageUrl().isEmpty()) {
+            return;
+        }
+
+        memoryCache.put(key, new MemoryEntry(copyOf(result), new AtomicLong(System.currentTimeMillis())));
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            cacheRepository.save(AiAnalysisCache.builder()
+                    .cacheKey(key)
+                    .emotion(result.getEmotion())
+                    .aiComment(result.getAiComment())
+                    .recommendedFood(objectMapper.writeValueAsString(result.getRecommendedFood()))
+                    .imageUrl(result.getImageUrl())
+                    .modelVersion(modelVersion)
+                    .createdAt(now)
+                    .lastHitAt(now)
+                    .build());
+        } catch (Exception e) {
+            // 캐시 저장 실패는 분석 결과에 영향 없음
+            log.warn("Failed to persist AI result cache: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 오래 사용되지 않은 DB 캐시 정리
+     */
+    @Scheduled(cron = "${ai.cache.purge-cron:0 30 4 * * *}")
+    public void purgeUnused() {
+        int deleted = cacheRepository.deleteUnusedBefore(LocalDateTime.now().minusDays(dbTtlDays));
+        if (deleted > 0) {
+            log.info("Purged {} unused AI result cache entries", deleted);
+        }
+    }
+
+    // --- Helper Methods ---
+
+    private String sha256(String source) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 마지막 반영 후 touch-interval 이 지났으면 DB 적중 일시 갱신 (동시 적중 중 한 요청만 갱신)
+     */
+    private void touchIfDue(String key, MemoryEntry entry) {
+        long now = System.currentTimeMillis();
+        long touchedAt = entry.touchedAt().get();
+        if (now - touchedAt < touchIntervalMillis || !entry.touchedAt().compareAndSet(touchedAt, now)) {
+            return;
+        }
+        try {
+            cacheRepository.touch(key, LocalDateTime.now());
+        } catch (Exception e) {
+            // 적중 일시 갱신 실패는 분석 결과에 영향 없음 (다음 간격에 다시 시도)
+            log.warn("Failed to touch AI result cache entry: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시된 이미지가 정리(삭제)되었다면 사용하지 않음
+     */
+    private boolean isUsable(AiServiceResult result) {
+        return aiImageStorage.exists(result.getImageUrl());
+    }
+
+    private AiServiceResult toResult(AiAnalysisCache entry) {
+        try {
+            return AiServiceResult.builder()
+                    .emotion(entry.getEmotion())
+                    .aiComment(entry.getAiComment())
+                    .recommendedFood(entry.getRecommendedFood() != null
+                            ? objectMapper.readValue(entry.getRecommendedFood(), RecommendedFood.class)
+                            : null)
+                    .imageUrl(entry.getImageUrl())
+                    .build();
+        } catch (Exception e) {
+            throw new RuntimeException("JSON parsing failed", e);
+        }
+    }
+
+    private AiServiceResult copyOf(AiServiceResult result) {
+        return AiServiceResult.builder()
+                .emotion(result.getEmotion())
+                .aiComment(result.getAiComment())
+                .recommendedFood(result.getRecommendedFood())
+                .imageUrl(result.getImageUrl())
+                .cacheHit(true)
+                .build();
+    }
+
+    /**
+     * 메모리 캐시 항목 (touchedAt: 이 노드가 DB 적중 일시를 마지막으로 갱신한 시각, epoch ms)
+     */
+    private record MemoryEntry(AiServiceResult result, AtomicLong touchedAt) {
+    }
+}
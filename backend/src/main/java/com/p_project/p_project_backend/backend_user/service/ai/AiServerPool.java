@@ -0,0 +1,256 @@
+package com.p_project.p_project_backend.backend_user.service.ai;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * AI 서버 인스턴스 풀
+ * - 처리 중인 요청 수가 가장 적은 인스턴스로 라우팅 (Least Outstanding Requests)
+ * - 주기적으로 FastAPI "/" 엔드포인트를 호출해 상태 확인 (Active Health Check)
+ * - 연속 실패한 인스턴스는 일정 시간 라우팅 대상에서 제외 (Passive Ejection)
+ */
+@Slf4j
+@Component
+public class AiServerPool {
+
+    private static final String REQUEST_METRIC = "ai.server.requests";
+
+    private final CopyOnWriteArrayList<Instance> instances = new CopyOnWriteArrayList<>();
+    private final ExchangeStrategies exchangeStrategies;
+    private final MeterRegistry meterRegistry;
+    private final int failureThreshold;
+    private final long ejectionMillis;
+    private final Duration probeTimeout;
+
+    public AiServerPool(
+            ExchangeStrategies aiExchangeStrategies,
+            MeterRegistry meterRegistry,
+            @Value("${ai.server.urls:http://localhost:8000}") List<String> urls,
+            @Value("${ai.server.ejection.failure-threshold:3}") int failureThreshold,
+            @Value("${ai.server.ejection.duration-ms:30000}") long ejectionMillis,
+            @Value("${ai.server.health.timeout-ms:2000}") long probeTimeoutMillis) {
+        this.exchangeStrategies = aiExchangeStrategies;
+        this.meterRegistry = meterRegistry;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.ejectionMillis = ejectionMillis;
+        this.probeTimeout = Duration.ofMillis(probeTimeoutMillis);
+        urls.forEach(this::addInstance);
+    }
+
+    /**
+     * 선택된 인스턴스의 WebClient 로 호출 실행
+     * 한 번의 call 안에서 이루어지는 요청(분석 + 이미지 수신)은 모두 같은 인스턴스로 전송됨
+     */
+    public <T> T execute(Function<WebClient, T> call) {
+        Instance instance = choose();
+        instance.outstanding.incrementAndGet();
+        long startedAt = System.nanoTime();
+        try {
+            T result = call.apply(instance.webClient);
+            recordLatency(instance, "success", startedAt);
+            instance.consecutiveFailures.set(0);
+            return result;
+        } catch (RuntimeException e) {
+            recordLatency(instance, "failure", startedAt);
+            if (countsAsFailure(e)) {
+                onFailure(instance);
+            }
+            throw e;
+        } finally {
+            instance.outstanding.decrementAndGet();
+        }
+    }
+
+    /**
+     * 인스턴스 추가 (재시작 없이 확장)
+     */
+    public boolean addInstance(String url) {
+        String baseUrl = normalize(url);
+        if (baseUrl.isEmpty()) {
+            throw new IllegalArgumentException("AI server url is required");
+        }
+        synchronized (instances) {
+            if (find(baseUrl) != null) {
+                return false;
+            }
+            Instance instance = new Instance(baseUrl, WebClient.builder()
+                    .baseUrl(baseUrl)
+                    .exchangeStrategies(exchangeStrategies)
+                    .build());
+            instance.outstandingGauge = Gauge.builder("ai.server.outstanding", instance.outstanding,
+                    AtomicInteger::get)
+                    .tag("instance", baseUrl)
+                    .register(meterRegistry);
+            instances.add(instance);
+        }
+        log.info("AI server instance added: {}", baseUrl);
+        return true;
+    }
+
+    /**
+     * 인스턴스 제거 (처리 중인 요청은 그대로 완료됨)
+     */
+    public boolean removeInstance(String url) {
+        Instance removed;
+        synchronized (instances) {
+            removed = find(normalize(url));
+            if (removed == null) {
+                return false;
+            }
+            instances.remove(removed);
+        }
+        meterRegistry.remove(removed.outstandingGauge);
+        log.info("AI server instance removed: {}", removed.baseUrl);
+        return true;
+    }
+
+    /**
+     * 인스턴스별 상태 조회
+     */
+    public List<AiServerStatus> getStatuses() {
+        long now = System.currentTimeMillis();
+        List<AiServerStatus> statuses = new ArrayList<>();
+        for (Instance instance : instances) {
+            statuses.add(new AiServerStatus(instance.baseUrl, instance.healthy, instance.isEjected(now),
+                    instance.outstanding.get()));
+        }
+        return statuses;
+    }
+
+    /**
+     * 전체 인스턴스 상태 확인 (병렬 호출)
+     */
+    @Scheduled(fixedDelayString = "${ai.server.health.interval-ms:10000}")
+    public void probeHealth() {
+        Flux.fromIterable(List.copyOf(instances))
+                .flatMap(instance -> instance.webClient.get()
+                        .uri("/")
+                        .retrieve()
+                        .toBodilessEntity()
+                        .timeout(probeTimeout)
+                        .map(response -> true)
+                        .onErrorResume(e -> Mono.just(false))
+                        .doOnNext(healthy -> updateHealth(instance, healthy)))
+                .blockLast(probeTimeout.plusSeconds(1));
+    }
+
+    // --- Helper Methods ---
+
+    private Instance choose() {
+        List<Instance> snapshot = List.copyOf(instances);
+        if (snapshot.isEmpty()) {
+            throw new IllegalStateException("No AI server instance configured");
+        }
+
+        long now = System.currentTimeMillis();
+        // 동률일 때 특정 인스턴스로 몰리지 않도록 임의의 위치부터 탐색
+        int start = ThreadLocalRandom.current().nextInt(snapshot.size());
+        Instance best = null;
+        for (int i = 0; i < snapshot.size(); i++) {
+            Instance candidate = snapshot.get((start + i) % snapshot.size());
+            if (!candidate.healthy || candidate.isEjected(now)) {
+                continue;
+            }
+            if (best == null || candidate.outstanding.get() < best.outstanding.get()) {
+                best = candidate;
+            }
+        }
+
+        if (best == null) {
+            throw new IllegalStateException("No available AI server instance");
+        }
+        return best;
+    }
+
+    private void onFailure(Instance instance) {
+        if (instance.consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            instance.consecutiveFailures.set(0);
+            instance.ejectedUntil = System.currentTimeMillis() + ejectionMillis;
+            log.warn("AI server instance ejected for {} ms: {}", ejectionMillis, instance.baseUrl);
+        }
+    }
+
+    private void updateHealth(Instance instance, boolean healthy) {
+        if (instance.healthy != healthy) {
+            log.info("AI server instance {}: {}", healthy ? "healthy" : "unhealthy", instance.baseUrl);
+        }
+        instance.healthy = healthy;
+    }
+
+    /**
+     * 요청 자체가 잘못된 경우(4xx)나 요청자가 취소한 경우는 인스턴스 장애로 보지 않음
+     */
+    private boolean countsAsFailure(RuntimeException e) {
+        if (e instanceof CancellationException) {
+            return false;
+        }
+        return !(e instanceof WebClientResponseException responseException
+                && responseException.getStatusCode().is4xxClientError());
+    }
+
+    private void recordLatency(Instance instance, String outcome, long startedAt) {
+        Timer.builder(REQUEST_METRIC)
+                .tag("instance", instance.baseUrl)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    private Instance find(String baseUrl) {
+        for (Instance instance : instances) {
+            if (instance.baseUrl.equals(baseUrl)) {
+                return instance;
+            }
+        }
+        return null;
+    }
+
+    private String normalize(String url) {
+        String trimmed = url == null ? "" : url.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+
+    /**
+     * 인스턴스 상태 조회 결과
+     */
+    public record AiServerStatus(String url, boolean healthy, boolean ejected, int outstandingRequests) {
+    }
+
+    private static final class Instance {
+        private final String baseUrl;
+        private final WebClient webClient;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private volatile boolean healthy = true;
+        private volatile long ejectedUntil;
+        private Gauge outstandingGauge;
+
+        private Instance(String baseUrl, WebClient webClient) {
+            this.baseUrl = baseUrl;
+            this.webClient = webClient;
+        }
+
+        private boolean isEjected(long now) {
+            return now < ejectedUntil;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.p_project.p_project_backend.backend_user.service.ai;
+
+import com.p_project.p_project_backend.backend_user.dto.ai.EmotionBatchResponse;
+import com.p_project.p_project_backend.backend_user.dto.ai.EmotionPrediction;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 감정 분류 마이크로 배처
+ * 요청을 최대 max-wait-ms 동안 또는 max-size 개까지 모아 AI 서버 배치 엔드포인트(/api/ai/emotion/batch)로 한 번에 전송
+ * 배치 전송이 모두 진행 중이면 그동안 쌓인 요청이 다음 배치에 함께 담김
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ai.emotion.classifier", havingValue = "remote", matchIfMissing = true)
+public class EmotionBatcher implements DisposableBean {
+
+    private final AiServerPool aiServerPool;
+    private final ThreadPoolTaskExecutor executor;
+    private final BlockingQueue<PendingRequest> queue;
+    private final Semaphore sendSlots;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final Duration requestTimeout;
+    private final DistributionSummary batchSize;
+    private final Timer queueWait;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    public EmotionBatcher(
+            AiServerPool aiServerPool,
+            @Qualifier("emotionBatchExecutor") ThreadPoolTaskExecutor executor,
+            MeterRegistry meterRegistry,
+            @Value("${ai.emotion.batch.max-size:16}") int maxBatchSize,
+            @Value("${ai.emotion.batch.max-wait-ms:10}") long maxWaitMillis,
+            @Value("${ai.emotion.batch.queue-capacity:1000}") int queueCapacity,
+            @Value("${ai.emotion.batch.concurrency:2}") int concurrency,
+            @Value("${ai.emotion.timeout-ms:5000}") long timeoutMillis) {
+        this.aiServerPool = aiServerPool;
+        this.executor = executor;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.sendSlots = new Semaphore(Math.max(1, concurrency));
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.requestTimeout = Duration.ofMillis(timeoutMillis);
+        this.batchSize = DistributionSummary.builder("ai.emotion.batch.size")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("ai.emotion.batch.queue.wait")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("ai.emotion.batch.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+
+        this.dispatcher = new Thread(this::dispatchLoop, "emotion-batcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    /**
+     * 분류 요청 등록 (배치 결과가 도착하면 future 완료)
+     */
+    public CompletableFuture<EmotionPrediction> submit(String content) {
+        PendingRequest request = new PendingRequest(content, System.nanoTime(), new CompletableFuture<>());
+        if (!running || !queue.offer(request)) {
+            request.future().completeExceptionally(new IllegalStateException("Emotion batch queue is full"));
+        }
+        return request.future();
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        dispatcher.interrupt();
+        List<PendingRequest> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(request -> request.future()
+                .completeExceptionally(new IllegalStateException("Emotion batcher is shutting down")));
+    }
+
+    // --- Helper Methods ---
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                List<PendingRequest> batch = collectBatch();
+                sendSlots.acquire();
+                try {
+                    executor.execute(() -> {
+                        try {
+                            send(batch);
+                        } finally {
+                            sendSlots.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    sendSlots.release();
+                    fail(batch, e);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 첫 요청 도착 후 최대 대기 시간 안에서 배치 크기만큼 수집
+     */
+    private List<PendingRequest> collectBatch() throws InterruptedException {
+        List<PendingRequest> batch = new ArrayList<>(maxBatchSize);
+        PendingRequest first = queue.take();
+        batch.add(first);
+
+        long deadline = first.enqueuedAt() + maxWaitNanos;
+        while (batch.size() < maxBatchSize) {
+            // 이미 쌓여 있는 요청은 대기 없이 가져옴
+            if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PendingRequest next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void send(List<PendingRequest> batch) {
+        long dispatchedAt = System.nanoTime();
+        batch.forEach(request -> queueWait.record(dispatchedAt - request.enqueuedAt(), TimeUnit.NANOSECONDS));
+        batchSize.record(batch.size());
+
+        try {
+            List<String> contents = batch.stream().map(PendingRequest::content).toList();
+            EmotionBatchResponse response = aiServerPool.execute(client -> client.post()
+                    .uri("/api/ai/emotion/batch")
+                    .bodyValue(Map.of("contents", contents))
+                    .retrieve()
+                    .bodyToMono(EmotionBatchResponse.class)
+                    .timeout(requestTimeout)
+                    .block());
+
+            List<EmotionPrediction> results = response != null ? response.getResults() : null;
+            if (results == null || results.size() != batch.size()) {
+                throw new IllegalStateException("AI Server returned mismatched emotion batch");
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(results.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Emotion batch failed: size={}, reason={}", batch.size(), e.getMessage());
+            fail(batch, e);
+        }
+    }
+
+    private void fail(List<PendingRequest> batch, Exception cause) {
+        batch.forEach(request -> request.future().completeExceptionally(cause));
+    }
+
+    private record PendingRequest(String content, long enqueuedAt, CompletableFuture<EmotionPrediction> future) {
+    }
+}
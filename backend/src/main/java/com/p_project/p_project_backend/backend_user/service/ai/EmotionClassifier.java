@@ -0,0 +1,26 @@
+package com.p_project.p_project_backend.backend_user.service.ai;
+
+import com.p_project.p_project_backend.backend_user.dto.ai.EmotionPrediction;
+
+import java.util.List;
+
+/**
+ * 일기 감정 분류기
+ * ai.emotion.classifier 설정으로 구현 선택 (remote: AI 서버 호출, onnx: 백엔드 내 ONNX Runtime 추론)
+ */
+public interface EmotionClassifier {
+
+    EmotionPrediction classify(String content);
+
+    /**
+     * 여러 일기를 한 번에 분류 (결과는 입력 순서와 동일)
+     */
+    List<EmotionPrediction> classifyBatch(List<String> contents);
+
+    /**
+     * AI 서버 분석 요청 전에 감정을 미리 분류하여 전달할지 여부 (로컬 추론 또는 배치 사전 분류 설정 시 true)
+     */
+    default boolean classifiesBeforeAnalysis() {
+        return false;
+    }
+}
@@ -0,0 +1,204 @@
+package com.p_project.p_project_backend.backend_user.service.ai;
+
+import ai.djl.sentencepiece.SpProcessor;
+import ai.djl.sentencepiece.SpTokenizer;
+import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OrtEnvironment;
+import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.p_project.p_project_backend.backend_user.dto.ai.EmotionPrediction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 백엔드 내 ONNX Runtime(CPU) 감정 분류기
+ * ai_server/export_onnx.py 로 내보낸 emotion.onnx, tokenizer.model, vocab.json 을 사용
+ * KoBERTTokenizer 와 같은 전처리(공백 정리, NFKD, 결합 문자 제거) 후 SentencePiece 로 토큰화
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ai.emotion.classifier", havingValue = "onnx")
+public class OnnxEmotionClassifier implements EmotionClassifier, DisposableBean {
+
+    // 모델 출력 인덱스 순서 (ai_server/middleware/anaysis_emotion.py EMOTION_NAMES 와 동일)
+    private static final List<String> EMOTION_LABELS = List.of("분노", "슬픔", "불안", "행복", "혐오", "당황", "중립");
+
+    private final OrtEnvironment environment;
+    private final OrtSession session;
+    private final SpTokenizer tokenizer;
+    private final SpProcessor processor;
+    private final Map<String, Integer> vocab;
+    private final int maxLength;
+    private final int maxBatchSize;
+    private final int clsId;
+    private final int sepId;
+    private final int padId;
+    private final int unkId;
+
+    public OnnxEmotionClassifier(
+            ObjectMapper objectMapper,
+            @Value("${ai.emotion.onnx.model-dir:onnx_model}") String modelDir,
+            @Value("${ai.emotion.onnx.max-length:128}") int maxLength,
+            @Value("${ai.emotion.onnx.max-batch-size:32}") int maxBatchSize,
+            @Value("${ai.emotion.onnx.intra-op-threads:0}") int intraOpThreads) throws IOException, OrtException {
+        Path directory = Paths.get(modelDir);
+        this.maxLength = maxLength;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+
+        this.vocab = objectMapper.readValue(Files.readAllBytes(directory.resolve("vocab.json")),
+                new TypeReference<Map<String, Integer>>() {
+                });
+        this.clsId = requireToken("[CLS]");
+        this.sepId = requireToken("[SEP]");
+        this.padId = requireToken("[PAD]");
+        this.unkId = requireToken("[UNK]");
+
+        this.tokenizer = new SpTokenizer(directory.resolve("tokenizer.model"));
+        this.processor = tokenizer.getProcessor();
+
+        this.environment = OrtEnvironment.getEnvironment();
+        try (OrtSession.SessionOptions options = new OrtSession.SessionOptions()) {
+            options.setOptimizationLevel(OrtSession.SessionOptions.OptLevel.ALL_OPT);
+            if (intraOpThreads > 0) {
+                options.setIntraOpNumThreads(intraOpThreads);
+            }
+            this.session = environment.createSession(directory.resolve("emotion.onnx").toString(), options);
+        }
+        log.info("ONNX emotion classifier loaded: {}", directory.toAbsolutePath());
+    }
+
+    @Override
+    public EmotionPrediction classify(String content) {
+        return classifyBatch(List.of(content)).get(0);
+    }
+
+    @Override
+    public List<EmotionPrediction> classifyBatch(List<String> contents) {
+        List<EmotionPrediction> predictions = new ArrayList<>(contents.size());
+        for (int from = 0; from < contents.size(); from += maxBatchSize) {
+            predictions.addAll(runBatch(contents.subList(from, Math.min(from + maxBatchSize, contents.size()))));
+        }
+        return predictions;
+    }
+
+    @Override
+    public boolean classifiesBeforeAnalysis() {
+        return true;
+    }
+
+    @Override
+    public void destroy() throws OrtException {
+        session.close();
+        tokenizer.close();
+    }
+
+    // --- Helper Methods ---
+
+    /**
+     * 배치 추론 (배치 내 가장 긴 문장 길이에 맞춰 패딩)
+     */
+    private List<EmotionPrediction> runBatch(List<String> contents) {
+        List<int[]> encoded = contents.stream().map(this::encode).toList();
+        int sequenceLength = encoded.stream().mapToInt(ids -> ids.length).max().orElse(2);
+
+        long[][] inputIds = new long[encoded.size()][sequenceLength];
+        long[][] attentionMask = new long[encoded.size()][sequenceLength];
+        long[][] tokenTypeIds = new long[encoded.size()][sequenceLength];
+        for (int row = 0; row < encoded.size(); row++) {
+            int[] ids = encoded.get(row);
+            for (int col = 0; col < sequenceLength; col++) {
+                boolean valid = col < ids.length;
+                inputIds[row][col] = valid ? ids[col] : padId;
+                attentionMask[row][col] = valid ? 1 : 0;
+            }
+        }
+
+        try (OnnxTensor inputTensor = OnnxTensor.createTensor(environment, inputIds);
+                OnnxTensor maskTensor = OnnxTensor.createTensor(environment, attentionMask);
+                OnnxTensor typeTensor = OnnxTensor.createTensor(environment, tokenTypeIds);
+                OrtSession.Result result = session.run(Map.of(
+                        "input_ids", inputTensor,
+                        "attention_mask", maskTensor,
+                        "token_type_ids", typeTensor))) {
+            float[][] logits = (float[][]) result.get(0).getValue();
+            List<EmotionPrediction> predictions = new ArrayList<>(logits.length);
+            for (float[] row : logits) {
+                predictions.add(toPrediction(row));
+            }
+            return predictions;
+        } catch (OrtException e) {
+            throw new RuntimeException("ONNX emotion inference failed", e);
+        }
+    }
+
+    /**
+     * [CLS] + 토큰 + [SEP] (최대 길이 초과 시 뒤쪽 토큰 절삭)
+     */
+    private int[] encode(String content) {
+        String[] pieces = processor.tokenize(preprocess(content));
+        int tokenCount = Math.min(pieces.length, maxLength - 2);
+
+        int[] ids = new int[tokenCount + 2];
+        ids[0] = clsId;
+        for (int i = 0; i < tokenCount; i++) {
+            ids[i + 1] = vocab.getOrDefault(pieces[i], unkId);
+        }
+        ids[tokenCount + 1] = sepId;
+        return ids;
+    }
+
+    /**
+     * KoBERTTokenizer(remove_space=True, keep_accents=False) 전처리와 동일
+     */
+    private String preprocess(String content) {
+        String collapsed = String.join(" ", content.strip().split("\\s+"));
+        String decomposed = Normalizer.normalize(collapsed, Normalizer.Form.NFKD);
+        StringBuilder builder = new StringBuilder(decomposed.length());
+        decomposed.codePoints()
+                .filter(codePoint -> Character.getType(codePoint) != Character.NON_SPACING_MARK)
+                .forEach(builder::appendCodePoint);
+        return builder.toString();
+    }
+
+    private EmotionPrediction toPrediction(float[] logits) {
+        int best = 0;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < logits.length; i++) {
+            if (logits[i] > max) {
+                max = logits[i];
+                best = i;
+            }
+        }
+
+        double sum = 0;
+        for (float logit : logits) {
+            sum += Math.exp(logit - max);
+        }
+        return EmotionPrediction.builder()
+                .emotion(EMOTION_LABELS.get(best))
+                .confidence(100.0 / sum)
+                .build();
+    }
+
+    private int requireToken(String token) {
+        Integer id = vocab.get(token);
+        if (id == null) {
+            throw new IllegalStateException("Token not found in vocab.json: " + token);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,101 @@
+package com.p_project.p_project_backend.backend_user.service.ai;
+
+import com.p_project.p_project_backend.backend_user.dto.ai.EmotionPrediction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 서버 감정 분류기 (기본 구현)
+ * 배칭 사용 시 EmotionBatcher 를 통해 /api/ai/emotion/batch 로 모아서 전송, 아니면 /api/ai/emotion 단건 호출
+ * 일기 분석(/api/ai/diary)은 AI 서버가 감정까지 분류하므로 기본적으로 미리 분류하지 않음 (왕복 1회 추가 방지)
+ */
+@Component
+@ConditionalOnProperty(name = "ai.emotion.classifier", havingValue = "remote", matchIfMissing = true)
+public class RemoteEmotionClassifier implements EmotionClassifier {
+
+    private final AiServerPool aiServerPool;
+    private final EmotionBatcher emotionBatcher;
+    private final boolean batchEnabled;
+    private final boolean preClassify;
+    private final Duration timeout;
+
+    public RemoteEmotionClassifier(
+            AiServerPool aiServerPool,
+            EmotionBatcher emotionBatcher,
+            @Value("${ai.emotion.batch.enabled:true}") boolean batchEnabled,
+            @Value("${ai.emotion.batch.pre-classify:false}") boolean preClassify,
+            @Value("${ai.emotion.timeout-ms:5000}") long timeoutMillis) {
+        this.aiServerPool = aiServerPool;
+        this.emotionBatcher = emotionBatcher;
+        this.batchEnabled = batchEnabled;
+        this.preClassify = preClassify;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+    }
+
+    @Override
+    public EmotionPrediction classify(String content) {
+        if (batchEnabled) {
+            return await(emotionBatcher.submit(content));
+        }
+
+        EmotionPrediction prediction = aiServerPool.execute(client -> client.post()
+                .uri("/api/ai/emotion")
+                .bodyValue(Map.of("content", content))
+                .retrieve()
+                .bodyToMono(EmotionPrediction.class)
+                .timeout(timeout)
+                .block());
+
+        if (prediction == null || prediction.getEmotion() == null) {
+            throw new RuntimeException("AI Server returned empty emotion");
+        }
+        return prediction;
+    }
+
+    @Override
+    public List<EmotionPrediction> classifyBatch(List<String> contents) {
+        if (!batchEnabled) {
+            return contents.stream()
+                    .map(this::classify)
+                    .toList();
+        }
+
+        // 한꺼번에 등록하면 배처가 max-size 단위로 묶어서 전송
+        List<CompletableFuture<EmotionPrediction>> futures = contents.stream()
+                .map(emotionBatcher::submit)
+                .toList();
+        return futures.stream()
+                .map(this::await)
+                .toList();
+    }
+
+    /**
+     * pre-classify 설정 시에만 AI 서버 분석 전에 감정을 배치로 미리 분류
+     * (분석 요청마다 배치 분류 왕복이 추가되므로 기본은 꺼짐, 배칭은 재분류/분류 전용 단계에서만 사용)
+     */
+    @Override
+    public boolean classifiesBeforeAnalysis() {
+        return batchEnabled && preClassify;
+    }
+
+    // --- Helper Methods ---
+
+    private EmotionPrediction await(CompletableFuture<EmotionPrediction> future) {
+        try {
+            return future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Emotion classification failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.p_project.p_project_backend.backend_user.service.code;
+
+import com.p_project.p_project_backend.entity.EmailVerificationCode;
+import com.p_project.p_project_backend.entity.PasswordResetCode;
+import com.p_project.p_project_backend.repository.EmailVerificationCodeRepository;
+import com.p_project.p_project_backend.repository.PasswordResetCodeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * DB 코드 저장소 (여러 노드가 같은 코드를 확인해야 하는 배포용)
+ * 이메일별 최신 코드는 (email, created_at) 인덱스로 정렬 없이 조회하고, 만료된 코드는 청크 단위로 정리
+ * 호출하는 서비스의 트랜잭션 안에서 실행됨
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.code-store", havingValue = "database")
+public class DatabaseVerificationCodeStore implements VerificationCodeStore {
+
+    private final EmailVerificationCodeRepository emailVerificationCodeRepository;
+    private final PasswordResetCodeRepository passwordResetCodeRepository;
+    private final Duration ttl;
+    private final Duration verifiedTtl;
+    private final int maxAttempts;
+    private final int purgeBatchSize;
+
+    public DatabaseVerificationCodeStore(
+            EmailVerificationCodeRepository emailVerificationCodeRepository,
+            PasswordResetCodeRepository passwordResetCodeRepository,
+            @Value("${auth.code.ttl-ms:300000}") long ttlMillis,
+            @Value("${auth.code.verified-ttl-ms:1800000}") long verifiedTtlMillis,
+            @Value("${auth.code.max-attempts:5}") int maxAttempts,
+            @Value("${auth.code.purge-batch-size:1000}") int purgeBatchSize) {
+        this.emailVerificationCodeRepository = emailVerificationCodeRepository;
+        this.passwordResetCodeRepository = passwordResetCodeRepository;
+        this.ttl = Duration.ofMillis(ttlMillis);
+        this.verifiedTtl = Duration.ofMillis(verifiedTtlMillis);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.purgeBatchSize = Math.max(1, purgeBatchSize);
+    }
+
+    @Override
+    public void save(Purpose purpose, String email, String code) {
+        LocalDateTime now = LocalDateTime.now();
+        if (purpose == Purpose.EMAIL_VERIFICATION) {
+            emailVerificationCodeRepository.save(EmailVerificationCode.builder()
+                    .email(email)
+                    .code(code)
+                    .expiresAt(now.plus(ttl))
+                    .createdAt(now)
+                    .build());
+        } else {
+            passwordResetCodeRepository.save(PasswordResetCode.builder()
+                    .email(email)
+                    .code(code)
+                    .expiresAt(now.plus(ttl))
+                    .createdAt(now)
+                    .build());
+        }
+    }
+
+    @Override
+    public Result verify(Purpose purpose, String email, String code, String ticket) {
+        LocalDateTime now = LocalDateTime.now();
+        if (purpose == Purpose.EMAIL_VERIFICATION) {
+            EmailVerificationCode evc = emailVerificationCodeRepository.findTopByEmailOrderByCreatedAtDesc(email)
+                    .orElse(null);
+            if (evc == null) {
+                return Result.NOT_FOUND;
+            }
+            Result result = check(evc.getCode(), evc.getAttempts(), evc.getExpiresAt(), code, now);
+            if (result == Result.MISMATCH) {
+                evc.setAttempts(evc.getAttempts() + 1);
+            } else if (result == Result.VERIFIED) {
+                evc.setVerifiedAt(now);
+            }
+            emailVerificationCodeRepository.save(evc);
+            return result;
+        }
+
+        PasswordResetCode prc = passwordResetCodeRepository.findTopByEmailOrderByCreatedAtDesc(email).orElse(null);
+        if (prc == null) {
+            return Result.NOT_FOUND;
+        }
+        Result result = check(prc.getCode(), prc.getAttempts(), prc.getExpiresAt(), code, now);
+        if (result == Result.MISMATCH) {
+            prc.setAttempts(prc.getAttempts() + 1);
+        } else if (result == Result.VERIFIED) {
+            prc.setResetToken(ticket);
+        }
+        passwordResetCodeRepository.save(prc);
+        return result;
+    }
+
+    @Override
+    public boolean isEmailVerified(String email) {
+        LocalDateTime validAfter = LocalDateTime.now().minus(verifiedTtl);
+        return emailVerificationCodeRepository.findTopByEmailOrderByCreatedAtDesc(email)
+                .map(evc -> evc.getVerifiedAt() != null && evc.getVerifiedAt().isAfter(validAfter))
+                .orElse(false);
+    }
+
+    @Override
+    public boolean consumeResetTicket(String email, String ticket) {
+        if (ticket == null) {
+            return false;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        PasswordResetCode prc = passwordResetCodeRepository.findTopByEmailOrderByCreatedAtDesc(email).orElse(null);
+        if (prc == null || prc.getUsedAt() != null || !ticket.equals(prc.getResetToken())
+                || prc.getExpiresAt().plus(verifiedTtl).isBefore(now)) {
+            return false;
+        }
+        prc.setUsedAt(now);
+        passwordResetCodeRepository.save(prc);
+        return true;
+    }
+
+    @Override
+    public void removeAll(String email) {
+        emailVerificationCodeRepository.deleteByEmail(email);
+        passwordResetCodeRepository.deleteByEmail(email);
+    }
+
+    /**
+     * 만료된 코드 정리 (인증 완료 후 유효 시간까지 지난 코드를 청크 단위 삭제)
+     */
+    @Scheduled(cron = "${auth.code.purge-cron:0 10 * * * *}")
+    public void purgeExpired() {
+        LocalDateTime before = LocalDateTime.now().minus(verifiedTtl);
+        int emailCodes = purge(before, emailVerificationCodeRepository::findExpiredIds,
+                emailVerificationCodeRepository::deleteByIdIn);
+        int resetCodes = purge(before, passwordResetCodeRepository::findExpiredIds,
+                passwordResetCodeRepository::deleteByIdIn);
+        if (emailCodes + resetCodes > 0) {
+            log.info("Purged expired codes: emailVerification={}, passwordReset={}", emailCodes, resetCodes);
+        }
+    }
+
+    // --- Helper Methods ---
+
+    private Result check(String storedCode, int attempts, LocalDateTime expiresAt, String code, LocalDateTime now) {
+        if (attempts >= maxAttempts) {
+            return Result.TOO_MANY_ATTEMPTS;
+        }
+        if (expiresAt.isBefore(now)) {
+            return Result.EXPIRED;
+        }
+        return storedCode.equals(code) ? Result.VERIFIED : Result.MISMATCH;
+    }
+
+    private int purge(LocalDateTime before, BiFunction<LocalDateTime, Pageable, List<Long>> findExpiredIds,
+            Function<List<Long>, Integer> deleteByIds) {
+        int deleted = 0;
+        while (true) {
+            List<Long> ids = findExpiredIds.apply(before, PageRequest.of(0, purgeBatchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            deleted += deleteByIds.apply(ids);
+            if (ids.size() < purgeBatchSize) {
+                break;
+            }
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,150 @@
+package com.p_project.p_project_backend.backend_user.service.code;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 메모리 코드 저장소 (기본 구현, 단일 노드용)
+ * 이메일/용도별 최신 코드 하나를 해시 맵으로 O(1) 조회하고, 항목별 만료는 Caffeine 가변 만료(타이머 휠)로 처리
+ * 만료된 코드는 만료 안내를 위해 유효 시간만큼 더 보관한 뒤 제거하며, 재시작 시 발송된 코드는 사라짐 (재발송 필요)
+ */
+@Component
+@ConditionalOnProperty(name = "auth.code-store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+
+    private final Cache<Key, Entry> entries;
+    private final long ttlNanos;
+    private final long verifiedTtlNanos;
+    private final int maxAttempts;
+
+    public InMemoryVerificationCodeStore(
+            @Value("${auth.code.ttl-ms:300000}") long ttlMillis,
+            @Value("${auth.code.verified-ttl-ms:1800000}") long verifiedTtlMillis,
+            @Value("${auth.code.max-attempts:5}") int maxAttempts,
+            @Value("${auth.code.max-entries:100000}") long maxEntries) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.verifiedTtlNanos = TimeUnit.MILLISECONDS.toNanos(verifiedTtlMillis);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new Expiry<Key, Entry>() {
+                    @Override
+                    public long expireAfterCreate(Key key, Entry entry, long currentTime) {
+                        return Math.max(0, entry.removeAt() - currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Key key, Entry entry, long currentTime, long currentDuration) {
+                        return Math.max(0, entry.removeAt() - currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Key key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                // 조회가 없어도 만료 시점에 메모리 해제
+                .scheduler(Scheduler.systemScheduler())
+                .build();
+    }
+
+    @Override
+    public void save(Purpose purpose, String email, String code) {
+        long now = System.nanoTime();
+        entries.put(keyOf(purpose, email), new Entry(code, now + ttlNanos, now + ttlNanos * 2, 0, false, null));
+    }
+
+    @Override
+    public Result verify(Purpose purpose, String email, String code, String ticket) {
+        AtomicReference<Result> result = new AtomicReference<>(Result.NOT_FOUND);
+        // 같은 키의 동시 시도는 compute 로 순서대로 반영 (시도 횟수 누락 방지)
+        entries.asMap().computeIfPresent(keyOf(purpose, email), (key, entry) -> {
+            long now = System.nanoTime();
+            if (entry.attempts() >= maxAttempts) {
+                result.set(Result.TOO_MANY_ATTEMPTS);
+                return entry;
+            }
+            if (entry.isExpired(now)) {
+                result.set(Result.EXPIRED);
+                return entry;
+            }
+            if (!entry.code().equals(code)) {
+                result.set(Result.MISMATCH);
+                return entry.withAttempt();
+            }
+            result.set(Result.VERIFIED);
+            return entry.verified(ticket, now + verifiedTtlNanos);
+        });
+        return result.get();
+    }
+
+    @Override
+    public boolean isEmailVerified(String email) {
+        Entry entry = entries.getIfPresent(keyOf(Purpose.EMAIL_VERIFICATION, email));
+        return entry != null && entry.verified() && !entry.isExpired(System.nanoTime());
+    }
+
+    @Override
+    public boolean consumeResetTicket(String email, String ticket) {
+        if (ticket == null) {
+            return false;
+        }
+        AtomicBoolean consumed = new AtomicBoolean();
+        entries.asMap().computeIfPresent(keyOf(Purpose.PASSWORD_RESET, email), (key, entry) -> {
+            if (entry.verified() && ticket.equals(entry.ticket()) && !entry.isExpired(System.nanoTime())) {
+                consumed.set(true);
+                return null;
+            }
+            return entry;
+        });
+        return consumed.get();
+    }
+
+    @Override
+    public void removeAll(String email) {
+        for (Purpose purpose : Purpose.values()) {
+            entries.invalidate(keyOf(purpose, email));
+        }
+    }
+
+    // --- Helper Methods ---
+
+    /**
+     * 이메일은 대소문자를 구분하지 않음 (DB 조회 시 collation 과 동일하게)
+     */
+    private Key keyOf(Purpose purpose, String email) {
+        return new Key(purpose, Objects.requireNonNull(email).trim().toLowerCase(Locale.ROOT));
+    }
+
+    private record Key(Purpose purpose, String email) {
+    }
+
+    /**
+     * 저장된 코드 (시각은 System.nanoTime 기준, removeAt 이후 맵에서 제거)
+     */
+    private record Entry(String code, long expiresAt, long removeAt, int attempts, boolean verified, String ticket) {
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+
+        private Entry withAttempt() {
+            return new Entry(code, expiresAt, removeAt, attempts + 1, verified, ticket);
+        }
+
+        private Entry verified(String newTicket, long newExpiresAt) {
+            return new Entry(code, newExpiresAt, Math.max(removeAt, newExpiresAt), attempts, true, newTicket);
+        }
+    }
+}
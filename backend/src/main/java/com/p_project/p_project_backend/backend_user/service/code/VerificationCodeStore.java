@@ -0,0 +1,47 @@
+package com.p_project.p_project_backend.backend_user.service.code;
+
+/**
+ * 이메일 인증 / 비밀번호 재설정 코드 저장소 (수명이 짧은 코드 전용)
+ * auth.code-store 설정으로 구현 선택 (memory: 노드 메모리에 만료 맵으로 보관, database: 여러 노드가 공유하는 DB 테이블)
+ * 코드는 이메일/용도별로 가장 최근 것 하나만 유효하며, 틀린 입력이 auth.code.max-attempts 번을 넘으면 더 이상 확인할 수 없음
+ */
+public interface VerificationCodeStore {
+
+    /**
+     * 새 코드 저장 (같은 이메일/용도의 이전 코드는 무효)
+     */
+    void save(Purpose purpose, String email, String code);
+
+    /**
+     * 코드 확인 (틀리면 시도 횟수 증가, 맞으면 확인 완료로 표시하고 ticket 을 함께 보관)
+     */
+    Result verify(Purpose purpose, String email, String code, String ticket);
+
+    /**
+     * 이메일 인증 완료 여부
+     */
+    boolean isEmailVerified(String email);
+
+    /**
+     * 비밀번호 재설정 ticket 사용 (일치하면 코드를 사용 처리하고 true, 한 번만 성공)
+     */
+    boolean consumeResetTicket(String email, String ticket);
+
+    /**
+     * 이메일의 모든 코드 삭제
+     */
+    void removeAll(String email);
+
+    enum Purpose {
+        EMAIL_VERIFICATION, // 회원 가입 이메일 인증
+        PASSWORD_RESET // 비밀번호 재설정
+    }
+
+    enum Result {
+        VERIFIED, // 확인 완료
+        NOT_FOUND, // 발송된 코드 없음
+        MISMATCH, // 코드 불일치
+        EXPIRED, // 유효 시간 초과
+        TOO_MANY_ATTEMPTS // 시도 횟수 초과 (재발송 필요)
+    }
+}
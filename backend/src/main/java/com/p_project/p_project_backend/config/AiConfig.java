@@ -3,25 +3,19 @@ package com.p_project.p_project_backend.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
-import org.springframework.web.reactive.function.client.WebClient;
 
 /**
  * AI 서버 연동 설정
+ * AI 서버(FastAPI) 주소 목록은 ai.server.urls 로 설정하며 인스턴스별 WebClient 는 AiServerPool 에서 생성
  */
 @Configuration
 public class AiConfig {
 
     @Bean
-    public WebClient aiWebClient() {
-        // AI 서버(FastAPI)가 실행될 주소 (로컬 테스트 기준)
-        // Base64 이미지 수신을 위해 버퍼 크기를 10MB로 설정
-        ExchangeStrategies strategies = ExchangeStrategies.builder()
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024))
-                .build();
-
-        return WebClient.builder()
-                .baseUrl("http://localhost:8000")
-                .exchangeStrategies(strategies)
+    public ExchangeStrategies aiExchangeStrategies() {
+        // 분석 결과 JSON만 메모리로 수신 (이미지는 DataBuffer 스트리밍으로 파일에 직접 기록)
+        return ExchangeStrategies.builder()
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(256 * 1024))
                 .build();
     }
 }
@@ -0,0 +1,101 @@
+package com.p_project.p_project_backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 작업 및 스케줄링 설정
+ */
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+    /**
+     * 일기 AI 분석 워커 풀 (AI 서버 동시 요청 수 제한)
+     */
+    @Bean(name = "diaryAnalysisExecutor")
+    public ThreadPoolTaskExecutor diaryAnalysisExecutor(
+            @Value("${ai.analysis.concurrency:4}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        // 작업은 빈 슬롯만큼만 선점하므로 큐는 거의 사용되지 않음
+        executor.setQueueCapacity(concurrency);
+        executor.setThreadNamePrefix("diary-analysis-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 감정 분류 배치 전송 스레드 풀 (배치 전송 중에도 다음 배치를 모을 수 있도록 별도 실행)
+     */
+    @Bean(name = "emotionBatchExecutor")
+    public ThreadPoolTaskExecutor emotionBatchExecutor(
+            @Value("${ai.emotion.batch.concurrency:2}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(concurrency);
+        executor.setThreadNamePrefix("emotion-batch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 작성 중인 일기 사전 분석 스레드 풀 (추측성 작업이므로 작게 유지하고 종료 시 기다리지 않음)
+     */
+    @Bean(name = "draftAnalysisExecutor")
+    public ThreadPoolTaskExecutor draftAnalysisExecutor(
+            @Value("${ai.draft.concurrency:2}") int concurrency,
+            @Value("${ai.draft.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("draft-analysis-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 비밀번호 해시(BCrypt) 전용 스레드 풀 (CPU 작업이므로 코어 수만큼만 실행, 대기열이 가득 차면 즉시 거절)
+     */
+    @Bean(name = "passwordHashingExecutor")
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+            @Value("${security.bcrypt.threads:0}") int threads,
+            @Value("${security.bcrypt.queue-capacity:32}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 이메일 발송 워커 풀 (워커마다 SMTP 연결 하나로 묶음 발송, 요청 스레드와 DB 커넥션을 잡지 않음)
+     */
+    @Bean(name = "emailDispatchExecutor")
+    public ThreadPoolTaskExecutor emailDispatchExecutor(
+            @Value("${email.outbox.concurrency:2}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        // 워커 수는 EmailOutboxDispatcher 가 제한하므로 큐는 거의 사용되지 않음
+        executor.setQueueCapacity(concurrency);
+        executor.setThreadNamePrefix("email-dispatch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
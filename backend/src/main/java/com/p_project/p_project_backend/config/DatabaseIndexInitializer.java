@@ -1,7 +1,7 @@
 package com.p_project.p_project_backend.config;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.core.annotation.Order;
@@ -12,14 +12,22 @@ import org.springframework.stereotype.Component;
  * 데이터베이스 인덱스 초기화 설정
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class DatabaseIndexInitializer {
 
     private final JdbcTemplate jdbcTemplate;
+    private final boolean ngram;
+
+    public DatabaseIndexInitializer(
+            JdbcTemplate jdbcTemplate,
+            @Value("${diary.search.ngram:false}") boolean ngram) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ngram = ngram;
+    }
 
     /**
      * 일기 내용 검색을 위한 Full-Text 인덱스 생성
+     * diary.search.ngram 설정과 인덱스 파서가 다르면 다시 생성 (MySQL ngram 파서 <-> 기본 파서)
      */
     @EventListener(ApplicationReadyEvent.class)
     @Order(1)
@@ -52,22 +60,38 @@ public class DatabaseIndexInitializer {
             Integer indexExists = jdbcTemplate.queryForObject(checkIndexSql, Integer.class);
 
             if (indexExists != null && indexExists > 0) {
-                log.info("FULLTEXT 인덱스가 이미 존재합니다: idx_diaries_title_content");
-                return;
+                if (hasNgramParser() == ngram) {
+                    log.info("FULLTEXT 인덱스가 이미 존재합니다: idx_diaries_title_content");
+                    return;
+                }
+                // 파서가 바뀌면 기존 토큰으로는 검색되지 않으므로 다시 생성
+                jdbcTemplate.execute("ALTER TABLE diaries DROP INDEX idx_diaries_title_content");
+                log.info("FULLTEXT 인덱스 파서 변경으로 재생성합니다: ngram={}", ngram);
             }
 
             // 3. FULLTEXT 인덱스 생성 (DDL은 JdbcTemplate으로 실행)
             String createIndexSql = """
                     CREATE FULLTEXT INDEX idx_diaries_title_content
                     ON diaries(title, content)
-                    """;
+                    """ + (ngram ? " WITH PARSER ngram" : "");
 
             jdbcTemplate.execute(createIndexSql);
-            log.info("FULLTEXT 인덱스 생성 완료: idx_diaries_title_content");
+            log.info("FULLTEXT 인덱스 생성 완료: idx_diaries_title_content (ngram={})", ngram);
 
         } catch (Exception e) {
             log.error("FULLTEXT 인덱스 생성 중 오류 발생 (무시하고 계속 진행): {}",
                     e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    // --- Helper Methods ---
+
+    /**
+     * 현재 FULLTEXT 인덱스가 ngram 파서로 생성되었는지 확인 (SHOW CREATE TABLE 의 WITH PARSER 절)
+     */
+    private boolean hasNgramParser() {
+        String createTable = jdbcTemplate.queryForObject("SHOW CREATE TABLE diaries",
+                (rs, rowNum) -> rs.getString(2));
+        return createTable != null && createTable.contains("WITH PARSER `ngram`");
+    }
+}
@@ -0,0 +1,37 @@
+package com.p_project.p_project_backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.p_project.p_project_backend.security.AuthRateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 인증 API 요청 수 제한 설정
+ * Spring Security 필터 체인(-100)보다 먼저 실행하여, 제한을 넘은 요청은 인증/메일 발송/BCrypt 없이 거부
+ * 경로별 제한 형식: 경로=IP당 횟수/이메일당 횟수/기간(초) (횟수 0은 해당 기준 제한 없음)
+ */
+@Configuration
+public class RateLimitConfig {
+
+    private static final int FILTER_ORDER = -110;
+
+    @Bean
+    public FilterRegistrationBean<AuthRateLimitFilter> authRateLimitFilter(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.routes:/api/auth/login=30/10/60,/api/admin/auth/login=10/5/60,"
+                    + "/api/auth/register=10/3/600,/api/auth/send-verification-code=10/3/600,"
+                    + "/api/auth/password-reset/send-code=10/3/600}") String routes,
+            @Value("${rate-limit.max-buckets:100000}") long maxBuckets,
+            @Value("${rate-limit.max-body-bytes:16384}") int maxBodyBytes) {
+        FilterRegistrationBean<AuthRateLimitFilter> registration = new FilterRegistrationBean<>(
+                new AuthRateLimitFilter(routes, objectMapper, meterRegistry, maxBuckets, maxBodyBytes));
+        registration.setOrder(FILTER_ORDER);
+        registration.setEnabled(enabled);
+        return registration;
+    }
+}
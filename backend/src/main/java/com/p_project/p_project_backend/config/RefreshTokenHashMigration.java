@@ -0,0 +1,85 @@
+package com.p_project.p_project_backend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 리프레시 토큰 원문 컬럼(token) -> SHA-256 해시 컬럼(token_hash) 전환
+ * 기존 토큰은 DB 의 SHA2() 로 해시를 채워 로그인 상태를 유지한 뒤 원문 컬럼 삭제
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenHashMigration {
+
+    private static final List<String> TABLES = List.of("refresh_tokens", "admin_refresh_tokens");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 원문 컬럼이 남아 있는 테이블만 전환 (이미 전환된 경우 아무 작업 안 함)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(2)
+    public void migrate() {
+        for (String table : TABLES) {
+            try {
+                migrateTable(table);
+            } catch (Exception e) {
+                log.error("리프레시 토큰 해시 전환 중 오류 발생 (무시하고 계속 진행): table={}, {}",
+                        table, e.getMessage());
+            }
+        }
+    }
+
+    // --- Helper Methods ---
+
+    private void migrateTable(String table) {
+        // 1. 원문 컬럼 존재 확인
+        String checkColumnSql = """
+                SELECT COUNT(*)
+                FROM information_schema.columns
+                WHERE table_schema = DATABASE()
+                  AND table_name = ?
+                  AND column_name = 'token'
+                """;
+        Integer columnExists = jdbcTemplate.queryForObject(checkColumnSql, Integer.class, table);
+        if (columnExists == null || columnExists == 0) {
+            return;
+        }
+
+        // 2. 해시 채우기 (SHA2 결과는 소문자 16진 문자열로 애플리케이션 해시와 동일)
+        int hashed = jdbcTemplate.update("UPDATE " + table + " SET token_hash = SHA2(token, 256) "
+                + "WHERE token_hash IS NULL OR token_hash = ''");
+
+        // 3. 같은 토큰이 여러 행에 저장된 경우 최신 행만 남김 (유니크 인덱스 생성 전)
+        jdbcTemplate.update("DELETE t1 FROM " + table + " t1 JOIN " + table + " t2 "
+                + "ON t1.token_hash = t2.token_hash AND t1.id < t2.id");
+
+        // 4. 원문 컬럼 삭제 (컬럼의 기존 인덱스도 함께 삭제됨)
+        jdbcTemplate.execute("ALTER TABLE " + table + " DROP COLUMN token");
+
+        // 5. 해시 유니크 인덱스 확인 (스키마 갱신 시 중복 값으로 생성되지 못했을 수 있음)
+        String indexName = "uk_" + table + "_token_hash";
+        String checkIndexSql = """
+                SELECT COUNT(*)
+                FROM information_schema.statistics
+                WHERE table_schema = DATABASE()
+                  AND table_name = ?
+                  AND index_name = ?
+                """;
+        Integer indexExists = jdbcTemplate.queryForObject(checkIndexSql, Integer.class, table, indexName);
+        if (indexExists == null || indexExists == 0) {
+            jdbcTemplate.execute("CREATE UNIQUE INDEX " + indexName + " ON " + table + "(token_hash)");
+        }
+
+        log.info("리프레시 토큰 해시 전환 완료: table={}, hashed={}", table, hashed);
+    }
+}
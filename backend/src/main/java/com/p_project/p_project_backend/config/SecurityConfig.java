@@ -1,7 +1,12 @@
 package com.p_project.p_project_backend.config;
 
 import com.p_project.p_project_backend.security.JwtAuthenticationFilter;
+import com.p_project.p_project_backend.security.OffloadingPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,6 +16,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -35,6 +41,7 @@ public class SecurityConfig {
                 .cors(org.springframework.security.config.Customizer.withDefaults()) // Enable CORS
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // SSE 비동기 디스패치 (최초 요청에서 인증 완료)
                         .requestMatchers("/api/auth/**").permitAll() // Allow all auth endpoints
                         .requestMatchers("/api/admin/auth/login").permitAll() // Allow admin login
                         .requestMatchers("/api/admin/auth/refresh").permitAll() // Allow admin token refresh
@@ -51,9 +58,18 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * 비밀번호 인코더 (BCrypt, 전용 스레드 풀에서 실행)
+     * strength 를 올리면 기존 해시는 다음 로그인 때 새 cost 로 다시 저장됨
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor passwordHashingExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${security.bcrypt.strength:10}") int strength,
+            @Value("${security.bcrypt.wait-timeout-ms:5000}") long waitTimeoutMillis) {
+        return new OffloadingPasswordEncoder(new BCryptPasswordEncoder(strength), passwordHashingExecutor,
+                meterRegistry, waitTimeoutMillis);
     }
 
     @Bean
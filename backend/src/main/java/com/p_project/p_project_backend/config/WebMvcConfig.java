@@ -1,18 +1,33 @@
 package com.p_project.p_project_backend.config;
 
+import com.p_project.p_project_backend.security.CurrentUserArgumentResolver;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 /**
- * 웹 MVC 설정 (정적 리소스, CORS)
+ * 웹 MVC 설정 (정적 리소스, CORS, 인증 사용자 파라미터)
  */
 @Configuration
+@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private final CurrentUserArgumentResolver currentUserArgumentResolver;
+
+    /**
+     * @CurrentUser 파라미터 리졸버 등록
+     */
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserArgumentResolver);
+    }
+
     /**
      * 정적 리소스 핸들러 설정 (이미지 업로드 경로)
      */
@@ -9,7 +9,7 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "admin_refresh_tokens", indexes = {
         @Index(name = "idx_admin_refresh_tokens_admin_id", columnList = "admin_id"),
-        @Index(name = "idx_admin_refresh_tokens_token", columnList = "token"),
+        @Index(name = "uk_admin_refresh_tokens_token_hash", columnList = "token_hash", unique = true),
         @Index(name = "idx_admin_refresh_tokens_expires_at", columnList = "expires_at"),
         @Index(name = "idx_admin_refresh_tokens_revoked_at", columnList = "revoked_at")
 }) // 테이블명 설정 - admin_refresh_tokens, 인덱스 설정
@@ -31,9 +31,9 @@ public class AdminRefreshToken {
     @JoinColumn(name = "admin_id", nullable = false)
     private Admin admin;
 
-    // 리프레시 토큰 값 (token)
-    @Column(name = "token", nullable = false, length = 500) // null 불가
-    private String token;
+    // 리프레시 토큰 SHA-256 해시 (token_hash) - 토큰 원문은 저장하지 않음
+    @Column(name = "token_hash", nullable = false, length = 64, columnDefinition = "CHAR(64)") // null 불가
+    private String tokenHash;
 
     // 만료 일시 (expires_at)
     @Column(name = "expires_at", nullable = false)
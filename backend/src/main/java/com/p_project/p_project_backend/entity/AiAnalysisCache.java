@@ -0,0 +1,54 @@
+package com.p_project.p_project_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "ai_analysis_cache", indexes = {
+        @Index(name = "idx_ai_analysis_cache_last_hit_at", columnList = "last_hit_at") // 오래된 캐시 정리
+}) // 테이블명 설정 - ai_analysis_cache, 인덱스 설정
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // 인자가 필요없는 생성자 생성
+@AllArgsConstructor // 모든 인자를 필요로하는 생성자 생성
+@Builder // 객체 생성 시 Builder를 활용하여 생성 가능
+/**
+ * AI 분석 결과 캐시 엔티티 (내용/날씨/페르소나/성별/모델 버전 해시 기준)
+ */
+public class AiAnalysisCache {
+
+    // 캐시 키 (cache_key) - SHA-256 hex
+    @Id
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;
+
+    // 감정 (emotion)
+    @Column(name = "emotion", nullable = false, length = 20)
+    private String emotion;
+
+    // AI 코멘트 (ai_comment)
+    @Column(name = "ai_comment", columnDefinition = "TEXT")
+    private String aiComment;
+
+    // 음식 추천 정보 (recommended_food) - JSON
+    @Column(name = "recommended_food", columnDefinition = "JSON")
+    private String recommendedFood;
+
+    // AI 생성 이미지 URL (image_url)
+    @Column(name = "image_url", length = 500)
+    private String imageUrl;
+
+    // 감정 모델 버전 (model_version)
+    @Column(name = "model_version", nullable = false, length = 50)
+    private String modelVersion;
+
+    // 생성일시 (created_at)
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // 마지막 적중 일시 (last_hit_at)
+    @Column(name = "last_hit_at", nullable = false)
+    private LocalDateTime lastHitAt;
+}
@@ -2,6 +2,7 @@ package com.p_project.p_project_backend.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.LazyGroup;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -22,7 +23,9 @@ import java.time.LocalDateTime;
         @Index(name = "idx_diaries_user_emotion", columnList = "user_id, emotion"), // 위험 신호 감지 최적화
         @Index(name = "idx_diaries_user_emotion_date", columnList = "user_id, emotion, date"), // 위험 신호 감지 최적화 (모니터링 기간
                                                                                                // 내 일기 조회)
-        @Index(name = "idx_diaries_emotion_date", columnList = "emotion, date") // 통계 조회 최적화
+        @Index(name = "idx_diaries_emotion_date", columnList = "emotion, date"), // 통계 조회 최적화
+        @Index(name = "idx_diaries_analysis_tier", columnList = "analysis_tier"), // 분석 백필 대상 조회
+        @Index(name = "idx_diaries_calendar", columnList = "user_id, date, deleted_at, emotion, analysis_status, id") // 캘린더 조회 커버링 인덱스
 // FULLTEXT 인덱스 (title, content)는 DatabaseIndexInitializer에서 애플리케이션 시작 시 자동 생성됨
 }) // 테이블명 설정 - diaries, 인덱스 설정
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 인자가 필요없는 생성자 생성
@@ -52,7 +55,10 @@ public class Diary {
     @Column(name = "title", nullable = false, length = 255)
     private String title;
 
-    // 일기 본문 (content)
+    // 일기 본문 (content) - 지연 로딩 (바이트코드 향상 필요, 캘린더/통계 조회 시 읽지 않음)
+    // body 그룹(본문, AI 코멘트, 음식 추천)은 처음 접근할 때 한 번의 조회로 함께 로딩
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("body")
     @Column(name = "content", nullable = false, columnDefinition = "TEXT")
     private String content;
 
@@ -79,14 +85,44 @@ public class Diary {
     @Column(name = "image_url", length = 500)
     private String imageUrl;
 
-    // AI 코멘트 (ai_comment)
+    // AI 코멘트 (ai_comment) - 지연 로딩 (body 그룹)
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("body")
     @Column(name = "ai_comment", columnDefinition = "TEXT")
     private String aiComment;
 
-    // 음식 추천 정보 (recommended_food) - JSON
+    // 음식 추천 정보 (recommended_food) - JSON, 지연 로딩 (body 그룹)
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("body")
     @Column(name = "recommended_food", columnDefinition = "JSON")
     private String recommendedFood;
 
+    // AI 분석 상태 (analysis_status) - null은 분석 완료(기존 데이터)로 간주
+    @Enumerated(EnumType.STRING)
+    @Column(name = "analysis_status")
+    private AnalysisStatus analysisStatus;
+
+    // AI 분석 단계 (analysis_tier) - 부하로 생략된 분석은 백필 작업이 보완, null은 전체 분석(기존 데이터)으로 간주
+    @Enumerated(EnumType.STRING)
+    @Column(name = "analysis_tier")
+    private AnalysisTier analysisTier;
+
+    // 감정 분류 모델 버전 (emotion_model_version) - 모델 교체 후 재분류 대상 판별, null은 미기록(기존 데이터/대체 감정)
+    @Column(name = "emotion_model_version", length = 50)
+    private String emotionModelVersion;
+
+    // 낙관적 잠금 버전 (version) - 동시에 반영되는 변경 중 하나만 성공
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    @Builder.Default
+    private Long version = 0L;
+
+    // 수정 요청 순번 (edit_sequence) - 수정 요청마다 증가하며 가장 최근 요청의 분석 결과만 반영
+    // 엔티티 저장 시 읽어 둔 이전 값으로 덮어쓰지 않도록 증가 쿼리로만 변경
+    @Column(name = "edit_sequence", nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    @Builder.Default
+    private Long editSequence = 0L;
+
     // 생성일시 (created_at)
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -112,4 +148,17 @@ public class Diary {
     public enum Weather {
         맑음, 흐림, 비, 눈, 천둥, 안개
     }
+
+    public enum AnalysisStatus {
+        PENDING, // 분석 대기 (감정은 임시값)
+        COMPLETED, // 분석 완료
+        FAILED // 재시도 한도 초과
+    }
+
+    public enum AnalysisTier {
+        FULL, // 감정 + 피드백 + 이미지
+        NO_IMAGE, // 이미지 생성 생략
+        NO_FEEDBACK, // 이미지, 피드백(코멘트/음식 추천) 생략
+        CLASSIFICATION_ONLY // 감정 분류만 수행
+    }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.p_project.p_project_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "diary_analysis_jobs", indexes = {
+        @Index(name = "idx_diary_analysis_jobs_diary_id", columnList = "diary_id"),
+        @Index(name = "idx_diary_analysis_jobs_status_next", columnList = "status, next_attempt_at") // 대기 작업 조회 최적화
+}) // 테이블명 설정 - diary_analysis_jobs, 인덱스 설정
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // 인자가 필요없는 생성자 생성
+@AllArgsConstructor // 모든 인자를 필요로하는 생성자 생성
+@Builder // 객체 생성 시 Builder를 활용하여 생성 가능
+/**
+ * 일기 AI 분석 작업 엔티티
+ */
+public class DiaryAnalysisJob {
+
+    // 작업 고유 ID (id)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY) // auto_increment 설정
+    private Long id;
+
+    // 일기 ID (diary_id) - FK
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "diary_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Diary diary;
+
+    // 작업 상태 (status)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    // 시도 횟수 (attempts)
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    // 다음 시도 일시 (next_attempt_at)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 마지막 오류 메시지 (last_error)
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    // 생성일시 (created_at)
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // 수정일시 (updated_at)
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public enum Status {
+        PENDING, RUNNING, SUCCEEDED, FAILED
+    }
+}
@@ -0,0 +1,71 @@
+package com.p_project.p_project_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "email_outbox", indexes = {
+        @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at") // 발송 대상 조회
+}) // 테이블명 설정 - email_outbox, 인덱스 설정
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // 인자가 필요없는 생성자 생성
+@AllArgsConstructor // 모든 인자를 필요로하는 생성자 생성
+@Builder // 객체 생성 시 Builder를 활용하여 생성 가능
+/**
+ * 이메일 발송 대기열 엔티티 (요청 트랜잭션에서 함께 저장하고, 발송은 백그라운드에서 수행)
+ */
+public class EmailOutbox {
+
+    // 메일 고유 ID (id)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY) // auto_increment 설정
+    private Long id;
+
+    // 수신자 (recipient)
+    @Column(name = "recipient", nullable = false, length = 255)
+    private String recipient;
+
+    // 제목 (subject)
+    @Column(name = "subject", nullable = false, length = 255)
+    private String subject;
+
+    // 본문 (body) - 텍스트
+    @Column(name = "body", nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    // 발송 상태 (status)
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    @Column(name = "status", nullable = false)
+    private Status status = Status.PENDING;
+
+    // 발송 시도 횟수 (attempts)
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    // 다음 발송 가능 일시 (next_attempt_at) - 발송 중에는 선점 만료 일시
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 마지막 실패 사유 (last_error)
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    // 생성일시 (created_at)
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // 발송 완료 일시 (sent_at)
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    public enum Status {
+        PENDING, // 발송 대기 (실패 후 재시도 대기 포함)
+        SENT, // 발송 완료
+        DEAD // 재시도 횟수 초과 (수동 확인 필요)
+    }
+}
@@ -8,7 +8,7 @@ import java.time.LocalDateTime;
 @Setter
 @Entity
 @Table(name = "email_verification_codes", indexes = {
-        @Index(name = "idx_email_codes_email", columnList = "email"),
+        @Index(name = "idx_email_codes_email_created_at", columnList = "email, created_at"), // 이메일별 최신 코드 조회
         @Index(name = "idx_email_codes_code", columnList = "code"),
         @Index(name = "idx_email_codes_expires_at", columnList = "expires_at")
 }) // 테이블명 설정 - email_verification_codes, 인덱스 설정
@@ -37,6 +37,11 @@ public class EmailVerificationCode {
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
 
+    // 틀린 입력 횟수 (attempts)
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
     // 인증 완료 일시 (verified_at)
     @Column(name = "verified_at")
     private LocalDateTime verifiedAt;
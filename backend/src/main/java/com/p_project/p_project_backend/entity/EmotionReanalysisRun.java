@@ -0,0 +1,71 @@
+package com.p_project.p_project_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "emotion_reanalysis_runs", indexes = {
+        @Index(name = "idx_emotion_reanalysis_runs_model_version", columnList = "model_version", unique = true),
+        @Index(name = "idx_emotion_reanalysis_runs_status", columnList = "status")
+}) // 테이블명 설정 - emotion_reanalysis_runs, 인덱스 설정
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // 인자가 필요없는 생성자 생성
+@AllArgsConstructor // 모든 인자를 필요로하는 생성자 생성
+@Builder // 객체 생성 시 Builder를 활용하여 생성 가능
+/**
+ * 감정 재분류 작업 진행 상황(체크포인트) 엔티티
+ */
+public class EmotionReanalysisRun {
+
+    // 작업 고유 ID (id)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY) // auto_increment 설정
+    private Long id;
+
+    // 대상 모델 버전 (model_version)
+    @Column(name = "model_version", nullable = false, length = 50)
+    private String modelVersion;
+
+    // 작업 상태 (status)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    // 마지막으로 처리한 일기 ID (last_diary_id) - 이 ID 이후부터 재개
+    @Column(name = "last_diary_id", nullable = false)
+    @Builder.Default
+    private Long lastDiaryId = 0L;
+
+    // 재분류한 일기 수 (processed_count)
+    @Column(name = "processed_count", nullable = false)
+    @Builder.Default
+    private Long processedCount = 0L;
+
+    // 감정이 변경된 일기 수 (changed_count)
+    @Column(name = "changed_count", nullable = false)
+    @Builder.Default
+    private Long changedCount = 0L;
+
+    // 마지막 오류 메시지 (last_error)
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    // 시작일시 (started_at)
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    // 수정일시 (updated_at)
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 완료일시 (completed_at)
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public enum Status {
+        RUNNING, PAUSED, COMPLETED
+    }
+}
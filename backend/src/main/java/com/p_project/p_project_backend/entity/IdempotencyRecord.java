@@ -0,0 +1,61 @@
+package com.p_project.p_project_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "idempotency_records", indexes = {
+        @Index(name = "idx_idempotency_records_user_key", columnList = "user_id, idempotency_key", unique = true),
+        @Index(name = "idx_idempotency_records_expires_at", columnList = "expires_at") // 만료 기록 정리
+}) // 테이블명 설정 - idempotency_records, 인덱스 설정
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // 인자가 필요없는 생성자 생성
+@AllArgsConstructor // 모든 인자를 필요로하는 생성자 생성
+@Builder // 객체 생성 시 Builder를 활용하여 생성 가능
+/**
+ * 멱등 요청 기록 엔티티 (Idempotency-Key 헤더 기준, 같은 키의 재시도에는 저장된 응답 반환)
+ */
+public class IdempotencyRecord {
+
+    // 기록 고유 ID (id)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY) // auto_increment 설정
+    private Long id;
+
+    // 사용자 ID (user_id) - 키는 사용자별로 구분
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 멱등 키 (idempotency_key)
+    @Column(name = "idempotency_key", nullable = false, length = 255)
+    private String idempotencyKey;
+
+    // 요청 지문 (request_hash) - 같은 키로 다른 요청을 보냈는지 확인 (SHA-256 hex)
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    // 처리 상태 (status)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    // 저장된 응답 (response_body) - JSON
+    @Column(name = "response_body", columnDefinition = "LONGTEXT")
+    private String responseBody;
+
+    // 생성일시 (created_at)
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // 만료일시 (expires_at)
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public enum Status {
+        IN_PROGRESS, // 첫 요청 처리 중 (같은 키의 요청은 결과를 기다림)
+        COMPLETED // 처리 완료 (응답 저장됨)
+    }
+}
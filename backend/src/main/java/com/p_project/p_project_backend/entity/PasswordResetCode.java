@@ -8,7 +8,7 @@ import java.time.LocalDateTime;
 @Setter
 @Entity
 @Table(name = "password_reset_codes", indexes = {
-        @Index(name = "idx_password_codes_email", columnList = "email"),
+        @Index(name = "idx_password_codes_email_created_at", columnList = "email, created_at"), // 이메일별 최신 코드 조회
         @Index(name = "idx_password_codes_code", columnList = "code"),
         @Index(name = "idx_password_codes_reset_token", columnList = "reset_token"),
         @Index(name = "idx_password_codes_expires_at", columnList = "expires_at")
@@ -41,6 +41,11 @@ public class PasswordResetCode {
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
 
+    // 틀린 입력 횟수 (attempts)
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
     // 사용 완료 일시 (used_at)
     @Column(name = "used_at")
     private LocalDateTime usedAt;
@@ -0,0 +1,10 @@
+package com.p_project.p_project_backend.exception;
+
+/**
+ * 더 최근의 일기 수정 요청이 있어 이 요청이 반영되지 않을 때 발생하는 예외
+ */
+public class DiaryEditSupersededException extends RuntimeException {
+    public DiaryEditSupersededException(String message) {
+        super(message);
+    }
+}
@@ -4,14 +4,15 @@ import com.p_project.p_project_backend.entity.ErrorLog;
 import com.p_project.p_project_backend.entity.User;
 import com.p_project.p_project_backend.repository.ErrorLogRepository;
 import com.p_project.p_project_backend.repository.UserRepository;
+import com.p_project.p_project_backend.security.UserPrincipal;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -153,6 +154,53 @@ public class GlobalExceptionHandler {
                                                 Map.of("code", errorCode, "message", ex.getMessage())));
         }
 
+        /**
+         * 일기 수정 요청 대체 예외 처리 (더 최근 수정 요청이 반영됨)
+         */
+        @ExceptionHandler(DiaryEditSupersededException.class)
+        public ResponseEntity<?> handleDiaryEditSupersededException(DiaryEditSupersededException ex,
+                        HttpServletRequest request) {
+                String errorCode = "DIARY_EDIT_SUPERSEDED";
+
+                logError(ex, ErrorLog.Level.WARN, errorCode, ex.getMessage(), request);
+
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                                Map.of("success", false, "error",
+                                                Map.of("code", errorCode, "message", ex.getMessage())));
+        }
+
+        /**
+         * 멱등 요청 충돌 예외 처리 (같은 키의 첫 요청이 아직 처리 중)
+         */
+        @ExceptionHandler(IdempotencyConflictException.class)
+        public ResponseEntity<?> handleIdempotencyConflictException(IdempotencyConflictException ex,
+                        HttpServletRequest request) {
+                String errorCode = "IDEMPOTENCY_IN_PROGRESS";
+
+                logError(ex, ErrorLog.Level.WARN, errorCode, ex.getMessage(), request);
+
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                                Map.of("success", false, "error",
+                                                Map.of("code", errorCode, "message", ex.getMessage())));
+        }
+
+        /**
+         * 비밀번호 해시 작업 포화 예외 처리 (로그인 폭주 시 빠른 실패)
+         */
+        @ExceptionHandler(PasswordHashingBusyException.class)
+        public ResponseEntity<?> handlePasswordHashingBusyException(PasswordHashingBusyException ex,
+                        HttpServletRequest request) {
+                String errorCode = "AUTH_BUSY";
+
+                // 폭주 중 거절마다 DB 에 기록하지 않음 (거절 건수는 security.password.rejected 지표로 확인)
+                log.warn("Password hashing busy: endpoint={}", request.getRequestURI());
+
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, "1")
+                                .body(Map.of("success", false, "error",
+                                                Map.of("code", errorCode, "message", ex.getMessage())));
+        }
+
         /**
          * 공지사항 미발견 예외 처리
          */
@@ -205,9 +253,10 @@ public class GlobalExceptionHandler {
                 try {
                         User user = null;
                         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-                        if (authentication != null && authentication.getPrincipal() instanceof UserDetails) {
-                                String email = ((UserDetails) authentication.getPrincipal()).getUsername();
-                                user = userRepository.findByEmail(email).orElse(null);
+                        if (authentication != null
+                                        && authentication.getPrincipal() instanceof UserPrincipal principal) {
+                                // 인증 시 로드된 사용자 ID 로 참조만 연결 (추가 조회 없음)
+                                user = userRepository.getReferenceById(principal.getId());
                         }
 
                         ErrorLog errorLog = ErrorLog.builder()
@@ -0,0 +1,10 @@
+package com.p_project.p_project_backend.exception;
+
+/**
+ * 같은 Idempotency-Key 의 첫 요청이 아직 처리 중일 때 발생하는 예외
+ */
+public class IdempotencyConflictException extends RuntimeException {
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.p_project.p_project_backend.exception;
+
+/**
+ * 비밀번호 해시 작업 대기열이 가득 찼거나 대기 시간을 넘긴 경우 발생하는 예외
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
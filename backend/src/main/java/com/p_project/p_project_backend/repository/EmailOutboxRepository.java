@@ -0,0 +1,74 @@
+package com.p_project.p_project_backend.repository;
+
+import com.p_project.p_project_backend.entity.EmailOutbox;
+import com.p_project.p_project_backend.entity.EmailOutbox.Status;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 이메일 발송 대기열 레포지토리
+ */
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+        /**
+         * 발송 대상 ID 조회 (대기 중이며 다음 발송 일시가 지난 메일)
+         */
+        @Query("SELECT e.id FROM EmailOutbox e WHERE e.status = :status AND e.nextAttemptAt <= :now " +
+                        "ORDER BY e.nextAttemptAt")
+        List<Long> findDueIds(@Param("status") Status status, @Param("now") LocalDateTime now, Pageable pageable);
+
+        /**
+         * 발송 선점 (다음 발송 일시를 선점 만료 일시로 미루고 시도 횟수 증가, 다른 노드가 먼저 선점한 경우 0 반환)
+         * 발송 중 노드가 중단되면 선점 만료 후 다시 발송 대상이 됨
+         */
+        @Modifying
+        @Transactional
+        @Query("UPDATE EmailOutbox e SET e.nextAttemptAt = :leaseUntil, e.attempts = e.attempts + 1 " +
+                        "WHERE e.id = :id AND e.status = :status AND e.nextAttemptAt <= :now")
+        int claim(@Param("id") Long id,
+                        @Param("status") Status status,
+                        @Param("now") LocalDateTime now,
+                        @Param("leaseUntil") LocalDateTime leaseUntil);
+
+        /**
+         * 발송 완료 처리
+         */
+        @Modifying
+        @Transactional
+        @Query("UPDATE EmailOutbox e SET e.status = :status, e.sentAt = :now, e.lastError = null " +
+                        "WHERE e.id IN :ids")
+        int markSent(@Param("ids") List<Long> ids, @Param("status") Status status, @Param("now") LocalDateTime now);
+
+        /**
+         * 발송 실패 처리 (재시도 예약 또는 재시도 중단)
+         */
+        @Modifying
+        @Transactional
+        @Query("UPDATE EmailOutbox e SET e.status = :status, e.nextAttemptAt = :nextAttemptAt, " +
+                        "e.lastError = :error WHERE e.id = :id")
+        int markFailed(@Param("id") Long id,
+                        @Param("status") Status status,
+                        @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                        @Param("error") String error);
+
+        /**
+         * 오래된 발송 완료 메일 ID 조회 (청크 단위 삭제용)
+         */
+        @Query("SELECT e.id FROM EmailOutbox e WHERE e.status = :status AND e.sentAt < :before ORDER BY e.id")
+        List<Long> findSentBefore(@Param("status") Status status, @Param("before") LocalDateTime before,
+                        Pageable pageable);
+
+        /**
+         * 메일 일괄 삭제
+         */
+        @Modifying
+        @Transactional
+        @Query("DELETE FROM EmailOutbox e WHERE e.id IN :ids")
+        int deleteByIdIn(@Param("ids") List<Long> ids);
+}
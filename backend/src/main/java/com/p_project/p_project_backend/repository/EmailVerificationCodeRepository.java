@@ -1,7 +1,15 @@
 package com.p_project.p_project_backend.repository;
 
 import com.p_project.p_project_backend.entity.EmailVerificationCode;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,7 +27,23 @@ public interface EmailVerificationCodeRepository extends JpaRepository<EmailVeri
     Optional<EmailVerificationCode> findTopByEmailOrderByCreatedAtDesc(String email);
 
     /**
-     * 이메일로 삭제
+     * 이메일로 삭제 (한 번의 DELETE 문으로 일괄 삭제)
+     */
+    @Modifying
+    @Query("DELETE FROM EmailVerificationCode c WHERE c.email = :email")
+    int deleteByEmail(@Param("email") String email);
+
+    /**
+     * 만료된 인증 코드 ID 조회 (청크 단위 삭제용)
+     */
+    @Query("SELECT c.id FROM EmailVerificationCode c WHERE c.expiresAt < :before ORDER BY c.id")
+    List<Long> findExpiredIds(@Param("before") LocalDateTime before, Pageable pageable);
+
+    /**
+     * 인증 코드 일괄 삭제
      */
-    void deleteByEmail(String email);
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM EmailVerificationCode c WHERE c.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 }
@@ -2,8 +2,15 @@ package com.p_project.p_project_backend.repository;
 
 import com.p_project.p_project_backend.entity.RefreshToken;
 import com.p_project.p_project_backend.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -11,9 +18,31 @@ import java.util.Optional;
  */
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
     /**
-     * 토큰으로 조회
+     * 토큰 해시로 조회
+     */
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * 유효한 토큰 무효화 (이미 무효화/만료/없는 토큰이면 0 반환, 토큰 회전 시 중복 사용 방지)
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :now " +
+            "WHERE t.tokenHash = :tokenHash AND t.revokedAt IS NULL AND t.expiresAt > :now")
+    int revokeActive(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 토큰 ID 조회 (청크 단위 삭제용)
+     */
+    @Query("SELECT t.id FROM RefreshToken t WHERE t.expiresAt < :now ORDER BY t.id")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 토큰 일괄 삭제
      */
-    Optional<RefreshToken> findByToken(String token);
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshToken t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 
     /**
      * 사용자로 삭제
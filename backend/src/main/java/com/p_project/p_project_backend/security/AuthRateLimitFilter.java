@@ -0,0 +1,265 @@
+package com.p_project.p_project_backend.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 인증 API 요청 수 제한 필터 (Spring Security 필터 체인보다 먼저 실행)
+ * 메일 발송(SMTP)과 BCrypt 를 쓰는 경로에 IP 별, 이메일 별 토큰 버킷을 적용하고 초과 시 429 + Retry-After 반환
+ * 버킷은 Caffeine 맵에 보관하며, 일정 시간 쓰이지 않은 버킷(가득 찬 상태와 같음)은 자동 제거
+ */
+@Slf4j
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String ERROR_BODY = "{\"success\":false,\"error\":{\"code\":\"TOO_MANY_REQUESTS\","
+            + "\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해주세요.\"}}";
+
+    private final Map<String, Rule> rules;
+    private final Cache<String, TokenBucket> buckets;
+    private final ObjectMapper objectMapper;
+    private final int maxBodyBytes;
+    private final MeterRegistry meterRegistry;
+
+    public AuthRateLimitFilter(String routes, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            long maxBuckets, int maxBodyBytes) {
+        this.rules = parseRules(routes);
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.maxBodyBytes = maxBodyBytes;
+
+        // 버킷은 기간(period) 동안 쓰이지 않으면 가득 찬 상태와 같으므로 제거해도 결과가 같음
+        long maxPeriodSeconds = rules.values().stream().mapToLong(Rule::periodSeconds).max().orElse(60);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(Duration.ofSeconds(maxPeriodSeconds))
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || !rules.containsKey(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String route = request.getRequestURI();
+        Rule rule = rules.get(route);
+
+        // 1. IP 별 제한 (프록시 뒤에서는 server.forward-headers-strategy 로 실제 클라이언트 IP 사용)
+        long retryAfter = tryConsume(route + "|ip|" + request.getRemoteAddr(), rule.ipLimit(), rule);
+        if (retryAfter > 0) {
+            reject(response, route, "ip", retryAfter);
+            return;
+        }
+
+        // 2. 이메일 별 제한 (본문을 미리 읽어 이메일 추출, 컨트롤러에는 같은 본문 전달)
+        HttpServletRequest forwarded = request;
+        if (rule.emailLimit() > 0) {
+            CachedBodyRequest cached = new CachedBodyRequest(request, maxBodyBytes);
+            forwarded = cached;
+            String email = extractEmail(cached);
+            if (email != null) {
+                retryAfter = tryConsume(route + "|email|" + email, rule.emailLimit(), rule);
+                if (retryAfter > 0) {
+                    reject(response, route, "email", retryAfter);
+                    return;
+                }
+            }
+        }
+
+        filterChain.doFilter(forwarded, response);
+    }
+
+    // --- Helper Methods ---
+
+    /**
+     * 토큰 1개 소비 (성공 시 0, 실패 시 다음 토큰까지 남은 초)
+     */
+    private long tryConsume(String key, int capacity, Rule rule) {
+        if (capacity <= 0) {
+            return 0;
+        }
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(capacity, (double) capacity / rule.periodSeconds()));
+        return bucket.tryConsume();
+    }
+
+    private void reject(HttpServletResponse response, String route, String keyType, long retryAfterSeconds)
+            throws IOException {
+        meterRegistry.counter("security.rate-limit.rejected", "route", route, "key", keyType).increment();
+        response.setStatus(429);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(ERROR_BODY);
+    }
+
+    private String extractEmail(CachedBodyRequest request) {
+        if (!request.isComplete()) {
+            return null;
+        }
+        try {
+            JsonNode email = objectMapper.readTree(request.getCachedBody()).get("email");
+            if (email == null || !email.isTextual() || email.asText().isBlank()) {
+                return null;
+            }
+            return email.asText().trim().toLowerCase(Locale.ROOT);
+        } catch (IOException e) {
+            // 잘못된 본문은 컨트롤러에서 400 으로 처리
+            return null;
+        }
+    }
+
+    /**
+     * 경로별 제한 설정 파싱 (형식: 경로=IP당 횟수/이메일당 횟수/기간(초), 쉼표로 구분)
+     */
+    private static Map<String, Rule> parseRules(String routes) {
+        Map<String, Rule> parsed = new LinkedHashMap<>();
+        Arrays.stream(routes.split(","))
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .forEach(entry -> {
+                    String[] pathAndLimits = entry.split("=");
+                    String[] limits = pathAndLimits.length == 2 ? pathAndLimits[1].trim().split("/") : new String[0];
+                    if (limits.length != 3) {
+                        throw new IllegalArgumentException("Invalid rate-limit route: " + entry);
+                    }
+                    parsed.put(pathAndLimits[0].trim(), new Rule(
+                            Integer.parseInt(limits[0].trim()),
+                            Integer.parseInt(limits[1].trim()),
+                            Math.max(1, Long.parseLong(limits[2].trim()))));
+                });
+        return parsed;
+    }
+
+    private record Rule(int ipLimit, int emailLimit, long periodSeconds) {
+    }
+
+    /**
+     * 토큰 버킷 (capacity 개까지 모이고 초당 refillPerSecond 개씩 채워짐, 키별 잠금)
+     */
+    private static final class TokenBucket {
+        private final int capacity;
+        private final double refillPerSecond;
+        private double tokens;
+        private long lastRefillAt;
+
+        private TokenBucket(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+            this.tokens = capacity;
+            this.lastRefillAt = System.nanoTime();
+        }
+
+        private synchronized long tryConsume() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillAt) / 1_000_000_000.0 * refillPerSecond);
+            lastRefillAt = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / refillPerSecond));
+        }
+    }
+
+    /**
+     * 본문을 최대 maxBytes 까지 미리 읽어 두고, 컨트롤러에는 읽은 부분 + 나머지 스트림을 그대로 전달
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] cachedBody;
+        private final boolean complete;
+        private final InputStream remaining;
+        private ServletInputStream stream;
+
+        private CachedBodyRequest(HttpServletRequest request, int maxBytes) throws IOException {
+            super(request);
+            InputStream original = request.getInputStream();
+            this.cachedBody = original.readNBytes(maxBytes + 1);
+            this.complete = cachedBody.length <= maxBytes;
+            this.remaining = original;
+        }
+
+        private byte[] getCachedBody() {
+            return cachedBody;
+        }
+
+        private boolean isComplete() {
+            return complete;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            if (stream == null) {
+                InputStream body = complete
+                        ? new ByteArrayInputStream(cachedBody)
+                        : new SequenceInputStream(new ByteArrayInputStream(cachedBody), remaining);
+                stream = new ServletInputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        return body.read();
+                    }
+
+                    @Override
+                    public int read(byte[] b, int off, int len) throws IOException {
+                        return body.read(b, off, len);
+                    }
+
+                    @Override
+                    public boolean isFinished() {
+                        try {
+                            return complete && body.available() == 0;
+                        } catch (IOException e) {
+                            return true;
+                        }
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setReadListener(ReadListener readListener) {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+            return stream;
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+    }
+}
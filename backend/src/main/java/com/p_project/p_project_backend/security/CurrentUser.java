@@ -0,0 +1,17 @@
+package com.p_project.p_project_backend.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 인증된 사용자 주입 (컨트롤러 파라미터 타입: User 또는 UserPrincipal)
+ * 사용자 정보는 JWT 인증 시 로드된 principal 에서 가져오므로 추가 DB 조회 없음
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+}
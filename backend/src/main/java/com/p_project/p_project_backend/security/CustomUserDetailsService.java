@@ -8,8 +8,6 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
-
 /**
  * 사용자 인증 정보 로드 서비스
  */
@@ -18,12 +16,19 @@ import java.util.Collections;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
-     * 사용자 정보 조회 (이메일 기반, 탈퇴 여부 확인)
+     * 사용자 정보 조회 (이메일 기반, 탈퇴 여부 확인, 짧은 TTL 캐시 사용)
      */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        return userPrincipalCache.get(email, this::loadPrincipal);
+    }
+
+    // --- Helper Methods ---
+
+    private UserPrincipal loadPrincipal(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
@@ -31,10 +36,6 @@ public class CustomUserDetailsService implements UserDetailsService {
             throw new UsernameNotFoundException("User account is deleted");
         }
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPasswordHash(),
-                Collections.emptyList() // Roles not implemented yet
-        );
+        return UserPrincipal.from(user);
     }
 }
@@ -12,10 +12,12 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * JWT 인증 필터
@@ -24,10 +26,17 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // 인증이 필요 없는 정적 리소스 경로 (필터 자체를 건너뜀)
+    private static final List<String> PUBLIC_PATHS = List.of(
+            "/images/**", "/static/**", "/", "/index.html", "/*.html", "/*.css", "/*.js");
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
     private final JwtTokenProvider tokenProvider;
     private final CustomUserDetailsService customUserDetailsService;
     private final AdminDetailsService adminDetailsService;
     private final AdminRepository adminRepository;
+    private final UserPrincipalCache userPrincipalCache;
+    private final WebAuthenticationDetailsSource authenticationDetailsSource = new WebAuthenticationDetailsSource();
 
     /**
      * JWT 토큰 검증 및 인증 정보 설정
@@ -37,18 +46,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         String token = getJwtFromRequest(request);
 
-        if (StringUtils.hasText(token) && tokenProvider.validateToken(token)) {
-            String email = tokenProvider.getEmailFromToken(token);
+        // 서명 검증과 클레임 추출을 한 번에 수행
+        JwtClaims claims = StringUtils.hasText(token) ? tokenProvider.parseToken(token) : null;
 
-            // Admin인지 User인지 구분
-            UserDetailsService userDetailsService = determineUserDetailsService(email);
+        if (claims != null) {
+            UserDetails userDetails = loadUserDetails(claims);
 
-            if (userDetailsService != null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                authentication.setDetails(authenticationDetailsSource.buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
@@ -58,7 +66,38 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     /**
-     * 사용자 유형(관리자/일반)에 따른 서비스 결정
+     * 정적 리소스 요청은 필터 생략
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        return PUBLIC_PATHS.stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
+    }
+
+    /**
+     * 토큰의 역할 클레임에 따라 인증 정보 로드
+     */
+    private UserDetails loadUserDetails(JwtClaims claims) {
+        String email = claims.email();
+        if (claims.role() == JwtClaims.Role.ADMIN) {
+            return adminDetailsService.loadUserByUsername(email);
+        }
+        if (claims.role() == JwtClaims.Role.USER) {
+            return customUserDetailsService.loadUserByUsername(email);
+        }
+
+        // 역할 클레임이 없는 이전 발급 토큰: 최근 인증된 일반 사용자는 캐시 사용
+        UserDetails cached = userPrincipalCache.getIfPresent(email);
+        if (cached != null) {
+            return cached;
+        }
+        // Admin인지 User인지 구분
+        UserDetailsService userDetailsService = determineUserDetailsService(email);
+        return userDetailsService != null ? userDetailsService.loadUserByUsername(email) : null;
+    }
+
+    /**
+     * 사용자 유형(관리자/일반)에 따른 서비스 결정 (역할 클레임이 없는 토큰용)
      */
     private UserDetailsService determineUserDetailsService(String email) {
         // Admin 먼저 확인 (관리자 수가 적으므로)
@@ -0,0 +1,12 @@
+package com.p_project.p_project_backend.security;
+
+/**
+ * 검증된 JWT 클레임 (한 번의 서명 검증으로 얻은 값)
+ * role 이 null 이면 역할 클레임이 없는 이전 발급 토큰
+ */
+public record JwtClaims(String email, Role role) {
+
+    public enum Role {
+        USER, ADMIN
+    }
+}
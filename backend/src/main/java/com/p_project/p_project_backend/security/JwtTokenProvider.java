@@ -9,8 +9,13 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.UUID;
 
 /**
  * JWT 토큰 생성 및 검증 제공자
@@ -19,7 +24,11 @@ import java.util.Date;
 @Component
 public class JwtTokenProvider {
 
+    private static final String ROLE_CLAIM = "role";
+
     private final Key key;
+    // 서명 키가 고정이므로 파서는 한 번만 생성하여 재사용 (thread-safe)
+    private final JwtParser parser;
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
 
@@ -29,6 +38,7 @@ public class JwtTokenProvider {
             @Value("${jwt.refresh-expiration}") long refreshTokenValidityInMilliseconds) {
         byte[] keyBytes = Decoders.BASE64.decode(secret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
         this.accessTokenValidityInMilliseconds = accessTokenValidityInMilliseconds;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidityInMilliseconds;
     }
@@ -38,7 +48,7 @@ public class JwtTokenProvider {
      */
     public String createAccessToken(Authentication authentication) {
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return createToken(userDetails.getUsername(), accessTokenValidityInMilliseconds);
+        return createToken(userDetails.getUsername(), null, accessTokenValidityInMilliseconds);
     }
 
     /**
@@ -46,46 +56,78 @@ public class JwtTokenProvider {
      */
     public String createRefreshToken(Authentication authentication) {
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return createToken(userDetails.getUsername(), refreshTokenValidityInMilliseconds);
+        return createToken(userDetails.getUsername(), null, refreshTokenValidityInMilliseconds);
     }
 
     /**
-     * Access Token 생성 (Email)
+     * Access Token 생성 (Email, 일반 사용자)
      */
     public String createAccessToken(String email) {
-        return createToken(email, accessTokenValidityInMilliseconds);
+        return createAccessToken(email, JwtClaims.Role.USER);
     }
 
     /**
-     * Refresh Token 생성 (Email)
+     * Refresh Token 생성 (Email, 일반 사용자)
      */
     public String createRefreshToken(String email) {
-        return createToken(email, refreshTokenValidityInMilliseconds);
+        return createRefreshToken(email, JwtClaims.Role.USER);
+    }
+
+    /**
+     * Access Token 생성 (Email, 역할 클레임 포함)
+     */
+    public String createAccessToken(String email, JwtClaims.Role role) {
+        return createToken(email, role, accessTokenValidityInMilliseconds);
     }
 
-    private String createToken(String subject, long validityInMilliseconds) {
+    /**
+     * Refresh Token 생성 (Email, 역할 클레임 포함)
+     */
+    public String createRefreshToken(String email, JwtClaims.Role role) {
+        return createToken(email, role, refreshTokenValidityInMilliseconds);
+    }
+
+    private String createToken(String subject, JwtClaims.Role role, long validityInMilliseconds) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + validityInMilliseconds);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString()) // 같은 시각에 발급된 토큰도 서로 다르게 (토큰 해시 유일성)
                 .setSubject(subject)
                 .setIssuedAt(now)
-                .setExpiration(validity)
+                .setExpiration(validity);
+        if (role != null) {
+            builder.claim(ROLE_CLAIM, role.name());
+        }
+        return builder
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * 토큰 검증 + 클레임 추출 (서명 검증 1회, 유효하지 않으면 null)
+     */
+    public JwtClaims parseToken(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            return new JwtClaims(claims.getSubject(), parseRole(claims.get(ROLE_CLAIM, String.class)));
+        } catch (SecurityException | MalformedJwtException e) {
+            log.info("Invalid JWT signature.");
+        } catch (ExpiredJwtException e) {
+            log.info("Expired JWT token.");
+        } catch (UnsupportedJwtException e) {
+            log.info("Unsupported JWT token.");
+        } catch (IllegalArgumentException e) {
+            log.info("JWT token compact of handler are invalid.");
+        }
+        return null;
+    }
+
     /**
      * 토큰에서 이메일 추출
      */
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getSubject();
+        return parser.parseClaimsJws(token).getBody().getSubject();
     }
 
     /**
@@ -109,18 +151,31 @@ public class JwtTokenProvider {
      * 토큰 유효성 검증
      */
     public boolean validateToken(String token) {
+        return parseToken(token) != null;
+    }
+
+    /**
+     * 토큰 저장/조회용 SHA-256 해시 (64자 16진 문자열, 토큰 원문은 DB 에 저장하지 않음)
+     */
+    public static String hashToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (SecurityException | MalformedJwtException e) {
-            log.info("Invalid JWT signature.");
-        } catch (ExpiredJwtException e) {
-            log.info("Expired JWT token.");
-        } catch (UnsupportedJwtException e) {
-            log.info("Unsupported JWT token.");
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // --- Helper Methods ---
+
+    private JwtClaims.Role parseRole(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return JwtClaims.Role.valueOf(value);
         } catch (IllegalArgumentException e) {
-            log.info("JWT token compact of handler are invalid.");
+            return null;
         }
-        return false;
     }
 }
@@ -0,0 +1,93 @@
+package com.p_project.p_project_backend.security;
+
+import com.p_project.p_project_backend.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시/검증을 전용 스레드 풀에서 실행하는 PasswordEncoder
+ * BCrypt 는 CPU 를 오래 점유하므로 동시 실행 수를 코어 수로 제한하고, 대기열이 가득 차면 즉시 실패 (503)
+ * 로그인 폭주 시에도 요청 스레드와 CPU 가 일기 API 처리에 남도록 함
+ */
+public class OffloadingPasswordEncoder implements PasswordEncoder {
+
+    private static final String METRIC_NAME = "security.password.hash";
+    private static final String ERROR_MESSAGE_BUSY = "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolTaskExecutor executor;
+    private final long waitTimeoutMillis;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public OffloadingPasswordEncoder(PasswordEncoder delegate, ThreadPoolTaskExecutor executor,
+            MeterRegistry meterRegistry, long waitTimeoutMillis) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.encodeTimer = Timer.builder(METRIC_NAME).tag("operation", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder(METRIC_NAME).tag("operation", "matches").register(meterRegistry);
+        this.rejected = Counter.builder("security.password.rejected").register(meterRegistry);
+        meterRegistry.gauge("security.password.queue", executor,
+                pool -> pool.getThreadPoolExecutor().getQueue().size());
+        meterRegistry.gauge("security.password.active", executor, ThreadPoolTaskExecutor::getActiveCount);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * 저장된 해시의 cost 가 현재 설정보다 낮은지 확인 (해시 계산 없음)
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    // --- Helper Methods ---
+
+    private <T> T submit(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task::get);
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException(ERROR_MESSAGE_BUSY);
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new PasswordHashingBusyException(ERROR_MESSAGE_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException(ERROR_MESSAGE_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
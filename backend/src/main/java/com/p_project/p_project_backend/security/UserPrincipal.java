@@ -0,0 +1,71 @@
+package com.p_project.p_project_backend.security;
+
+import com.p_project.p_project_backend.entity.User;
+import com.p_project.p_project_backend.entity.User.Gender;
+import com.p_project.p_project_backend.entity.User.Persona;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * 인증된 사용자 정보 (JWT 인증 시 SecurityContext 에 저장되는 principal)
+ * 요청 처리에 필요한 사용자 컬럼만 보관하며 비밀번호 해시는 포함하지 않음
+ */
+@Getter
+@Builder
+public class UserPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final String name;
+    private final Gender gender;
+    private final Persona persona;
+    private final LocalDateTime createdAt;
+
+    public static UserPrincipal from(User user) {
+        return UserPrincipal.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .name(user.getName())
+                .gender(user.getGender())
+                .persona(user.getPersona())
+                .createdAt(user.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * 서비스 계층 전달용 User (요청마다 새로 생성되는 detached 엔티티)
+     * 조회 조건/연관관계 지정에만 사용하며 저장(save)하면 안 됨
+     */
+    public User toUser() {
+        return User.builder()
+                .id(id)
+                .email(email)
+                .name(name)
+                .gender(gender)
+                .persona(persona)
+                .emailVerified(true)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.emptyList(); // Roles not implemented yet
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
@@ -0,0 +1,66 @@
+package com.p_project.p_project_backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 인증 사용자 정보 캐시 (이메일 -> UserPrincipal)
+ * JWT 인증마다 users 테이블을 조회하지 않도록 짧은 TTL 로 보관
+ * 페르소나/비밀번호 변경, 탈퇴 시 evict 로 즉시 무효화 (다른 노드는 TTL 이 지나면 반영)
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final Cache<String, UserPrincipal> cache;
+
+    public UserPrincipalCache(
+            MeterRegistry meterRegistry,
+            @Value("${security.principal-cache.ttl-ms:60000}") long ttlMillis,
+            @Value("${security.principal-cache.max-entries:10000}") long maxEntries) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "security.principal.cache");
+    }
+
+    /**
+     * 캐시된 사용자 정보 (없으면 null)
+     */
+    public UserPrincipal getIfPresent(String email) {
+        return cache.getIfPresent(email);
+    }
+
+    /**
+     * 캐시된 사용자 정보 조회 (없으면 loader 로 조회 후 저장)
+     */
+    public UserPrincipal get(String email, Function<String, UserPrincipal> loader) {
+        return cache.get(email, loader);
+    }
+
+    /**
+     * 사용자 정보 무효화
+     * 트랜잭션 안에서 호출되면 커밋 후 한 번 더 무효화 (커밋 전 다른 요청이 이전 값을 다시 캐시하는 경우 방지)
+     */
+    public void evict(String email) {
+        cache.invalidate(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(email);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.p_project.p_project_backend.service;
+
+import com.p_project.p_project_backend.entity.EmailOutbox;
+import com.p_project.p_project_backend.entity.EmailOutbox.Status;
+import com.p_project.p_project_backend.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이메일 발송 대기열 처리기
+ * 발송 대상을 batch-size 단위로 선점하여 SMTP 연결 하나로 묶어 발송 (메일마다 연결/인증하지 않음)
+ * 실패한 메일은 지수 백오프로 재시도하고, max-attempts 를 넘으면 DEAD 로 남겨 더 이상 발송하지 않음
+ * 선점은 조건부 UPDATE 로 수행하므로 여러 노드가 동시에 실행해도 같은 메일을 중복 발송하지 않음
+ */
+@Slf4j
+@Service
+public class EmailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final JavaMailSender javaMailSender;
+    private final ThreadPoolTaskExecutor executor;
+    private final String from;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffBaseMillis;
+    private final long backoffMaxMillis;
+    private final Duration lease;
+    private final Duration retention;
+    private final int concurrency;
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    // 워커가 대기열을 확인한 뒤 들어온 메일이 있는지 (종료 직전 워커가 놓치지 않도록)
+    private final AtomicBoolean signalled = new AtomicBoolean();
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter dead;
+
+    public EmailOutboxDispatcher(
+            EmailOutboxRepository emailOutboxRepository,
+            JavaMailSender javaMailSender,
+            @Qualifier("emailDispatchExecutor") ThreadPoolTaskExecutor executor,
+            MeterRegistry meterRegistry,
+            @Value("${email.from:${spring.mail.username:}}") String from,
+            @Value("${email.outbox.batch-size:20}") int batchSize,
+            @Value("${email.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${email.outbox.backoff-base-ms:5000}") long backoffBaseMillis,
+            @Value("${email.outbox.backoff-max-ms:600000}") long backoffMaxMillis,
+            @Value("${email.outbox.lease-ms:120000}") long leaseMillis,
+            @Value("${email.outbox.retention-hours:24}") long retentionHours,
+            @Value("${email.outbox.concurrency:2}") int concurrency) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.javaMailSender = javaMailSender;
+        this.executor = executor;
+        this.from = from;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffBaseMillis = backoffBaseMillis;
+        this.backoffMaxMillis = backoffMaxMillis;
+        this.lease = Duration.ofMillis(leaseMillis);
+        this.retention = Duration.ofHours(retentionHours);
+        this.concurrency = Math.max(1, concurrency);
+
+        this.sent = Counter.builder("email.outbox.sent").register(meterRegistry);
+        this.retried = Counter.builder("email.outbox.failed").tag("result", "retry").register(meterRegistry);
+        this.dead = Counter.builder("email.outbox.failed").tag("result", "dead").register(meterRegistry);
+    }
+
+    /**
+     * 새 메일 알림 (저장 트랜잭션 커밋 후 호출, 워커가 부족하면 하나 더 시작)
+     */
+    public void wakeUp() {
+        signalled.set(true);
+        startWorker();
+    }
+
+    /**
+     * 주기적 발송 확인 (재시도 예약 메일, 다른 노드에서 저장된 메일, 선점 만료 메일)
+     */
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        startWorker();
+    }
+
+    /**
+     * 발송 대상 한 묶음 선점 후 발송 (처리한 메일 수 반환)
+     */
+    public int sendNextBatch() {
+        List<EmailOutbox> batch = claimBatch();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        send(batch);
+        return batch.size();
+    }
+
+    /**
+     * 오래된 발송 완료 메일 정리 (청크 단위 삭제, DEAD 메일은 확인을 위해 남김)
+     */
+    @Scheduled(cron = "${email.outbox.purge-cron:0 45 * * * *}")
+    public void purgeSent() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        int deleted = 0;
+        while (true) {
+            List<Long> ids = emailOutboxRepository.findSentBefore(Status.SENT, before,
+                    PageRequest.of(0, PURGE_BATCH_SIZE));
+            if (ids.isEmpty()) {
+                break;
+            }
+            deleted += emailOutboxRepository.deleteByIdIn(ids);
+            if (ids.size() < PURGE_BATCH_SIZE) {
+                break;
+            }
+        }
+        if (deleted > 0) {
+            log.info("Purged {} sent emails", deleted);
+        }
+    }
+
+    // --- Helper Methods ---
+
+    private void startWorker() {
+        while (true) {
+            int active = activeWorkers.get();
+            if (active >= concurrency) {
+                return;
+            }
+            if (activeWorkers.compareAndSet(active, active + 1)) {
+                break;
+            }
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // 종료 중이거나 풀이 가득 찬 경우 다음 폴링에서 처리
+            activeWorkers.decrementAndGet();
+        }
+    }
+
+    private void drain() {
+        try {
+            while (true) {
+                signalled.set(false);
+                int processed = sendNextBatch();
+                if (processed < batchSize) {
+                    break;
+                }
+                // 대기열이 밀려 있으면 다른 워커도 함께 처리
+                startWorker();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Email outbox dispatch failed: {}", e.getMessage());
+        } finally {
+            activeWorkers.decrementAndGet();
+        }
+        if (signalled.get()) {
+            startWorker();
+        }
+    }
+
+    private List<EmailOutbox> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plus(lease);
+        List<Long> claimed = new ArrayList<>();
+        for (Long id : emailOutboxRepository.findDueIds(Status.PENDING, now, PageRequest.of(0, batchSize))) {
+            if (emailOutboxRepository.claim(id, Status.PENDING, now, leaseUntil) == 1) {
+                claimed.add(id);
+            }
+        }
+        return claimed.isEmpty() ? List.of() : emailOutboxRepository.findAllById(claimed);
+    }
+
+    /**
+     * 묶음 발송 (JavaMailSender.send(MimeMessage...) 는 연결 하나로 모든 메일을 보내고 실패한 메일만 알려줌)
+     */
+    private void send(List<EmailOutbox> batch) {
+        Map<MimeMessage, EmailOutbox> messages = new IdentityHashMap<>();
+        for (EmailOutbox email : batch) {
+            try {
+                messages.put(createMessage(email), email);
+            } catch (MessagingException e) {
+                fail(email, e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Exception> failures;
+        try {
+            javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            failures = Map.of();
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages().isEmpty() ? allFailed(messages, e) : e.getFailedMessages();
+        } catch (MailException e) {
+            failures = allFailed(messages, e);
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        for (Map.Entry<MimeMessage, EmailOutbox> entry : messages.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+            if (failure == null) {
+                sentIds.add(entry.getValue().getId());
+            } else {
+                fail(entry.getValue(), failure);
+            }
+        }
+        if (!sentIds.isEmpty()) {
+            emailOutboxRepository.markSent(sentIds, Status.SENT, LocalDateTime.now());
+            sent.increment(sentIds.size());
+        }
+    }
+
+    private MimeMessage createMessage(EmailOutbox email) throws MessagingException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        if (from != null && !from.isBlank()) {
+            helper.setFrom(from);
+        }
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getBody(), false); // true for HTML
+        return message;
+    }
+
+    /**
+     * 실패 처리 (재시도 횟수가 남았으면 백오프 후 재시도, 아니면 DEAD)
+     */
+    private void fail(EmailOutbox email, Exception cause) {
+        String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        String error = message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+        LocalDateTime now = LocalDateTime.now();
+
+        if (email.getAttempts() >= maxAttempts) {
+            emailOutboxRepository.markFailed(email.getId(), Status.DEAD, now, error);
+            dead.increment();
+            log.error("Email dead-lettered: id={}, to={}, attempts={}, reason={}",
+                    email.getId(), email.getRecipient(), email.getAttempts(), error);
+            return;
+        }
+
+        emailOutboxRepository.markFailed(email.getId(), Status.PENDING, now.plus(backoff(email.getAttempts())), error);
+        retried.increment();
+        log.warn("Email send failed, will retry: id={}, to={}, attempts={}, reason={}",
+                email.getId(), email.getRecipient(), email.getAttempts(), error);
+    }
+
+    /**
+     * 지수 백오프 + 지터 (여러 메일이 같은 시각에 다시 몰리지 않도록)
+     */
+    private Duration backoff(int attempts) {
+        long exponential = backoffBaseMillis << Math.min(attempts - 1, 20);
+        long delay = Math.min(backoffMaxMillis, exponential);
+        long jitter = ThreadLocalRandom.current().nextLong(delay / 5 + 1);
+        return Duration.ofMillis(delay + jitter);
+    }
+
+    private Map<Object, Exception> allFailed(Map<MimeMessage, EmailOutbox> messages, Exception cause) {
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        messages.keySet().forEach(message -> failures.put(message, cause));
+        return failures;
+    }
+}
@@ -1,22 +1,27 @@
 package com.p_project.p_project_backend.service;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import com.p_project.p_project_backend.entity.EmailOutbox;
+import com.p_project.p_project_backend.repository.EmailOutboxRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
 
 /**
  * 이메일 발송 서비스
+ * 메일은 호출한 트랜잭션 안에서 발송 대기열(email_outbox)에 저장만 하고, SMTP 발송은 EmailOutboxDispatcher 가 수행
+ * 트랜잭션이 롤백되면 메일도 발송되지 않음
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailService {
 
-    private final JavaMailSender javaMailSender;
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailOutboxDispatcher emailOutboxDispatcher;
 
     /**
      * 이메일 인증 코드 발송
@@ -37,17 +42,26 @@ public class EmailService {
     }
 
     private void sendEmail(String to, String subject, String content) {
-        MimeMessage message = javaMailSender.createMimeMessage();
-        try {
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(content, false); // true for HTML
-            javaMailSender.send(message);
-            log.info("Email sent to: {}", to);
-        } catch (MessagingException e) {
-            log.error("Failed to send email to: {}", to, e);
-            throw new RuntimeException("Failed to send email", e);
+        LocalDateTime now = LocalDateTime.now();
+        emailOutboxRepository.save(EmailOutbox.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(content)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+        log.info("Email queued for: {}", to);
+
+        // 커밋된 뒤에 바로 발송 시작 (폴링 주기를 기다리지 않음)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    emailOutboxDispatcher.wakeUp();
+                }
+            });
+        } else {
+            emailOutboxDispatcher.wakeUp();
         }
     }
 }
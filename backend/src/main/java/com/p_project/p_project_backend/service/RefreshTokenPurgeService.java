@@ -0,0 +1,69 @@
+package com.p_project.p_project_backend.service;
+
+import com.p_project.p_project_backend.repository.AdminRefreshTokenRepository;
+import com.p_project.p_project_backend.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 만료된 리프레시 토큰 정리 서비스 (사용자/관리자)
+ * expires_at 기준으로 청크 단위 삭제하여 긴 잠금 없이 테이블 크기를 유지
+ */
+@Slf4j
+@Service
+public class RefreshTokenPurgeService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final AdminRefreshTokenRepository adminRefreshTokenRepository;
+    private final int batchSize;
+
+    public RefreshTokenPurgeService(
+            RefreshTokenRepository refreshTokenRepository,
+            AdminRefreshTokenRepository adminRefreshTokenRepository,
+            @Value("${security.refresh-token.purge-batch-size:1000}") int batchSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.adminRefreshTokenRepository = adminRefreshTokenRepository;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 만료된 토큰 삭제
+     */
+    @Scheduled(cron = "${security.refresh-token.purge-cron:0 30 * * * *}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int users = purge(now, refreshTokenRepository::findExpiredIds, refreshTokenRepository::deleteByIdIn);
+        int admins = purge(now, adminRefreshTokenRepository::findExpiredIds,
+                adminRefreshTokenRepository::deleteByIdIn);
+        if (users + admins > 0) {
+            log.info("Purged expired refresh tokens: users={}, admins={}", users, admins);
+        }
+    }
+
+    // --- Helper Methods ---
+
+    private int purge(LocalDateTime now, BiFunction<LocalDateTime, Pageable, List<Long>> findExpiredIds,
+            Function<List<Long>, Integer> deleteByIds) {
+        int deleted = 0;
+        while (true) {
+            List<Long> ids = findExpiredIds.apply(now, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            deleted += deleteByIds.apply(ids);
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,128 @@
+package com.p_project.p_project_backend;
+
+import com.p_project.p_project_backend.backend_user.dto.ai.AiServiceResult;
+import com.p_project.p_project_backend.backend_user.service.ai.AiCallGuard;
+import com.p_project.p_project_backend.backend_user.service.ai.AiCircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AiCallGuardTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void execute_ShouldShareInFlightCall_WhenSameKeyIsRequestedConcurrently() throws Exception {
+        // Given
+        AiCallGuard guard = createGuard(8, 5);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When: 첫 호출이 진행 중인 동안 같은 키로 두 번째 호출
+        CompletableFuture<AiServiceResult> leader = CompletableFuture.supplyAsync(
+                () -> guard.execute("same", deadline -> {
+                    calls.incrementAndGet();
+                    await(release);
+                    return result("행복");
+                }));
+        waitUntil(() -> calls.get() == 1);
+        CompletableFuture<AiServiceResult> follower = CompletableFuture.supplyAsync(
+                () -> guard.execute("same", deadline -> {
+                    calls.incrementAndGet();
+                    return result("슬픔");
+                }));
+        waitUntil(() -> meterRegistry.counter("ai.client.coalesced").count() == 1);
+        release.countDown();
+
+        // Then: AI 서버는 한 번만 호출되고 결과를 공유 (공유 결과는 이미지 개별 삭제 대상이 아님)
+        AiServiceResult shared = follower.get(5, TimeUnit.SECONDS);
+        assertEquals("행복", leader.get(5, TimeUnit.SECONDS).getEmotion());
+        assertEquals("행복", shared.getEmotion());
+        assertTrue(shared.isCacheHit());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_ShouldReturnFallback_WhenBulkheadIsFull() throws Exception {
+        // Given
+        AiCallGuard guard = createGuard(1, 5);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<AiServiceResult> occupying = CompletableFuture.supplyAsync(
+                () -> guard.execute("first", deadline -> {
+                    await(release);
+                    return result("행복");
+                }));
+        waitUntil(() -> guard.getInFlightCalls() == 1);
+
+        // When
+        AtomicInteger calls = new AtomicInteger();
+        AiServiceResult rejected = guard.execute("second", deadline -> {
+            calls.incrementAndGet();
+            return result("슬픔");
+        });
+        release.countDown();
+
+        // Then
+        assertTrue(rejected.isFallback());
+        assertEquals(0, calls.get());
+        assertEquals(1, meterRegistry.counter("ai.client.fallback", "reason", "bulkhead_full").count());
+        assertFalse(occupying.get(5, TimeUnit.SECONDS).isFallback());
+    }
+
+    @Test
+    void execute_ShouldOpenBreakerAndSkipCalls_AfterConsecutiveFailures() {
+        // Given
+        AiCallGuard guard = createGuard(8, 2);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            AiServiceResult result = guard.execute("key" + i, deadline -> {
+                calls.incrementAndGet();
+                throw new IllegalStateException("AI server error");
+            });
+            assertTrue(result.isFallback());
+        }
+
+        // Then: 임계치(2) 도달 후에는 AI 서버를 호출하지 않고 대체 결과 반환
+        assertEquals(2, calls.get());
+        assertEquals(AiCircuitBreaker.State.OPEN, guard.getCircuitState());
+        assertEquals(1, meterRegistry.counter("ai.client.fallback", "reason", "circuit_open").count());
+    }
+
+    // --- Helper Methods ---
+
+    private AiCallGuard createGuard(int maxConcurrentCalls, int failureThreshold) {
+        return new AiCallGuard(meterRegistry, maxConcurrentCalls, 50, 5_000, failureThreshold, 60_000, true,
+                "중립", "fallback");
+    }
+
+    private AiServiceResult result(String emotion) {
+        return AiServiceResult.builder().emotion(emotion).aiComment("comment").imageUrl("").build();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Condition not met in time");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
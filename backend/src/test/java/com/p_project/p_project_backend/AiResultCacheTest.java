@@ -0,0 +1,65 @@
+package com.p_project.p_project_backend;
+
+import com.p_project.p_project_backend.backend_user.dto.ai.AiServiceResult;
+import com.p_project.p_project_backend.backend_user.repository.AiAnalysisCacheRepository;
+import com.p_project.p_project_backend.backend_user.service.ai.AiImageStorage;
+import com.p_project.p_project_backend.backend_user.service.ai.AiResultCache;
+import com.p_project.p_project_backend.config.JacksonConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AiResultCacheTest {
+
+    private static final long TOUCH_INTERVAL_MS = 200;
+
+    private final AiAnalysisCacheRepository repository = mock(AiAnalysisCacheRepository.class);
+    private final AiImageStorage imageStorage = mock(AiImageStorage.class);
+
+    private AiResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(imageStorage.exists(anyString())).thenReturn(true);
+        cache = new AiResultCache(repository, imageStorage, new JacksonConfig().objectMapper(),
+                new SimpleMeterRegistry(), 100, 90, TOUCH_INTERVAL_MS, "v1");
+    }
+
+    @Test
+    void get_ShouldTouchDbEntryOncePerInterval_WhenServedFromMemory() throws Exception {
+        // Given
+        cache.put("key", AiServiceResult.builder().emotion("행복").aiComment("comment").imageUrl("image.png").build());
+
+        // When - 간격 안의 메모리 적중은 DB 를 갱신하지 않음
+        assertTrue(cache.get("key").isPresent());
+        assertTrue(cache.get("key").isPresent());
+        verify(repository, never()).touch(anyString(), any(LocalDateTime.class));
+
+        Thread.sleep(TOUCH_INTERVAL_MS + 50);
+        assertTrue(cache.get("key").isPresent());
+        assertTrue(cache.get("key").isPresent());
+
+        // Then - 간격이 지난 뒤 첫 적중에서 한 번만 갱신, DB 조회는 없음
+        verify(repository, times(1)).touch(eq("key"), any(LocalDateTime.class));
+        verify(repository, never()).findById(anyString());
+    }
+
+    @Test
+    void get_ShouldReturnResult_WhenTouchFails() throws Exception {
+        // Given
+        when(repository.touch(anyString(), any(LocalDateTime.class))).thenThrow(new RuntimeException("DB down"));
+        cache.put("key", AiServiceResult.builder().emotion("행복").aiComment("comment").imageUrl("image.png").build());
+        Thread.sleep(TOUCH_INTERVAL_MS + 50);
+
+        // When & Then - 적중 일시 갱신 실패는 결과 반환에 영향 없음
+        assertEquals("행복", cache.get("key").orElseThrow().getEmotion());
+    }
+}
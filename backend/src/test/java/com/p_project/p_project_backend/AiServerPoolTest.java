@@ -0,0 +1,195 @@
+package com.p_project.p_project_backend;
+
+import com.p_project.p_project_backend.backend_user.service.ai.AiServerPool;
+import com.p_project.p_project_backend.backend_user.service.ai.AiServerPool.AiServerStatus;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AiServerPoolTest {
+
+    private final List<StubAiServer> servers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        servers.forEach(StubAiServer::stop);
+    }
+
+    @Test
+    void execute_ShouldRouteToInstanceWithFewestOutstandingRequests() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        StubAiServer first = start(200, release);
+        StubAiServer second = start(200, release);
+        AiServerPool pool = createPool(List.of(first.url(), second.url()), 3);
+
+        // When: 첫 요청이 처리 중인 동안 두 번째 요청 전송
+        CompletableFuture<String> inFlight = CompletableFuture.supplyAsync(() -> call(pool));
+        waitUntil(() -> first.hits.get() + second.hits.get() == 1);
+        CompletableFuture<String> next = CompletableFuture.supplyAsync(() -> call(pool));
+        waitUntil(() -> first.hits.get() + second.hits.get() == 2);
+        release.countDown();
+
+        // Then: 두 요청이 서로 다른 인스턴스로 분산됨
+        assertEquals("ok", inFlight.get(5, TimeUnit.SECONDS));
+        assertEquals("ok", next.get(5, TimeUnit.SECONDS));
+        assertEquals(1, first.hits.get());
+        assertEquals(1, second.hits.get());
+    }
+
+    @Test
+    void execute_ShouldEjectInstance_AfterConsecutiveFailures() {
+        // Given
+        StubAiServer failing = start(500, null);
+        StubAiServer healthy = start(200, null);
+        AiServerPool pool = createPool(List.of(failing.url()), 2);
+
+        // When
+        assertThrows(RuntimeException.class, () -> call(pool));
+        assertThrows(RuntimeException.class, () -> call(pool));
+
+        // Then: 제외된 인스턴스로는 더 이상 요청하지 않음
+        assertThrows(IllegalStateException.class, () -> call(pool));
+        assertEquals(2, failing.hits.get());
+        assertTrue(pool.getStatuses().get(0).ejected());
+
+        // 재시작 없이 추가된 인스턴스로 라우팅
+        assertTrue(pool.addInstance(healthy.url()));
+        for (int i = 0; i < 3; i++) {
+            assertEquals("ok", call(pool));
+        }
+        assertEquals(2, failing.hits.get());
+        assertEquals(3, healthy.hits.get());
+    }
+
+    @Test
+    void probeHealth_ShouldExcludeUnhealthyInstance() {
+        // Given
+        StubAiServer unhealthy = start(503, null);
+        StubAiServer healthy = start(200, null);
+        AiServerPool pool = createPool(List.of(unhealthy.url(), healthy.url()), 3);
+
+        // When
+        pool.probeHealth();
+
+        // Then
+        List<AiServerStatus> statuses = pool.getStatuses();
+        assertFalse(statuses.get(0).healthy());
+        assertTrue(statuses.get(1).healthy());
+        int probeHits = unhealthy.hits.get();
+        for (int i = 0; i < 3; i++) {
+            assertEquals("ok", call(pool));
+        }
+        assertEquals(probeHits, unhealthy.hits.get());
+    }
+
+    @Test
+    void removeInstance_ShouldStopRoutingToRemovedInstance() {
+        // Given
+        StubAiServer first = start(200, null);
+        StubAiServer second = start(200, null);
+        AiServerPool pool = createPool(List.of(first.url(), second.url()), 3);
+
+        // When
+        assertTrue(pool.removeInstance(first.url()));
+        assertFalse(pool.removeInstance(first.url()));
+        for (int i = 0; i < 3; i++) {
+            call(pool);
+        }
+
+        // Then
+        assertEquals(0, first.hits.get());
+        assertEquals(3, second.hits.get());
+        assertEquals(1, pool.getStatuses().size());
+    }
+
+    // --- Helper Methods ---
+
+    private AiServerPool createPool(List<String> urls, int failureThreshold) {
+        return new AiServerPool(ExchangeStrategies.withDefaults(), new SimpleMeterRegistry(), urls,
+                failureThreshold, 60_000, 1_000);
+    }
+
+    private String call(AiServerPool pool) {
+        return pool.execute(client -> client.post()
+                .uri("/api/ai/diary")
+                .retrieve()
+                .bodyToMono(String.class)
+                .block());
+    }
+
+    private StubAiServer start(int status, CountDownLatch release) {
+        StubAiServer server = new StubAiServer(status, release);
+        servers.add(server);
+        return server;
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Condition not met in time");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * 고정 상태 코드로 응답하는 AI 서버 스텁 (release 가 있으면 해제될 때까지 응답 지연)
+     */
+    private static final class StubAiServer {
+        private final HttpServer server;
+        private final AtomicInteger hits = new AtomicInteger();
+
+        private StubAiServer(int status, CountDownLatch release) {
+            try {
+                server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/", exchange -> {
+                hits.incrementAndGet();
+                try {
+                    if (release != null) {
+                        release.await(5, TimeUnit.SECONDS);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                exchange.getRequestBody().readAllBytes();
+                byte[] body = (status == 200 ? "ok" : "error").getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(status, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+        }
+
+        private String url() {
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+
+        private void stop() {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.p_project.p_project_backend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.p_project.p_project_backend.security.AuthRateLimitFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthRateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void doFilter_ShouldReturn429WithRetryAfter_WhenIpBucketIsExhausted() throws Exception {
+        // Given - IP당 60초에 2회
+        AuthRateLimitFilter filter = createFilter("/api/auth/login=2/0/60");
+
+        // When
+        MockHttpServletResponse first = send(filter, "/api/auth/login", "10.0.0.1", "{}");
+        MockHttpServletResponse second = send(filter, "/api/auth/login", "10.0.0.1", "{}");
+        MockHttpServletResponse rejected = send(filter, "/api/auth/login", "10.0.0.1", "{}");
+        MockHttpServletResponse otherIp = send(filter, "/api/auth/login", "10.0.0.2", "{}");
+
+        // Then - 토큰 1개가 다시 채워지는 데 30초
+        assertEquals(200, first.getStatus());
+        assertEquals(200, second.getStatus());
+        assertEquals(429, rejected.getStatus());
+        assertEquals("30", rejected.getHeader("Retry-After"));
+        assertTrue(rejected.getContentAsString(StandardCharsets.UTF_8).contains("TOO_MANY_REQUESTS"));
+        assertEquals(200, otherIp.getStatus());
+        assertEquals(1, meterRegistry.counter("security.rate-limit.rejected",
+                "route", "/api/auth/login", "key", "ip").count());
+    }
+
+    @Test
+    void doFilter_ShouldLimitPerEmail_AcrossIps_AndPassBodyToController() throws Exception {
+        // Given - 이메일당 600초에 1회
+        AuthRateLimitFilter filter = createFilter("/api/auth/send-verification-code=10/1/600");
+        String body = "{\"email\":\"User@Example.com\"}";
+
+        // When
+        MockHttpServletRequest request = request("/api/auth/send-verification-code", "10.0.0.1", body);
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        MockHttpServletResponse sameEmail = send(filter, "/api/auth/send-verification-code", "10.0.0.2",
+                "{\"email\":\"user@example.com\"}");
+        MockHttpServletResponse otherEmail = send(filter, "/api/auth/send-verification-code", "10.0.0.2",
+                "{\"email\":\"other@example.com\"}");
+
+        // Then - 대소문자만 다른 이메일은 같은 버킷, 컨트롤러는 미리 읽은 본문을 그대로 받음
+        assertArrayEquals(body.getBytes(StandardCharsets.UTF_8), chain.getRequest().getInputStream().readAllBytes());
+        assertEquals(429, sameEmail.getStatus());
+        assertEquals("600", sameEmail.getHeader("Retry-After"));
+        assertEquals(200, otherEmail.getStatus());
+    }
+
+    @Test
+    void doFilter_ShouldNotLimit_WhenRouteIsNotConfigured() throws Exception {
+        // Given
+        AuthRateLimitFilter filter = createFilter("/api/auth/login=1/0/60");
+
+        // When & Then
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, send(filter, "/api/auth/refresh", "10.0.0.1", "{}").getStatus());
+        }
+    }
+
+    // --- Helper Methods ---
+
+    private AuthRateLimitFilter createFilter(String routes) {
+        return new AuthRateLimitFilter(routes, new ObjectMapper(), meterRegistry, 1000, 16384);
+    }
+
+    private MockHttpServletResponse send(AuthRateLimitFilter filter, String uri, String ip, String body)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(uri, ip, body), response, new MockFilterChain());
+        return response;
+    }
+
+    private MockHttpServletRequest request(String uri, String ip, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
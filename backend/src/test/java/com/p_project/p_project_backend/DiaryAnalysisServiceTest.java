@@ -0,0 +1,130 @@
+package com.p_project.p_project_backend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.p_project.p_project_backend.backend_user.dto.diary.DiaryAnalysisStatusResponse;
+import com.p_project.p_project_backend.backend_user.repository.DiaryAnalysisJobRepository;
+import com.p_project.p_project_backend.backend_user.repository.DiaryRepository;
+import com.p_project.p_project_backend.backend_user.service.AiService;
+import com.p_project.p_project_backend.backend_user.service.DiaryAnalysisNotifier;
+import com.p_project.p_project_backend.backend_user.service.DiaryAnalysisService;
+import com.p_project.p_project_backend.backend_user.service.DiaryCalendarCache;
+import com.p_project.p_project_backend.entity.Diary;
+import com.p_project.p_project_backend.entity.Diary.AnalysisStatus;
+import com.p_project.p_project_backend.entity.Diary.Emotion;
+import com.p_project.p_project_backend.entity.DiaryAnalysisJob;
+import com.p_project.p_project_backend.entity.DiaryAnalysisJob.Status;
+import com.p_project.p_project_backend.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class DiaryAnalysisServiceTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BACKOFF_INITIAL_MS = 2000;
+
+    private final DiaryAnalysisJobRepository jobRepository = mock(DiaryAnalysisJobRepository.class);
+    private final DiaryRepository diaryRepository = mock(DiaryRepository.class);
+    private final AiService aiService = mock(AiService.class);
+    private final DiaryAnalysisNotifier notifier = mock(DiaryAnalysisNotifier.class);
+    private final ThreadPoolTaskExecutor executor = mock(ThreadPoolTaskExecutor.class);
+
+    private DiaryAnalysisService analysisService;
+    private Diary diary;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder().id(1L).email("test@example.com").name("test").passwordHash("hash").build();
+        diary = Diary.builder()
+                .id(10L)
+                .user(user)
+                .date(LocalDate.of(2024, 5, 1))
+                .title("title")
+                .content("content")
+                .emotion(Emotion.중립)
+                .analysisStatus(AnalysisStatus.PENDING)
+                .build();
+
+        // 워커 스레드 대신 호출 스레드에서 바로 실행
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+        when(jobRepository.findDueJobIds(eq(Status.PENDING), any(), any(Pageable.class))).thenReturn(List.of(1L));
+        when(jobRepository.transitionStatus(eq(1L), eq(Status.PENDING), eq(Status.RUNNING), any())).thenReturn(1);
+        when(diaryRepository.findById(10L)).thenReturn(Optional.of(diary));
+        when(aiService.analyzeDiary(any())).thenThrow(new RuntimeException("AI server unavailable"));
+
+        analysisService = new DiaryAnalysisService(jobRepository, diaryRepository, aiService, notifier,
+                new ObjectMapper(), new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                mock(DiaryCalendarCache.class), executor, 1, MAX_ATTEMPTS, BACKOFF_INITIAL_MS, 300000, 300000);
+    }
+
+    @Test
+    void dispatchDueJobs_ShouldRescheduleWithBackoff_WhenAnalysisFailsBeforeMaxAttempts() {
+        // Given
+        DiaryAnalysisJob job = givenJob(0);
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        analysisService.dispatchDueJobs();
+
+        // Then - 첫 실패는 초기 백오프(+-20% 지터) 뒤 재시도하도록 대기 상태로 되돌림
+        assertEquals(Status.PENDING, job.getStatus());
+        assertEquals(1, job.getAttempts());
+        assertEquals("AI server unavailable", job.getLastError());
+        assertFalse(job.getNextAttemptAt().isBefore(before.plusNanos(BACKOFF_INITIAL_MS * 800_000L)));
+        assertFalse(job.getNextAttemptAt().isAfter(LocalDateTime.now().plusNanos(BACKOFF_INITIAL_MS * 1_200_000L)));
+        assertEquals(AnalysisStatus.PENDING, diary.getAnalysisStatus());
+        verify(notifier, never()).publish(any());
+    }
+
+    @Test
+    void dispatchDueJobs_ShouldFailDiaryAndNotify_WhenLastAttemptFails() {
+        // Given
+        DiaryAnalysisJob job = givenJob(MAX_ATTEMPTS - 1);
+
+        // When
+        analysisService.dispatchDueJobs();
+
+        // Then
+        assertEquals(Status.FAILED, job.getStatus());
+        assertEquals(MAX_ATTEMPTS, job.getAttempts());
+        assertEquals(AnalysisStatus.FAILED, diary.getAnalysisStatus());
+        ArgumentCaptor<DiaryAnalysisStatusResponse> published = ArgumentCaptor.forClass(DiaryAnalysisStatusResponse.class);
+        verify(notifier).publish(published.capture());
+        assertEquals(10L, published.getValue().getDiaryId());
+        assertEquals("FAILED", published.getValue().getStatus());
+    }
+
+    // --- Helper Methods ---
+
+    private DiaryAnalysisJob givenJob(int attempts) {
+        LocalDateTime now = LocalDateTime.now();
+        DiaryAnalysisJob job = DiaryAnalysisJob.builder()
+                .id(1L)
+                .diary(diary)
+                .status(Status.RUNNING)
+                .attempts(attempts)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        return job;
+    }
+}
@@ -0,0 +1,176 @@
+package com.p_project.p_project_backend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.p_project.p_project_backend.backend_user.dto.ai.AiServiceResult;
+import com.p_project.p_project_backend.backend_user.dto.ai.RecommendedFood;
+import com.p_project.p_project_backend.backend_user.repository.DiaryRepository;
+import com.p_project.p_project_backend.backend_user.service.AiService;
+import com.p_project.p_project_backend.backend_user.service.DiaryBackfillService;
+import com.p_project.p_project_backend.backend_user.service.DiaryCalendarCache;
+import com.p_project.p_project_backend.backend_user.service.ai.AiDegradationController;
+import com.p_project.p_project_backend.entity.Diary;
+import com.p_project.p_project_backend.entity.Diary.AnalysisTier;
+import com.p_project.p_project_backend.entity.Diary.Emotion;
+import com.p_project.p_project_backend.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class DiaryBackfillServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 5, 1, 0, 0);
+
+    private final DiaryRepository diaryRepository = mock(DiaryRepository.class);
+    private final AiService aiService = mock(AiService.class);
+    private final AiDegradationController degradationController = mock(AiDegradationController.class);
+    private final DiaryCalendarCache diaryCalendarCache = mock(DiaryCalendarCache.class);
+
+    private DiaryBackfillService backfillService;
+
+    @BeforeEach
+    void setUp() {
+        // 일기 1~3 은 백필 대상이지만 AI 분석이 계속 실패함
+        when(diaryRepository.findIdsByAnalysisTierIn(anyList(), anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    long afterId = invocation.getArgument(1);
+                    Pageable pageable = invocation.getArgument(2);
+                    return LongStream.rangeClosed(1, 3).filter(id -> id > afterId).limit(pageable.getPageSize())
+                            .boxed().toList();
+                });
+        when(diaryRepository.findById(anyLong()))
+                .thenAnswer(invocation -> Optional.of(degradedDiary(invocation.getArgument(0))));
+        when(aiService.analyzeDiary(any())).thenThrow(new RuntimeException("AI server unavailable"));
+        when(degradationController.currentTier()).thenReturn(AnalysisTier.FULL);
+
+        backfillService = new DiaryBackfillService(diaryRepository, aiService, degradationController,
+                new ObjectMapper(), new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                diaryCalendarCache, true, BATCH_SIZE);
+    }
+
+    @Test
+    void backfill_ShouldMovePastFailingDiaries_AndRestartAfterLastPage() {
+        // When
+        backfillService.backfill();
+        backfillService.backfill();
+        backfillService.backfill();
+
+        // Then
+        verify(diaryRepository).findIdsByAnalysisTierIn(anyList(), eq(2L), any(Pageable.class));
+        verify(diaryRepository, times(2)).findIdsByAnalysisTierIn(anyList(), eq(0L), any(Pageable.class));
+        verify(aiService, times(5)).analyzeDiary(any());
+    }
+
+    @Test
+    void backfill_ShouldStopAndResume_WhenLoadRisesDuringBatch() {
+        // Given
+        when(degradationController.currentTier()).thenReturn(AnalysisTier.FULL, AnalysisTier.FULL,
+                AnalysisTier.NO_IMAGE, AnalysisTier.FULL);
+
+        // When
+        backfillService.backfill();
+        backfillService.backfill();
+
+        // Then
+        verify(diaryRepository).findIdsByAnalysisTierIn(anyList(), eq(1L), any(Pageable.class));
+    }
+
+    @Test
+    void backfill_ShouldFillOnlyImage_WhenDiarySkippedImage() {
+        // When
+        Diary diary = backfillSingle(AnalysisTier.NO_IMAGE);
+
+        // Then - 저장된 감정으로 이미지만 생성, 감정/피드백/수정 시각은 유지
+        verify(aiService).analyzeDiary(argThat(request -> "슬픔".equals(request.getEmotion())));
+        assertEquals(Emotion.슬픔, diary.getEmotion());
+        assertEquals("v1", diary.getEmotionModelVersion());
+        assertEquals("old comment", diary.getAiComment());
+        assertEquals("new-image.png", diary.getImageUrl());
+        assertEquals(AnalysisTier.FULL, diary.getAnalysisTier());
+        assertEquals(UPDATED_AT, diary.getUpdatedAt());
+        verify(diaryCalendarCache, never()).evict(anyLong(), any());
+    }
+
+    @Test
+    void backfill_ShouldFillFeedbackAndImage_AndKeepEmotion_WhenDiarySkippedFeedback() {
+        // When
+        Diary diary = backfillSingle(AnalysisTier.NO_FEEDBACK);
+
+        // Then
+        verify(aiService).analyzeDiary(argThat(request -> "슬픔".equals(request.getEmotion())));
+        assertEquals(Emotion.슬픔, diary.getEmotion());
+        assertEquals("new comment", diary.getAiComment());
+        assertNotNull(diary.getRecommendedFood());
+        assertEquals("new-image.png", diary.getImageUrl());
+        assertEquals(UPDATED_AT, diary.getUpdatedAt());
+    }
+
+    @Test
+    void backfill_ShouldReplaceEmotion_WhenDiaryOnlyHasClassification() {
+        // When
+        Diary diary = backfillSingle(AnalysisTier.CLASSIFICATION_ONLY);
+
+        // Then - 분류만 했거나 대체 감정이 저장된 일기는 전체 분석 결과로 갱신
+        verify(aiService).analyzeDiary(argThat(request -> request.getEmotion() == null));
+        assertEquals(Emotion.행복, diary.getEmotion());
+        assertEquals("v2", diary.getEmotionModelVersion());
+        assertEquals("new comment", diary.getAiComment());
+        assertEquals("new-image.png", diary.getImageUrl());
+        assertEquals(UPDATED_AT, diary.getUpdatedAt());
+        verify(diaryCalendarCache).evict(1L, diary.getDate());
+    }
+
+    // --- Helper Methods ---
+
+    private Diary backfillSingle(AnalysisTier tier) {
+        // Given - 감정 슬픔으로 저장된 일기 하나, AI 는 다른 감정(행복)의 전체 결과를 반환
+        Diary diary = degradedDiary(1);
+        diary.setEmotion(Emotion.슬픔);
+        diary.setEmotionModelVersion("v1");
+        diary.setAiComment("old comment");
+        diary.setAnalysisTier(tier);
+        doReturn(List.of(1L)).when(diaryRepository).findIdsByAnalysisTierIn(anyList(), anyLong(), any(Pageable.class));
+        doReturn(Optional.of(diary)).when(diaryRepository).findById(1L);
+        doReturn(AiServiceResult.builder()
+                .emotion("행복")
+                .emotionModelVersion("v2")
+                .aiComment("new comment")
+                .recommendedFood(new RecommendedFood())
+                .imageUrl("new-image.png")
+                .build()).when(aiService).analyzeDiary(any());
+
+        // When
+        backfillService.backfill();
+        return diary;
+    }
+
+    private Diary degradedDiary(long id) {
+        User user = User.builder().id(1L).email("test@example.com").name("test").passwordHash("hash").build();
+        return Diary.builder()
+                .id(id)
+                .user(user)
+                .date(LocalDate.of(2024, 5, (int) id))
+                .title("title")
+                .content("content")
+                .emotion(Emotion.중립)
+                .analysisTier(AnalysisTier.NO_IMAGE)
+                .updatedAt(UPDATED_AT)
+                .build();
+    }
+}
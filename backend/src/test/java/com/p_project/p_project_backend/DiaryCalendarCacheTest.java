@@ -0,0 +1,93 @@
+package com.p_project.p_project_backend;
+
+import com.p_project.p_project_backend.backend_user.dto.diary.DiaryMonthlyResponse;
+import com.p_project.p_project_backend.backend_user.dto.diary.DiarySummaryResponse;
+import com.p_project.p_project_backend.backend_user.service.DiaryCalendarCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiaryCalendarCacheTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 5, 1);
+
+    private final DiaryCalendarCache cache = new DiaryCalendarCache(new SimpleMeterRegistry(), 600_000, 1000);
+    // 현재 DB 상태를 흉내내는 감정 값과 조회 횟수
+    private final AtomicReference<String> emotion = new AtomicReference<>("중립");
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void get_ShouldServeCachedMonthWithSameEtag_UntilEvicted() {
+        // When
+        String first = cache.get(1L, 2024, 5, loader()).etag();
+        String second = cache.get(1L, 2024, 5, loader()).etag();
+
+        // Then
+        assertEquals(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void evict_ShouldChangeMonthEtag_WhenDiaryIsWritten() {
+        // Given
+        String before = cache.get(1L, 2024, 5, loader()).etag();
+        String otherUser = cache.get(2L, 2024, 5, loader()).etag();
+
+        // When - 일기 수정으로 감정이 바뀌고 해당 월 무효화
+        emotion.set("행복");
+        cache.evict(1L, DATE.withDayOfMonth(20));
+
+        // Then - 다시 조회하여 새 ETag, 다른 사용자의 같은 월은 그대로
+        DiaryCalendarCache.CalendarMonth after = cache.get(1L, 2024, 5, loader());
+        assertNotEquals(before, after.etag());
+        assertEquals("행복", after.response().getDiaries().get(0).getEmotion());
+        assertEquals(otherUser, cache.get(2L, 2024, 5, loader()).etag());
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void evict_ShouldInvalidateAgainAfterCommit_WhenStaleMonthWasCachedBeforeCommit() {
+        // Given
+        String before = cache.get(1L, 2024, 5, loader()).etag();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When - 트랜잭션 안에서 무효화했지만, 커밋 전 다른 요청이 이전 값을 다시 캐시
+        cache.evict(1L, DATE);
+        assertEquals(before, cache.get(1L, 2024, 5, loader()).etag());
+        emotion.set("행복");
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+
+        // Then
+        assertNotEquals(before, cache.get(1L, 2024, 5, loader()).etag());
+    }
+
+    // --- Helper Methods ---
+
+    private Supplier<DiaryMonthlyResponse> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return DiaryMonthlyResponse.builder()
+                    .year(2024)
+                    .month(5)
+                    .diaries(List.of(DiarySummaryResponse.builder().id(10L).date(DATE).emotion(emotion.get()).build()))
+                    .build();
+        };
+    }
+}
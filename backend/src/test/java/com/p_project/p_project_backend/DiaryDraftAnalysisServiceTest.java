@@ -0,0 +1,138 @@
+package com.p_project.p_project_backend;
+
+import com.p_project.p_project_backend.backend_user.dto.ai.AiServerRequest;
+import com.p_project.p_project_backend.backend_user.dto.ai.AiServiceResult;
+import com.p_project.p_project_backend.backend_user.dto.diary.DiaryDraftAnalysisRequest;
+import com.p_project.p_project_backend.backend_user.service.AiService;
+import com.p_project.p_project_backend.backend_user.service.DiaryDraftAnalysisService;
+import com.p_project.p_project_backend.backend_user.service.ai.AiDegradationController;
+import com.p_project.p_project_backend.backend_user.service.ai.AiResultCache;
+import com.p_project.p_project_backend.entity.Diary.AnalysisTier;
+import com.p_project.p_project_backend.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class DiaryDraftAnalysisServiceTest {
+
+    private static final long DEBOUNCE_MS = 100;
+
+    private final AiService aiService = mock(AiService.class);
+    private final AiResultCache aiResultCache = mock(AiResultCache.class);
+    private final AiDegradationController degradationController = mock(AiDegradationController.class);
+    private final ThreadPoolTaskExecutor executor = mock(ThreadPoolTaskExecutor.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // 끝난 분석 작업 수 (결과 보관까지 완료된 시점 확인용)
+    private final AtomicInteger completedAnalyses = new AtomicInteger();
+
+    private DiaryDraftAnalysisService draftService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().id(1L).email("test@example.com").name("test").passwordHash("hash").build();
+        // 분석 입력 해시 대신 본문을 키로 사용
+        when(aiResultCache.keyOf(any(AiServerRequest.class)))
+                .thenAnswer(invocation -> invocation.<AiServerRequest>getArgument(0).getContent());
+        when(degradationController.currentTier()).thenReturn(AnalysisTier.FULL);
+        // 분석 스레드 대신 debounce 스레드에서 바로 실행
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            completedAnalyses.incrementAndGet();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+
+        draftService = new DiaryDraftAnalysisService(aiService, aiResultCache, degradationController, executor,
+                meterRegistry, true, DEBOUNCE_MS, 60_000, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        draftService.destroy();
+    }
+
+    @Test
+    void submit_ShouldAnalyzeOnlyLatestDraft_WhenDraftsArriveWithinDebounce() throws Exception {
+        // Given
+        AiServiceResult result = result("행복");
+        when(aiService.analyzeDiary(any())).thenReturn(result);
+
+        // When
+        assertEquals("SCHEDULED", draftService.submit(user, draft("오늘은")).getStatus());
+        assertEquals("SCHEDULED", draftService.submit(user, draft("오늘은 좋은 날")).getStatus());
+
+        // Then: 입력이 멈춘 뒤 마지막 초안만 분석하고, 저장 내용이 같으면 결과를 바로 사용
+        awaitAnalyses(1);
+        verify(aiService).analyzeDiary(argThat(request -> request.getContent().equals("오늘은 좋은 날")));
+        verify(aiService, never()).analyzeDiary(argThat(request -> request.getContent().equals("오늘은")));
+        assertEquals(Optional.of(result), takeResult("오늘은 좋은 날"));
+    }
+
+    @Test
+    void submit_ShouldDiscardResult_WhenNewerDraftArrivesDuringAnalysis() throws Exception {
+        // Given: 첫 초안 분석이 진행 중인 상태
+        AiServiceResult stale = result("슬픔");
+        AiServiceResult latest = result("행복");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(aiService.analyzeDiary(argThat(request -> request != null && request.getContent().equals("첫 초안"))))
+                .thenAnswer(invocation -> {
+                    started.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return stale;
+                });
+        when(aiService.analyzeDiary(argThat(request -> request != null && request.getContent().equals("고친 초안"))))
+                .thenReturn(latest);
+        draftService.submit(user, draft("첫 초안"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // When
+        draftService.submit(user, draft("고친 초안"));
+        release.countDown();
+
+        // Then: 대체된 분석 결과는 폐기하고 최신 초안 결과만 보관
+        awaitAnalyses(2);
+        verify(aiService).discardResult(stale);
+        assertEquals(Optional.of(latest), takeResult("고친 초안"));
+        verify(aiService, never()).discardResult(latest);
+        assertEquals(1, meterRegistry.counter("ai.draft.superseded").count());
+    }
+
+    // --- Helper Methods ---
+
+    private DiaryDraftAnalysisRequest draft(String content) {
+        DiaryDraftAnalysisRequest request = new DiaryDraftAnalysisRequest();
+        request.setContent(content);
+        return request;
+    }
+
+    private AiServiceResult result(String emotion) {
+        return AiServiceResult.builder().emotion(emotion).aiComment("comment").imageUrl("").build();
+    }
+
+    private Optional<AiServiceResult> takeResult(String content) {
+        return draftService.takeResult(user, AiServerRequest.builder().content(content).build());
+    }
+
+    private void awaitAnalyses(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (completedAnalyses.get() < count) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Draft analysis not finished in time");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.p_project.p_project_backend;
+
+import com.p_project.p_project_backend.backend_user.repository.DiaryRepository;
+import com.p_project.p_project_backend.backend_user.repository.DiarySearchRepository;
+import com.p_project.p_project_backend.entity.Diary;
+import com.p_project.p_project_backend.entity.Diary.Emotion;
+import com.p_project.p_project_backend.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Diary 본문/AI 코멘트/음식 추천 컬럼 지연 로딩 확인 (바이트코드 향상이 빠지면 실패)
+ * 캘린더/통계/위험 감지/검색 조회가 실행하는 SELECT 에 무거운 컬럼이 포함되지 않는지 검사
+ */
+@DataJpaTest(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:lazy-columns;MODE=MariaDB;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.p_project.p_project_backend.DiaryLazyColumnsTest$CapturingStatementInspector"
+})
+class DiaryLazyColumnsTest {
+
+    private static final List<String> HEAVY_COLUMNS = List.of("content", "ai_comment", "recommended_food");
+    private static final LocalDate MONTH_START = LocalDate.of(2024, 5, 1);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private User user;
+    private Long diaryId;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        user = User.builder()
+                .email("lazy@example.com")
+                .name("lazy")
+                .passwordHash("hash")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        entityManager.persist(user);
+
+        for (int day = 1; day <= 3; day++) {
+            Diary diary = Diary.builder()
+                    .user(user)
+                    .date(MONTH_START.withDayOfMonth(day))
+                    .title("title " + day)
+                    .content("content ".repeat(100))
+                    .emotion(Emotion.행복)
+                    .aiComment("comment ".repeat(50))
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+            entityManager.persist(diary);
+            diaryId = diary.getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+        CapturingStatementInspector.SELECTS.clear();
+    }
+
+    @Test
+    void statsQueryDoesNotSelectHeavyColumns() {
+        List<Diary> diaries = diaryRepository.findAnalyzedByUserAndDateBetween(user, MONTH_START,
+                MONTH_START.plusMonths(1));
+        diaries.forEach(Diary::getEmotion);
+
+        assertEquals(3, diaries.size());
+        assertLightSelects();
+    }
+
+    @Test
+    void riskQueryDoesNotSelectHeavyColumns() {
+        List<Diary> diaries = diaryRepository.findAnalyzedByUserAndDateBetweenOrderByDateDesc(user,
+                MONTH_START, MONTH_START.plusMonths(1));
+        diaries.forEach(Diary::getEmotion);
+
+        assertEquals(3, diaries.size());
+        assertLightSelects();
+    }
+
+    @Test
+    void calendarQueryDoesNotSelectHeavyColumns() {
+        assertEquals(3, diaryRepository.findCalendarViews(user.getId(), MONTH_START,
+                MONTH_START.withDayOfMonth(MONTH_START.lengthOfMonth())).size());
+        assertLightSelects();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void searchQuerySelectsContentOnly() {
+        // 검색은 JdbcTemplate 으로 실행되므로 실행 SQL 을 직접 수집
+        NamedParameterJdbcTemplate jdbcTemplate = spy(new NamedParameterJdbcTemplate(dataSource));
+        DiarySearchRepository searchRepository = new DiarySearchRepository(jdbcTemplate, false, 3);
+
+        assertEquals(3, searchRepository.search(user.getId(), "content", null, null, null, PageRequest.of(0, 10))
+                .getTotalElements());
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).query(sql.capture(), any(SqlParameterSource.class), any(RowMapper.class));
+        String select = sql.getValue().toLowerCase(Locale.ROOT);
+        assertTrue(select.contains("content"), select);
+        assertFalse(select.contains("ai_comment"), select);
+        assertFalse(select.contains("recommended_food"), select);
+    }
+
+    @Test
+    void bodyGroupLoadsOnFirstAccess() {
+        Diary diary = diaryRepository.findById(diaryId).orElseThrow();
+        assertLightSelects();
+
+        assertNotNull(diary.getContent());
+        assertNotNull(diary.getAiComment());
+
+        // 본문 접근 시 body 그룹 전체를 한 번에 조회
+        assertEquals(2, CapturingStatementInspector.SELECTS.size());
+        String bodySelect = CapturingStatementInspector.SELECTS.get(1);
+        HEAVY_COLUMNS.forEach(column -> assertTrue(bodySelect.contains(column), bodySelect));
+    }
+
+    // --- Helper Methods ---
+
+    private void assertLightSelects() {
+        assertFalse(CapturingStatementInspector.SELECTS.isEmpty());
+        for (String select : CapturingStatementInspector.SELECTS) {
+            assertTrue(select.contains("date") && select.contains("emotion"), select);
+            HEAVY_COLUMNS.forEach(column -> assertFalse(select.contains(column), select));
+        }
+    }
+
+    /**
+     * 실행된 SELECT 문 수집 (소문자로 저장)
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> SELECTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            String normalized = sql.toLowerCase(Locale.ROOT);
+            if (normalized.startsWith("select")) {
+                SELECTS.add(normalized);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.p_project.p_project_backend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.p_project.p_project_backend.backend_user.dto.ai.AiServerRequest;
+import com.p_project.p_project_backend.backend_user.dto.ai.AiServiceResult;
+import com.p_project.p_project_backend.backend_user.dto.diary.DiaryCreateRequest;
+import com.p_project.p_project_backend.backend_user.dto.diary.DiaryUpdateRequest;
+import com.p_project.p_project_backend.backend_user.repository.DiaryActivityRepository;
+import com.p_project.p_project_backend.backend_user.repository.DiaryImageRepository;
+import com.p_project.p_project_backend.backend_user.repository.DiaryRepository;
+import com.p_project.p_project_backend.backend_user.repository.DiarySearchRepository;
+import com.p_project.p_project_backend.backend_user.service.AiService;
+import com.p_project.p_project_backend.backend_user.service.DiaryAnalysisService;
+import com.p_project.p_project_backend.backend_user.service.DiaryCalendarCache;
+import com.p_project.p_project_backend.backend_user.service.DiaryDraftAnalysisService;
+import com.p_project.p_project_backend.backend_user.service.DiaryService;
+import com.p_project.p_project_backend.backend_user.service.ai.AiCancellation;
+import com.p_project.p_project_backend.entity.Diary;
+import com.p_project.p_project_backend.entity.Diary.Emotion;
+import com.p_project.p_project_backend.entity.User;
+import com.p_project.p_project_backend.exception.DiaryEditSupersededException;
+import com.p_project.p_project_backend.exception.GlobalExceptionHandler;
+import com.p_project.p_project_backend.repository.ErrorLogRepository;
+import com.p_project.p_project_backend.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DiaryServiceTest {
+
+    private final DiaryRepository diaryRepository = mock(DiaryRepository.class);
+    private final AiService aiService = mock(AiService.class);
+    private final DiaryDraftAnalysisService diaryDraftAnalysisService = mock(DiaryDraftAnalysisService.class);
+
+    private DiaryService diaryService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        diaryService = new DiaryService(diaryRepository, mock(DiarySearchRepository.class), aiService,
+                mock(DiaryAnalysisService.class), diaryDraftAnalysisService, mock(DiaryActivityRepository.class),
+                mock(DiaryImageRepository.class), new ObjectMapper(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), mock(DiaryCalendarCache.class));
+        user = User.builder().id(1L).email("test@example.com").name("test").passwordHash("hash").build();
+        when(diaryDraftAnalysisService.takeResult(any(), any())).thenReturn(Optional.empty());
+        when(diaryRepository.findByUserAndDate(any(), any())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void createDiary_ShouldReportDuplicate_WhenConcurrentRequestSavedSameDate() {
+        // Given
+        when(diaryRepository.save(any(Diary.class))).thenThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("Duplicate entry '1-2024-05-01' for key 'idx_diaries_user_date'",
+                        new SQLException("Duplicate entry", "23000", 1062), "idx_diaries_user_date")));
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> diaryService.createDiary(user, createRequest()));
+        assertTrue(exception.getMessage().contains("이미 해당 날짜에 작성된 일기가 있습니다"));
+    }
+
+    @Test
+    void createDiary_ShouldRethrow_WhenOtherConstraintIsViolated() {
+        // Given
+        DataIntegrityViolationException notNull = new DataIntegrityViolationException("not null",
+                new ConstraintViolationException("Column 'title' cannot be null",
+                        new SQLException("Column 'title' cannot be null", "23000", 1048), null));
+        when(diaryRepository.save(any(Diary.class))).thenThrow(notNull);
+
+        // When & Then
+        assertSame(notNull, assertThrows(DataIntegrityViolationException.class,
+                () -> diaryService.createDiary(user, createRequest())));
+    }
+
+    @Test
+    void updateDiary_ShouldRejectWith409_WhenNewerEditClaimedDuringAnalysis() {
+        // Given - 이 요청은 순번 1을 발급받고, 분석 중 다른 수정 요청이 순번 2를 발급받음
+        Diary diary = Diary.builder()
+                .id(10L)
+                .user(user)
+                .date(LocalDate.of(2024, 5, 1))
+                .title("title")
+                .content("old content")
+                .emotion(Emotion.중립)
+                .editSequence(1L)
+                .build();
+        AiServiceResult aiResult = AiServiceResult.builder().emotion("행복").aiComment("comment").imageUrl("").build();
+        when(diaryRepository.findById(10L)).thenReturn(Optional.of(diary));
+        when(diaryRepository.findEditSequence(10L)).thenReturn(1L);
+        when(aiService.analyzeDiary(any(AiServerRequest.class), any(AiCancellation.class))).thenAnswer(invocation -> {
+            diary.setEditSequence(2L);
+            return aiResult;
+        });
+        DiaryUpdateRequest request = new DiaryUpdateRequest();
+        request.setTitle("title");
+        request.setContent("new content");
+
+        // When
+        DiaryEditSupersededException exception = assertThrows(DiaryEditSupersededException.class,
+                () -> diaryService.updateDiary(user, 10L, request));
+
+        // Then - 오래된 분석 결과는 반영하지 않고 이미지 삭제, 응답은 409
+        assertEquals("old content", diary.getContent());
+        verify(aiService).discardResult(aiResult);
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(mock(ErrorLogRepository.class),
+                mock(UserRepository.class));
+        assertEquals(HttpStatus.CONFLICT, handler.handleDiaryEditSupersededException(exception,
+                new MockHttpServletRequest("PUT", "/api/diaries/10")).getStatusCode());
+    }
+
+    // --- Helper Methods ---
+
+    private DiaryCreateRequest createRequest() {
+        DiaryCreateRequest request = new DiaryCreateRequest();
+        request.setDate(LocalDate.of(2024, 5, 1));
+        request.setTitle("title");
+        request.setContent("content");
+        return request;
+    }
+}
@@ -0,0 +1,152 @@
+package com.p_project.p_project_backend;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.p_project.p_project_backend.entity.EmailOutbox;
+import com.p_project.p_project_backend.entity.EmailOutbox.Status;
+import com.p_project.p_project_backend.repository.EmailOutboxRepository;
+import com.p_project.p_project_backend.service.EmailOutboxDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class EmailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final EmailOutboxRepository repository = mock(EmailOutboxRepository.class);
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void sendNextBatch_ShouldSendClaimedEmailsOverSmtp_AndMarkThemSent() throws Exception {
+        // Given
+        EmailOutbox first = email(1L, "first@example.com", 1);
+        EmailOutbox second = email(2L, "second@example.com", 1);
+        givenClaimed(first, second);
+        EmailOutboxDispatcher dispatcher = createDispatcher(greenMail.getSmtp().getPort());
+
+        // When
+        int processed = dispatcher.sendNextBatch();
+
+        // Then
+        assertEquals(2, processed);
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(2, received.length);
+        assertEquals("[Emoji Diary] 이메일 인증 코드", received[0].getSubject());
+        verify(repository).markSent(argThatContainsExactly(1L, 2L), eq(Status.SENT), any(LocalDateTime.class));
+        verify(repository, never()).markFailed(anyLong(), any(), any(), anyString());
+    }
+
+    @Test
+    void sendNextBatch_ShouldScheduleRetry_WhenSmtpIsUnavailable() throws Exception {
+        // Given
+        EmailOutbox email = email(1L, "user@example.com", 1);
+        givenClaimed(email);
+        EmailOutboxDispatcher dispatcher = createDispatcher(unusedPort());
+
+        // When
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.sendNextBatch();
+
+        // Then: 대기 상태로 남고 다음 발송 일시가 뒤로 밀림
+        verify(repository).markFailed(eq(1L), eq(Status.PENDING),
+                argThat(next -> next.isAfter(before.plusSeconds(4))), anyString());
+        verify(repository, never()).markSent(anyList(), any(), any());
+    }
+
+    @Test
+    void sendNextBatch_ShouldDeadLetter_WhenAttemptsAreExhausted() throws Exception {
+        // Given
+        EmailOutbox email = email(1L, "user@example.com", 3);
+        givenClaimed(email);
+        EmailOutboxDispatcher dispatcher = createDispatcher(unusedPort());
+
+        // When
+        dispatcher.sendNextBatch();
+
+        // Then
+        verify(repository).markFailed(eq(1L), eq(Status.DEAD), any(LocalDateTime.class), anyString());
+        verify(repository, never()).markSent(anyList(), any(), any());
+    }
+
+    @Test
+    void sendNextBatch_ShouldSkipEmail_WhenAnotherNodeClaimedItFirst() {
+        // Given
+        when(repository.findDueIds(eq(Status.PENDING), any(), any())).thenReturn(List.of(1L));
+        when(repository.claim(eq(1L), eq(Status.PENDING), any(), any())).thenReturn(0);
+        EmailOutboxDispatcher dispatcher = createDispatcher(greenMail.getSmtp().getPort());
+
+        // When
+        int processed = dispatcher.sendNextBatch();
+
+        // Then
+        assertEquals(0, processed);
+        assertEquals(0, greenMail.getReceivedMessages().length);
+        verify(repository, never()).findAllById(any());
+    }
+
+    // --- Helper Methods ---
+
+    private EmailOutboxDispatcher createDispatcher(int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+        mailSender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "2000");
+        executor.initialize();
+        return new EmailOutboxDispatcher(repository, mailSender, executor, new SimpleMeterRegistry(),
+                "noreply@emoji-diary.test", 20, 3, 5000, 600000, 120000, 24, 1);
+    }
+
+    private void givenClaimed(EmailOutbox... emails) {
+        List<Long> ids = Arrays.stream(emails).map(EmailOutbox::getId).toList();
+        when(repository.findDueIds(eq(Status.PENDING), any(), any())).thenReturn(ids);
+        when(repository.claim(anyLong(), eq(Status.PENDING), any(), any())).thenReturn(1);
+        when(repository.findAllById(ids)).thenReturn(List.of(emails));
+    }
+
+    private EmailOutbox email(Long id, String recipient, int attempts) {
+        LocalDateTime now = LocalDateTime.now();
+        return EmailOutbox.builder()
+                .id(id)
+                .recipient(recipient)
+                .subject("[Emoji Diary] 이메일 인증 코드")
+                .body("인증 코드: 123456")
+                .attempts(attempts)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    private List<Long> argThatContainsExactly(Long... ids) {
+        return argThat(actual -> actual.size() == ids.length && actual.containsAll(List.of(ids)));
+    }
+
+    private int unusedPort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.p_project.p_project_backend;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.p_project.p_project_backend.backend_user.dto.ai.EmotionPrediction;
+import com.p_project.p_project_backend.backend_user.service.ai.AiServerPool;
+import com.p_project.p_project_backend.backend_user.service.ai.EmotionBatcher;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmotionBatcherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // AI 서버가 받은 배치별 요청 건수
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+    private ThreadPoolTaskExecutor executor;
+    private EmotionBatcher batcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 요청 본문을 그대로 감정으로 돌려주는 배치 엔드포인트 스텁
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/api/ai/emotion/batch", exchange -> {
+            JsonNode contents = objectMapper.readTree(exchange.getRequestBody()).get("contents");
+            batchSizes.add(contents.size());
+            List<Map<String, Object>> results = new ArrayList<>();
+            contents.forEach(content -> results.add(Map.of("emotion", content.asText(), "confidence", 90)));
+            byte[] body = objectMapper.writeValueAsBytes(Map.of("results", results));
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.destroy();
+        }
+        executor.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void submit_ShouldSendRequestsWithinWaitWindowAsOneBatch_AndReturnResultsInOrder() throws Exception {
+        // Given
+        batcher = createBatcher(16, 500);
+
+        // When
+        List<CompletableFuture<EmotionPrediction>> futures = List.of(
+                batcher.submit("행복"), batcher.submit("슬픔"), batcher.submit("분노"));
+
+        // Then
+        assertEquals("행복", futures.get(0).get(5, TimeUnit.SECONDS).getEmotion());
+        assertEquals("슬픔", futures.get(1).get(5, TimeUnit.SECONDS).getEmotion());
+        assertEquals("분노", futures.get(2).get(5, TimeUnit.SECONDS).getEmotion());
+        assertEquals(List.of(3), batchSizes);
+    }
+
+    @Test
+    void submit_ShouldSplitBatch_WhenMaxSizeIsReached() throws Exception {
+        // Given
+        batcher = createBatcher(2, 500);
+
+        // When
+        List<CompletableFuture<EmotionPrediction>> futures = List.of(
+                batcher.submit("행복"), batcher.submit("슬픔"), batcher.submit("분노"));
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(List.of(1, 2), batchSizes.stream().sorted().toList());
+        assertEquals("분노", futures.get(2).get().getEmotion());
+    }
+
+    // --- Helper Methods ---
+
+    private EmotionBatcher createBatcher(int maxBatchSize, long maxWaitMillis) {
+        AiServerPool pool = new AiServerPool(ExchangeStrategies.withDefaults(), new SimpleMeterRegistry(),
+                List.of("http://127.0.0.1:" + server.getAddress().getPort()), 3, 60_000, 1_000);
+        return new EmotionBatcher(pool, executor, new SimpleMeterRegistry(), maxBatchSize, maxWaitMillis, 100, 2,
+                5_000);
+    }
+}
@@ -0,0 +1,110 @@
+package com.p_project.p_project_backend;
+
+import com.p_project.p_project_backend.backend_user.dto.ai.EmotionPrediction;
+import com.p_project.p_project_backend.backend_user.repository.EmotionReanalysisRunRepository;
+import com.p_project.p_project_backend.backend_user.service.AiService;
+import com.p_project.p_project_backend.backend_user.service.DiaryCalendarCache;
+import com.p_project.p_project_backend.backend_user.service.EmotionReanalysisService;
+import com.p_project.p_project_backend.backend_user.service.ai.AiDegradationController;
+import com.p_project.p_project_backend.entity.Diary.AnalysisTier;
+import com.p_project.p_project_backend.entity.EmotionReanalysisRun;
+import com.p_project.p_project_backend.entity.EmotionReanalysisRun.Status;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class EmotionReanalysisServiceTest {
+
+    private static final LocalDate DATE_1 = LocalDate.of(2024, 5, 1);
+    private static final LocalDate DATE_2 = LocalDate.of(2024, 6, 1);
+
+    private final EmotionReanalysisRunRepository runRepository = mock(EmotionReanalysisRunRepository.class);
+    private final AiService aiService = mock(AiService.class);
+    private final AiDegradationController degradationController = mock(AiDegradationController.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final DiaryCalendarCache diaryCalendarCache = mock(DiaryCalendarCache.class);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void processChunk_ShouldCountAndEvictOnlyUpdatedRows_WhenDiaryWasEditedMeanwhile() throws Exception {
+        // Given - 두 일기 모두 감정이 바뀌지만, 두 번째 일기는 읽은 뒤 사용자가 수정하여 UPDATE 가 건너뜀
+        EmotionReanalysisRun run = EmotionReanalysisRun.builder()
+                .id(1L)
+                .modelVersion("v2")
+                .status(Status.RUNNING)
+                .startedAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        when(aiService.getEmotionModelVersion()).thenReturn("v2");
+        when(runRepository.findByModelVersion("v2")).thenReturn(Optional.of(run));
+        when(degradationController.currentTier()).thenReturn(AnalysisTier.FULL);
+        givenDiaries(row(1L, DATE_1, "중립"), row(2L, DATE_2, "중립"));
+        when(aiService.classifyEmotions(anyList())).thenReturn(List.of(
+                EmotionPrediction.builder().emotion("행복").confidence(90).build(),
+                EmotionPrediction.builder().emotion("슬픔").confidence(90).build()));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] { 1, 0 });
+        when(runRepository.advanceCheckpoint(anyLong(), any(), anyLong(), anyLong(), anyLong(), anyLong(), any()))
+                .thenReturn(1);
+
+        EmotionReanalysisService service = new EmotionReanalysisService(runRepository, aiService,
+                degradationController, jdbcTemplate, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                diaryCalendarCache, 50, 1_000_000);
+        Thread.sleep(10); // 토큰 버킷 충전
+
+        // When
+        service.processChunk();
+
+        // Then
+        verify(runRepository).advanceCheckpoint(eq(1L), eq(Status.RUNNING), eq(0L), eq(2L), eq(1L), eq(1L), any());
+        verify(diaryCalendarCache).evict(1L, DATE_1);
+        verify(diaryCalendarCache, never()).evict(1L, DATE_2);
+        // 분석 완료 일기만 대상, 반영 시 낙관적 잠금 버전 증가
+        verify(jdbcTemplate).query(contains("analysis_status = 'COMPLETED'"), any(RowMapper.class), any(), any(),
+                any());
+        verify(jdbcTemplate).batchUpdate(contains("version = version + 1"), anyList());
+    }
+
+    // --- Helper Methods ---
+
+    @SuppressWarnings("unchecked")
+    private void givenDiaries(Object[]... rows) {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any())).thenAnswer(invocation -> {
+            RowMapper<Object> mapper = invocation.getArgument(1);
+            List<Object> targets = new ArrayList<>();
+            for (int i = 0; i < rows.length; i++) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getLong("id")).thenReturn((Long) rows[i][0]);
+                when(rs.getLong("user_id")).thenReturn(1L);
+                when(rs.getDate("date")).thenReturn(Date.valueOf((LocalDate) rows[i][1]));
+                when(rs.getString("content")).thenReturn("content");
+                when(rs.getString("emotion")).thenReturn((String) rows[i][2]);
+                when(rs.getTimestamp("updated_at")).thenReturn(Timestamp.valueOf(LocalDateTime.of(2024, 7, 1, 0, 0)));
+                targets.add(mapper.mapRow(rs, i));
+            }
+            return targets;
+        });
+    }
+
+    private Object[] row(Long id, LocalDate date, String emotion) {
+        return new Object[] { id, date, emotion };
+    }
+}
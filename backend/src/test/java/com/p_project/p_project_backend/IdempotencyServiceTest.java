@@ -0,0 +1,142 @@
+package com.p_project.p_project_backend;
+
+import com.p_project.p_project_backend.backend_user.dto.diary.DiaryCreateRequest;
+import com.p_project.p_project_backend.backend_user.dto.diary.DiaryResponse;
+import com.p_project.p_project_backend.backend_user.repository.IdempotencyRecordRepository;
+import com.p_project.p_project_backend.backend_user.service.DiaryService;
+import com.p_project.p_project_backend.backend_user.service.IdempotencyService;
+import com.p_project.p_project_backend.config.JacksonConfig;
+import com.p_project.p_project_backend.entity.IdempotencyRecord;
+import com.p_project.p_project_backend.entity.User;
+import com.p_project.p_project_backend.exception.IdempotencyConflictException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class IdempotencyServiceTest {
+
+    private final IdempotencyRecordRepository repository = mock(IdempotencyRecordRepository.class);
+    private final DiaryService diaryService = mock(DiaryService.class);
+    // 저장소에 기록된 멱등 기록 (사용자/키 하나만 사용)
+    private final AtomicReference<IdempotencyRecord> stored = new AtomicReference<>();
+
+    private IdempotencyService idempotencyService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findByUserIdAndIdempotencyKey(anyLong(), anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(stored.get()));
+        when(repository.saveAndFlush(any(IdempotencyRecord.class))).thenAnswer(invocation -> {
+            IdempotencyRecord record = invocation.getArgument(0);
+            record.setId(1L);
+            stored.set(record);
+            return record;
+        });
+        when(repository.findById(1L)).thenAnswer(invocation -> Optional.ofNullable(stored.get()));
+
+        idempotencyService = new IdempotencyService(repository, new JacksonConfig().objectMapper(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), 24, 300000, 1000, 10, 500);
+        user = User.builder().id(1L).email("test@example.com").name("test").passwordHash("hash").build();
+    }
+
+    @Test
+    void execute_ShouldReturnStoredResponse_WhenKeyIsRepeated() {
+        // Given
+        DiaryCreateRequest request = new DiaryCreateRequest();
+        request.setDate(LocalDate.of(2024, 5, 1));
+        request.setTitle("title");
+        request.setContent("content");
+        when(diaryService.createDiary(user, request)).thenReturn(DiaryResponse.builder()
+                .id(10L)
+                .date(request.getDate())
+                .title("title")
+                .createdAt(LocalDateTime.of(2024, 5, 1, 21, 30))
+                .build());
+
+        // When
+        DiaryResponse first = idempotencyService.execute(user, "key-1", "POST /api/diaries", request,
+                DiaryResponse.class, () -> diaryService.createDiary(user, request));
+        DiaryResponse retried = idempotencyService.execute(user, "key-1", "POST /api/diaries", request,
+                DiaryResponse.class, () -> diaryService.createDiary(user, request));
+
+        // Then
+        verify(diaryService, times(1)).createDiary(user, request);
+        assertEquals(IdempotencyRecord.Status.COMPLETED, stored.get().getStatus());
+        assertNotSame(first, retried);
+        assertEquals(10L, retried.getId());
+        assertEquals(LocalDate.of(2024, 5, 1), retried.getDate());
+        assertEquals(LocalDateTime.of(2024, 5, 1, 21, 30), retried.getCreatedAt());
+    }
+
+    @Test
+    void execute_ShouldRejectRequest_WhenKeyIsReusedForDifferentBody() {
+        // Given
+        DiaryCreateRequest request = new DiaryCreateRequest();
+        request.setDate(LocalDate.of(2024, 5, 1));
+        request.setTitle("title");
+        request.setContent("content");
+        when(diaryService.createDiary(any(), any())).thenReturn(DiaryResponse.builder().id(10L).build());
+        idempotencyService.execute(user, "key-1", "POST /api/diaries", request,
+                DiaryResponse.class, () -> diaryService.createDiary(user, request));
+
+        DiaryCreateRequest changed = new DiaryCreateRequest();
+        changed.setDate(LocalDate.of(2024, 5, 2));
+        changed.setTitle("title");
+        changed.setContent("content");
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> idempotencyService.execute(user, "key-1",
+                "POST /api/diaries", changed, DiaryResponse.class, () -> diaryService.createDiary(user, changed)));
+        verify(diaryService, times(1)).createDiary(any(), any());
+    }
+
+    @Test
+    void execute_ShouldWaitAndGiveUp_WhenConcurrentClaimKeepsWinning() {
+        // Given - 다른 요청이 같은 키를 먼저 기록했지만 아직 읽히지 않는 상태 (유니크 키 충돌 반복)
+        doThrow(new DataIntegrityViolationException("Duplicate entry", new ConstraintViolationException(
+                "Duplicate entry", new SQLException(), "idx_idempotency_records_user_key")))
+                .when(repository).saveAndFlush(any(IdempotencyRecord.class));
+        DiaryCreateRequest request = new DiaryCreateRequest();
+        long startedAt = System.nanoTime();
+
+        // When & Then - 폴링 간격(10ms)으로 대기하다가 대기 시간(1000ms)이 지나면 409
+        assertThrows(IdempotencyConflictException.class, () -> idempotencyService.execute(user, "key-1",
+                "POST /api/diaries", request, DiaryResponse.class, () -> diaryService.createDiary(user, request)));
+        assertTrue(System.nanoTime() - startedAt >= TimeUnit.MILLISECONDS.toNanos(1000));
+        verify(repository, atMost(110)).saveAndFlush(any(IdempotencyRecord.class));
+        verify(diaryService, never()).createDiary(any(), any());
+    }
+
+    @Test
+    void execute_ShouldRethrow_WhenIntegrityViolationIsNotKeyConflict() {
+        // Given
+        DataIntegrityViolationException tooLong = new DataIntegrityViolationException("Data too long",
+                new ConstraintViolationException("Data too long", new SQLException(), null));
+        doThrow(tooLong).when(repository).saveAndFlush(any(IdempotencyRecord.class));
+        DiaryCreateRequest request = new DiaryCreateRequest();
+
+        // When & Then
+        assertSame(tooLong, assertThrows(DataIntegrityViolationException.class, () -> idempotencyService.execute(
+                user, "key-1", "POST /api/diaries", request, DiaryResponse.class,
+                () -> diaryService.createDiary(user, request))));
+        verify(repository, times(1)).saveAndFlush(any(IdempotencyRecord.class));
+        verify(diaryService, never()).createDiary(any(), any());
+    }
+}
@@ -0,0 +1,112 @@
+package com.p_project.p_project_backend;
+
+import com.p_project.p_project_backend.backend_user.dto.risk.RiskAnalysisResponse;
+import com.p_project.p_project_backend.backend_user.repository.DiaryRepository;
+import com.p_project.p_project_backend.backend_user.service.RiskDetectionService;
+import com.p_project.p_project_backend.entity.Diary;
+import com.p_project.p_project_backend.entity.Diary.AnalysisStatus;
+import com.p_project.p_project_backend.entity.Diary.Emotion;
+import com.p_project.p_project_backend.entity.User;
+import com.p_project.p_project_backend.repository.CounselingResourceRepository;
+import com.p_project.p_project_backend.repository.RiskDetectionSessionRepository;
+import com.p_project.p_project_backend.repository.RiskDetectionSettingsRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:risk-detection;MODE=MariaDB;DATABASE_TO_LOWER=TRUE"
+})
+class RiskDetectionServiceTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    private RiskDetectionService riskDetectionService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        RiskDetectionSettingsRepository settingsRepository = mock(RiskDetectionSettingsRepository.class);
+        when(settingsRepository.findAll()).thenReturn(List.of());
+        riskDetectionService = new RiskDetectionService(diaryRepository, settingsRepository,
+                mock(RiskDetectionSessionRepository.class), mock(CounselingResourceRepository.class));
+
+        LocalDateTime now = LocalDateTime.now();
+        user = User.builder()
+                .email("risk@example.com")
+                .name("risk")
+                .passwordHash("hash")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        entityManager.persist(user);
+    }
+
+    @Test
+    void analyze_ShouldKeepConsecutiveStreak_WhenLatestDiaryIsPendingAnalysis() {
+        // Given - 최근 3일 연속 부정 감정, 오늘 일기는 분석 대기 중(임시 감정 중립)
+        LocalDate today = LocalDate.now();
+        persistDiary(today.minusDays(3), Emotion.슬픔, AnalysisStatus.COMPLETED);
+        persistDiary(today.minusDays(2), Emotion.분노, AnalysisStatus.COMPLETED);
+        persistDiary(today.minusDays(1), Emotion.슬픔, AnalysisStatus.COMPLETED);
+        persistDiary(today, Emotion.중립, AnalysisStatus.PENDING);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        RiskAnalysisResponse response = riskDetectionService.analyze(user);
+
+        // Then - 임시 감정이 연속 집계를 끊지 않음 (2 + 2 + 2 = 6, 기본 중간 위험 기준 5)
+        assertEquals(6, response.getAnalysis().getConsecutiveScore());
+        assertEquals("medium", response.getRiskLevel());
+        assertEquals(today.minusDays(1), response.getAnalysis().getLastNegativeDate());
+    }
+
+    @Test
+    void analyze_ShouldIgnoreFailedDiary_InConsecutiveStreak() {
+        // Given - 분석 실패 일기도 임시 감정이 남아 있으므로 제외
+        LocalDate today = LocalDate.now();
+        persistDiary(today.minusDays(2), Emotion.슬픔, AnalysisStatus.COMPLETED);
+        persistDiary(today.minusDays(1), Emotion.중립, AnalysisStatus.FAILED);
+        persistDiary(today, Emotion.불안, null);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        RiskAnalysisResponse response = riskDetectionService.analyze(user);
+
+        // Then - 상태 없는 기존 일기는 분석 완료로 취급 (1 + 2 = 3)
+        assertEquals(3, response.getAnalysis().getConsecutiveScore());
+        assertEquals("low", response.getRiskLevel());
+    }
+
+    // --- Helper Methods ---
+
+    private void persistDiary(LocalDate date, Emotion emotion, AnalysisStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.persist(Diary.builder()
+                .user(user)
+                .date(date)
+                .title("title")
+                .content("content")
+                .emotion(emotion)
+                .analysisStatus(status)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+    }
+}
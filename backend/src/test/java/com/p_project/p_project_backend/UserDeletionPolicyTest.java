@@ -2,15 +2,19 @@ package com.p_project.p_project_backend;
 
 import com.p_project.p_project_backend.backend_user.dto.auth.SignUpRequest;
 import com.p_project.p_project_backend.backend_user.service.AuthService;
+import com.p_project.p_project_backend.backend_user.service.code.VerificationCodeStore;
 import com.p_project.p_project_backend.entity.User;
 import com.p_project.p_project_backend.repository.*;
 import com.p_project.p_project_backend.security.CustomUserDetailsService;
 import com.p_project.p_project_backend.security.JwtTokenProvider;
+import com.p_project.p_project_backend.security.UserPrincipalCache;
 import com.p_project.p_project_backend.service.EmailService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -33,15 +37,15 @@ class UserDeletionPolicyTest {
     @Mock
     private RefreshTokenRepository refreshTokenRepository;
     @Mock
-    private EmailVerificationCodeRepository emailVerificationCodeRepository;
-    @Mock
-    private PasswordResetCodeRepository passwordResetCodeRepository;
+    private VerificationCodeStore verificationCodeStore;
     @Mock
     private PasswordEncoder passwordEncoder;
     @Mock
     private EmailService emailService;
     @Mock
     private JwtTokenProvider tokenProvider;
+    @Spy
+    private UserPrincipalCache userPrincipalCache = new UserPrincipalCache(new SimpleMeterRegistry(), 60000, 100);
 
     @InjectMocks
     private AuthService authService;
@@ -124,8 +128,7 @@ class UserDeletionPolicyTest {
         authService.register(request);
 
         // Then
-        verify(emailVerificationCodeRepository).deleteByEmail(email); // Verify email codes deleted
-        verify(passwordResetCodeRepository).deleteByEmail(email); // Verify reset codes deleted
+        verify(verificationCodeStore).removeAll(email); // Verify email and reset codes deleted
         verify(userRepository).delete(deletedUser); // Verify hard delete called
         verify(userRepository).save(any(User.class)); // Verify new user saved
     }
@@ -0,0 +1,96 @@
+package com.p_project.p_project_backend;
+
+import com.p_project.p_project_backend.backend_user.service.code.DatabaseVerificationCodeStore;
+import com.p_project.p_project_backend.backend_user.service.code.InMemoryVerificationCodeStore;
+import com.p_project.p_project_backend.backend_user.service.code.VerificationCodeStore;
+import com.p_project.p_project_backend.backend_user.service.code.VerificationCodeStore.Purpose;
+import com.p_project.p_project_backend.backend_user.service.code.VerificationCodeStore.Result;
+import com.p_project.p_project_backend.entity.EmailVerificationCode;
+import com.p_project.p_project_backend.repository.EmailVerificationCodeRepository;
+import com.p_project.p_project_backend.repository.PasswordResetCodeRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class VerificationCodeStoreTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String EMAIL = "test@example.com";
+
+    @Test
+    void inMemoryVerify_ShouldLockCode_AfterMaxAttempts() {
+        assertLocksAfterMaxAttempts(new InMemoryVerificationCodeStore(300_000, 1_800_000, MAX_ATTEMPTS, 1000));
+    }
+
+    @Test
+    void databaseVerify_ShouldLockCode_AfterMaxAttempts() {
+        // Given - 저장한 최신 코드 하나를 보관하는 레포지토리
+        EmailVerificationCodeRepository repository = mock(EmailVerificationCodeRepository.class);
+        AtomicReference<EmailVerificationCode> stored = new AtomicReference<>();
+        when(repository.save(any(EmailVerificationCode.class))).thenAnswer(invocation -> {
+            stored.set(invocation.getArgument(0));
+            return stored.get();
+        });
+        when(repository.findTopByEmailOrderByCreatedAtDesc(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(stored.get()));
+
+        assertLocksAfterMaxAttempts(new DatabaseVerificationCodeStore(repository,
+                mock(PasswordResetCodeRepository.class), 300_000, 1_800_000, MAX_ATTEMPTS, 1000));
+    }
+
+    @Test
+    void inMemoryVerify_ShouldReportExpired_WhenTtlHasPassed() throws Exception {
+        // Given
+        VerificationCodeStore store = new InMemoryVerificationCodeStore(200, 1_800_000, MAX_ATTEMPTS, 1000);
+        store.save(Purpose.EMAIL_VERIFICATION, EMAIL, "123456");
+
+        // When
+        Thread.sleep(250);
+
+        // Then - 만료 안내를 위해 유효 시간만큼 더 보관
+        assertEquals(Result.EXPIRED, store.verify(Purpose.EMAIL_VERIFICATION, EMAIL, "123456", null));
+        assertFalse(store.isEmailVerified(EMAIL));
+    }
+
+    @Test
+    void inMemoryConsumeResetTicket_ShouldSucceedOnlyOnce_WithVerifiedTicket() {
+        // Given
+        VerificationCodeStore store = new InMemoryVerificationCodeStore(300_000, 1_800_000, MAX_ATTEMPTS, 1000);
+        store.save(Purpose.PASSWORD_RESET, "Test@Example.com", "654321");
+
+        // When
+        Result result = store.verify(Purpose.PASSWORD_RESET, EMAIL, "654321", "ticket");
+
+        // Then - 이메일 대소문자 구분 없음, ticket 은 일치할 때 한 번만 사용 가능
+        assertEquals(Result.VERIFIED, result);
+        assertFalse(store.consumeResetTicket(EMAIL, "other"));
+        assertTrue(store.consumeResetTicket(EMAIL, "ticket"));
+        assertFalse(store.consumeResetTicket(EMAIL, "ticket"));
+    }
+
+    // --- Helper Methods ---
+
+    private void assertLocksAfterMaxAttempts(VerificationCodeStore store) {
+        // Given
+        store.save(Purpose.EMAIL_VERIFICATION, EMAIL, "123456");
+
+        // When - 틀린 코드를 최대 횟수만큼 입력
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            assertEquals(Result.MISMATCH, store.verify(Purpose.EMAIL_VERIFICATION, EMAIL, "000000", null));
+        }
+
+        // Then - 이후에는 맞는 코드도 거부하고, 재발송하면 다시 확인 가능
+        assertEquals(Result.TOO_MANY_ATTEMPTS, store.verify(Purpose.EMAIL_VERIFICATION, EMAIL, "123456", null));
+        assertFalse(store.isEmailVerified(EMAIL));
+
+        store.save(Purpose.EMAIL_VERIFICATION, EMAIL, "654321");
+        assertEquals(Result.VERIFIED, store.verify(Purpose.EMAIL_VERIFICATION, EMAIL, "654321", null));
+        assertTrue(store.isEmailVerified(EMAIL));
+    }
+}
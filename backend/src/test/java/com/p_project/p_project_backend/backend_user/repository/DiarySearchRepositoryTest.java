@@ -0,0 +1,177 @@
+package com.p_project.p_project_backend.backend_user.repository;
+
+import com.p_project.p_project_backend.entity.Diary.Emotion;
+import com.p_project.p_project_backend.entity.Diary.Weather;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 일기 검색 검색식 생성 및 LIKE 검색 확인
+ * MATCH ... AGAINST 는 H2 에서 실행할 수 없으므로 FULLTEXT 후보 필터는 검색식과 SQL 만 검사
+ */
+class DiarySearchRepositoryTest {
+
+    private EmbeddedDatabase database;
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = spy(new NamedParameterJdbcTemplate(database));
+        jdbcTemplate.getJdbcTemplate().execute("""
+                CREATE TABLE diaries (
+                    id BIGINT PRIMARY KEY,
+                    user_id BIGINT NOT NULL,
+                    date DATE NOT NULL,
+                    title VARCHAR(255) NOT NULL,
+                    content VARCHAR(1000) NOT NULL,
+                    emotion VARCHAR(20) NOT NULL,
+                    weather VARCHAR(20),
+                    analysis_status VARCHAR(20),
+                    deleted_at TIMESTAMP
+                )
+                """);
+        insert(1, 1, "2024-05-01", "학교", "오늘 학교에서 친구를 만났다", "행복", null);
+        insert(2, 1, "2024-05-02", "산책", "남자친구와 공원을 걸었다", "중립", "맑음");
+        insert(3, 1, "2024-05-03", "비", "하루 종일 집에 있었다", "슬픔", "비");
+        insert(4, 2, "2024-05-01", "친구", "다른 사용자의 친구 이야기", "행복", null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void toBooleanQuery_ShouldSkipFulltext_WithDefaultParser() {
+        // 기본 파서는 단어 중간 일치를 찾지 못하므로 LIKE 로만 검색
+        DiarySearchRepository repository = new DiarySearchRepository(jdbcTemplate, false, 2);
+
+        assertNull(repository.toBooleanQuery("학교 친구"));
+    }
+
+    @Test
+    void toBooleanQuery_ShouldUsePhrases_WithNgramParser() {
+        DiarySearchRepository repository = new DiarySearchRepository(jdbcTemplate, true, 2);
+
+        assertEquals("+\"학교\" +\"친구\"", repository.toBooleanQuery("학교  친구"));
+    }
+
+    @Test
+    void toBooleanQuery_ShouldSkipFulltext_WhenTermHasSpecialCharacters() {
+        DiarySearchRepository repository = new DiarySearchRepository(jdbcTemplate, true, 2);
+
+        assertNull(repository.toBooleanQuery("학교 (친구)"));
+        assertNull(repository.toBooleanQuery("100%"));
+    }
+
+    @Test
+    void toBooleanQuery_ShouldSkipFulltext_WhenAnyTermIsShorterThanMinTokenLength() {
+        DiarySearchRepository repository = new DiarySearchRepository(jdbcTemplate, true, 3);
+
+        assertNull(repository.toBooleanQuery("학교 친구"));
+        assertEquals("+\"학교에서\"", repository.toBooleanQuery("학교에서"));
+    }
+
+    @Test
+    void search_ShouldMatchInsideWord_WithDefaultParser() {
+        // Given - 검색어 길이가 최소 토큰 길이 이상이어도 기본 파서면 LIKE 로 검색
+        DiarySearchRepository repository = new DiarySearchRepository(jdbcTemplate, false, 2);
+        insert(5, 3, "2024-05-04", "일기", "오늘은 너무행복했다", "행복", null);
+
+        // When
+        Page<DiarySearchView> page = repository.search(3L, "행복", null, null, null, PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(List.of(5L), page.getContent().stream().map(DiarySearchView::id).toList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void search_ShouldKeepLikeMatch_WhenNgramFulltextFiltersCandidates() {
+        // Given - MATCH 는 H2 에서 실행할 수 없으므로 실행 SQL 만 확인
+        DiarySearchRepository repository = new DiarySearchRepository(jdbcTemplate, true, 2);
+        doReturn(List.of()).when(jdbcTemplate).query(anyString(), any(SqlParameterSource.class),
+                any(RowMapper.class));
+
+        // When
+        repository.search(1L, "행복", null, null, null, PageRequest.of(0, 10));
+
+        // Then - 후보 필터 MATCH 와 최종 일치 LIKE 모두 적용, 관련도순
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).query(sql.capture(), any(SqlParameterSource.class), any(RowMapper.class));
+        assertTrue(sql.getValue().contains("AGAINST (:query IN BOOLEAN MODE)"), sql.getValue());
+        assertTrue(sql.getValue().contains("content LIKE CONCAT('%', :keyword, '%')"), sql.getValue());
+        assertTrue(sql.getValue().contains("ORDER BY score DESC, date DESC"), sql.getValue());
+    }
+
+    @Test
+    void search_ShouldMatchInsideWords_WhenKeywordFallsBackToLike() {
+        // Given - 2글자 검색어는 최소 토큰 길이(3)보다 짧아 ngram 파서여도 LIKE 로만 검색
+        DiarySearchRepository repository = new DiarySearchRepository(jdbcTemplate, true, 3);
+
+        // When
+        Page<DiarySearchView> page = repository.search(1L, "친구", null, null, null, PageRequest.of(0, 10));
+
+        // Then - 단어 중간 일치("남자친구")를 포함하고 최신순, 다른 사용자의 일기는 제외
+        assertEquals(List.of(2L, 1L), page.getContent().stream().map(DiarySearchView::id).toList());
+        assertEquals(2, page.getTotalElements());
+        // 첫 페이지가 다 차지 않았으므로 COUNT 생략
+        verify(jdbcTemplate, never()).queryForObject(anyString(), any(SqlParameterSource.class), eq(Long.class));
+    }
+
+    @Test
+    void search_ShouldCountTotal_WhenPageIsFull() {
+        DiarySearchRepository repository = new DiarySearchRepository(jdbcTemplate, false, 3);
+
+        Page<DiarySearchView> page = repository.search(1L, "친구", null, null, null, PageRequest.of(0, 1));
+
+        assertEquals(List.of(2L), page.getContent().stream().map(DiarySearchView::id).toList());
+        assertEquals(2, page.getTotalElements());
+        assertEquals(2, page.getTotalPages());
+    }
+
+    @Test
+    void search_ShouldApplyDateAndEmotionFilters_WithoutKeyword() {
+        DiarySearchRepository repository = new DiarySearchRepository(jdbcTemplate, false, 3);
+
+        Page<DiarySearchView> page = repository.search(1L, null, LocalDate.of(2024, 5, 2), null,
+                List.of(Emotion.슬픔), PageRequest.of(0, 10));
+
+        assertEquals(List.of(3L), page.getContent().stream().map(DiarySearchView::id).toList());
+        assertEquals(Weather.비, page.getContent().get(0).weather());
+    }
+
+    // --- Helper Methods ---
+
+    private void insert(long id, long userId, String date, String title, String content, String emotion,
+            String weather) {
+        jdbcTemplate.getJdbcTemplate().update(
+                "INSERT INTO diaries (id, user_id, date, title, content, emotion, weather) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                id, userId, Date.valueOf(date), title, content, emotion, weather);
+    }
+}